@@ -0,0 +1,190 @@
+package com.ticketing.benchmarks;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.dto.request.CustomerRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.journal.TransactionJournal;
+import com.ticketing.pricing.config.PriceTableProperties;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.model.AgeBand;
+import com.ticketing.pricing.model.DiscountCondition;
+import com.ticketing.pricing.model.DiscountRule;
+import com.ticketing.pricing.model.PricingRule;
+import com.ticketing.pricing.service.DiscountRuleEngineImpl;
+import com.ticketing.pricing.service.PricingMetrics;
+import com.ticketing.pricing.service.PricingServiceImpl;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import com.ticketing.service.SalesCounters;
+import com.ticketing.service.TicketProcessingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic inputs shared by the benchmark suites.
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 42L;
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+    private static final int MAX_AGE = 100;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Builds a pricing configuration with the production base prices and {@code ruleCount} discount rules.
+     * <p>
+     * The first three rules mirror {@code pricing-rules.yml} (with the group discount enabled). Additional
+     * rules are synthetic promotions with thresholds spread far above typical group sizes, so that, as in
+     * production, only a handful of them apply to any given quote.
+     */
+    public static PricingConfiguration pricingConfiguration(int ruleCount) {
+        PricingConfiguration configuration = new PricingConfiguration();
+        configuration.setRules(new ArrayList<>(List.of(
+                pricingRule(TicketType.ADULT, "25.00"),
+                pricingRule(TicketType.CHILD, "5.00"),
+                pricingRule(TicketType.TEEN, "12.00"),
+                pricingRule(TicketType.SENIOR, "25.00")
+        )));
+
+        List<DiscountRule> discounts = new ArrayList<>(ruleCount);
+        discounts.add(discountRule("Child Discount (3+ tickets)", TicketType.CHILD, "25", 3, DiscountCondition.MIN_QUANTITY, true));
+        discounts.add(discountRule("Senior Additional Discount", TicketType.SENIOR, "30", 0, DiscountCondition.TICKET_TYPE, true));
+        discounts.add(discountRule("Group Discount (4+ tickets)", null, "15", 4, DiscountCondition.GROUP_DISCOUNT, true));
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = discounts.size(); i < ruleCount; i++) {
+            boolean group = random.nextInt(4) == 0;
+            discounts.add(discountRule(
+                    "Promotion " + i,
+                    group ? null : TICKET_TYPES[random.nextInt(TICKET_TYPES.length)],
+                    String.valueOf(1 + random.nextInt(20)),
+                    1_000 + random.nextInt(1_000_000),
+                    group ? DiscountCondition.GROUP_DISCOUNT : DiscountCondition.MIN_QUANTITY,
+                    random.nextInt(10) != 0));
+        }
+        configuration.setDiscounts(discounts);
+        return configuration;
+    }
+
+    /**
+     * Builds the registry the service publishes in production, so that meter overhead is part of every score.
+     */
+    public static MeterRegistry meterRegistry() {
+        return new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    }
+
+    /**
+     * Builds the uncached pricing service for {@code configuration}, recording into {@code meterRegistry}.
+     */
+    public static PricingServiceImpl pricingService(PricingConfiguration configuration, MeterRegistry meterRegistry) {
+        return pricingService(new PricingSnapshotHolder(configuration), meterRegistry);
+    }
+
+    /**
+     * Builds the uncached pricing service with a precomputed price table for up to {@code maxCustomers} tickets.
+     */
+    public static PricingServiceImpl pricingService(PricingConfiguration configuration, MeterRegistry meterRegistry,
+                                                    int maxCustomers) {
+        PriceTableProperties priceTableProperties = new PriceTableProperties();
+        priceTableProperties.setMaxCustomers(maxCustomers);
+        return pricingService(new PricingSnapshotHolder(configuration, priceTableProperties), meterRegistry);
+    }
+
+    /**
+     * Builds a ticket processing service whose classification and pricing share one snapshot holder.
+     */
+    public static TicketProcessingService ticketProcessingService(PricingConfiguration configuration,
+                                                                  MeterRegistry meterRegistry) {
+        PricingSnapshotHolder pricingSnapshotHolder = new PricingSnapshotHolder(configuration);
+        return new TicketProcessingService(pricingService(pricingSnapshotHolder, meterRegistry),
+                pricingSnapshotHolder, TransactionJournal.DISABLED, new SalesCounters(), meterRegistry);
+    }
+
+    private static PricingServiceImpl pricingService(PricingSnapshotHolder pricingSnapshotHolder, MeterRegistry meterRegistry) {
+        PricingMetrics pricingMetrics = new PricingMetrics(meterRegistry, pricingSnapshotHolder);
+        return new PricingServiceImpl(pricingSnapshotHolder, new DiscountRuleEngineImpl(pricingSnapshotHolder, pricingMetrics),
+                pricingMetrics);
+    }
+
+    public static int[] ages(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] ages = new int[count];
+        for (int i = 0; i < count; i++) {
+            ages[i] = random.nextInt(MAX_AGE);
+        }
+        return ages;
+    }
+
+    /**
+     * Builds {@code bandCount} age bands that split the ages produced by {@link #ages(int)} evenly, the last
+     * one open-ended, cycling through the ticket types.
+     */
+    public static List<AgeBand> ageBands(int bandCount) {
+        int width = Math.max(1, MAX_AGE / bandCount);
+        List<AgeBand> bands = new ArrayList<>(bandCount);
+        for (int i = 0; i < bandCount - 1; i++) {
+            bands.add(AgeBand.builder()
+                    .ticketType(TICKET_TYPES[i % TICKET_TYPES.length])
+                    .maxAge((i + 1) * width - 1)
+                    .build());
+        }
+        bands.add(AgeBand.builder()
+                .ticketType(TICKET_TYPES[(bandCount - 1) % TICKET_TYPES.length])
+                .build());
+        return bands;
+    }
+
+    public static TicketTransactionRequest transactionRequest(int customerCount) {
+        int[] ages = ages(customerCount);
+        List<CustomerRequest> customers = new ArrayList<>(customerCount);
+        for (int i = 0; i < customerCount; i++) {
+            customers.add(CustomerRequest.builder()
+                    .name("Customer " + i)
+                    .age(ages[i])
+                    .build());
+        }
+        return TicketTransactionRequest.builder()
+                .transactionId(1L)
+                .customers(customers)
+                .build();
+    }
+
+    /**
+     * Ticket counts for a transaction of {@code customerCount} customers spread across all ticket types.
+     */
+    public static Map<TicketType, Integer> ticketCounts(int customerCount) {
+        Map<TicketType, Integer> counts = new EnumMap<>(TicketType.class);
+        for (int i = 0; i < customerCount; i++) {
+            counts.merge(TICKET_TYPES[i % TICKET_TYPES.length], 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static PricingRule pricingRule(TicketType ticketType, String basePrice) {
+        return PricingRule.builder()
+                .ticketType(ticketType)
+                .basePrice(new BigDecimal(basePrice))
+                .build();
+    }
+
+    private static DiscountRule discountRule(String name, TicketType ticketType, String percentage, int minQuantity,
+                                             DiscountCondition condition, boolean enabled) {
+        return DiscountRule.builder()
+                .name(name)
+                .applicableTicketType(ticketType)
+                .discountPercentage(new BigDecimal(percentage))
+                .minQuantity(minQuantity)
+                .condition(condition)
+                .enabled(enabled)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ticketing.benchmarks;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.service.DiscountRuleEngine;
+import com.ticketing.pricing.service.DiscountRuleEngineImpl;
+import com.ticketing.pricing.service.PricingMetrics;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscountRuleEngineBenchmark {
+
+    private static final BigDecimal BASE_PRICE = new BigDecimal("25.00");
+
+    @Param({"3", "100", "10000"})
+    private int ruleCount;
+
+    @Param({"4", "500", "50000"})
+    private int customerCount;
+
+    private DiscountRuleEngine discountRuleEngine;
+    private Map<TicketType, Integer> counts;
+
+    @Setup
+    public void setUp() {
+        PricingSnapshotHolder pricingSnapshotHolder = new PricingSnapshotHolder(BenchmarkFixtures.pricingConfiguration(ruleCount));
+        discountRuleEngine = new DiscountRuleEngineImpl(pricingSnapshotHolder,
+                new PricingMetrics(BenchmarkFixtures.meterRegistry(), pricingSnapshotHolder));
+        counts = BenchmarkFixtures.ticketCounts(customerCount);
+    }
+
+    @Benchmark
+    public void applyDiscounts(Blackhole blackhole) {
+        for (TicketType ticketType : counts.keySet()) {
+            blackhole.consume(discountRuleEngine.applyDiscounts(ticketType, BASE_PRICE, counts));
+        }
+    }
+}
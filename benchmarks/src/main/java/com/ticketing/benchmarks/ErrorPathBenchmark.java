@@ -0,0 +1,120 @@
+package com.ticketing.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ticketing.config.ErrorLogProperties;
+import com.ticketing.dto.request.CustomerRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.ErrorResponse;
+import com.ticketing.exception.InvalidTransactionException;
+import com.ticketing.exception.handler.ApplicationExceptionHandler;
+import com.ticketing.json.ErrorResponseWriter;
+import com.ticketing.json.TicketTransactionResponseWriter;
+import com.ticketing.service.TicketProcessingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares answering a transaction with a negative age against quoting a valid one, each thrown or
+ * returned through {@code stackDepth} frames to stand in for the servlet stack.
+ * <p>
+ * {@code rejectWithStackTrace} is the former error path: an exception capturing its stack and a map body
+ * serialized by Jackson. {@code reject} is the current one: a stackless domain exception, the handler's
+ * {@link ErrorResponse} and the pre-encoded {@link ErrorResponseWriter}. Handler logging is switched off
+ * in this module, so neither includes a log line.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+
+    @Param({"100"})
+    private int stackDepth;
+
+    private TicketProcessingService ticketProcessingService;
+    private ApplicationExceptionHandler exceptionHandler;
+    private TicketTransactionResponseWriter responseWriter;
+    private ErrorResponseWriter errorWriter;
+    private ObjectWriter jacksonWriter;
+    private TicketTransactionRequest validRequest;
+    private TicketTransactionRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        ticketProcessingService = BenchmarkFixtures.ticketProcessingService(BenchmarkFixtures.pricingConfiguration(3),
+                BenchmarkFixtures.meterRegistry());
+        exceptionHandler = new ApplicationExceptionHandler(new ErrorLogProperties());
+        responseWriter = new TicketTransactionResponseWriter();
+        errorWriter = new ErrorResponseWriter();
+        jacksonWriter = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        validRequest = BenchmarkFixtures.transactionRequest(4);
+        List<CustomerRequest> customers = new ArrayList<>(validRequest.getCustomers());
+        customers.add(CustomerRequest.builder().name("Nobody").age(-1).build());
+        invalidRequest = TicketTransactionRequest.builder().transactionId(2L).customers(customers).build();
+    }
+
+    @Benchmark
+    public int quote() throws IOException {
+        return responseWriter.write(atDepth(stackDepth, () -> ticketProcessingService.processTransaction(validRequest)),
+                OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public int reject() throws IOException {
+        try {
+            atDepth(stackDepth, () -> ticketProcessingService.processTransaction(invalidRequest));
+            throw new IllegalStateException("Fixture request was accepted");
+        } catch (InvalidTransactionException ex) {
+            return errorWriter.write(exceptionHandler.handleInvalidTransaction(ex).getBody(),
+                    OutputStream.nullOutputStream());
+        }
+    }
+
+    @Benchmark
+    public void rejectWithStackTrace() throws IOException {
+        try {
+            atDepth(stackDepth, () -> {
+                throw new IllegalArgumentException("Invalid age for customer: Nobody");
+            });
+            throw new IllegalStateException("Fixture request was accepted");
+        } catch (IllegalArgumentException ex) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("timestamp", LocalDateTime.now());
+            response.put("status", HttpStatus.BAD_REQUEST.value());
+            response.put("error", HttpStatus.BAD_REQUEST.getReasonPhrase());
+            response.put("message", ex.getMessage());
+            jacksonWriter.writeValue(OutputStream.nullOutputStream(), response);
+        }
+    }
+
+    private static <T> T atDepth(int depth, Supplier<T> action) {
+        return depth == 0 ? action.get() : atDepth(depth - 1, action);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ticketing.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.TicketServiceApplication;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.reactive.ReactiveTicketServiceApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Side-by-side load test of the transactions API on the servlet stack (Tomcat) and the reactive stack
+ * (WebFlux on Netty).
+ * <p>
+ * Each trial boots the chosen application on a random port and drives it over loopback from 64
+ * concurrent client threads sharing one HTTP/1.1 client, reporting throughput and the latency
+ * distribution. Idempotency and load shedding exist only on the servlet side, so both are switched off
+ * to compare the same work; per-request logging is silenced for the same reason. Client and server share
+ * the machine, so the numbers compare the stacks rather than predict production capacity.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpStackBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"servlet", "reactive"})
+    private String stack;
+
+    @Param({"4"})
+    private int customerCount;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest transactionRequest;
+    private HttpRequest batchRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        SpringApplicationBuilder application = switch (stack) {
+            case "servlet" -> new SpringApplicationBuilder(TicketServiceApplication.class)
+                    .web(WebApplicationType.SERVLET);
+            case "reactive" -> ReactiveTicketServiceApplication.application();
+            default -> throw new IllegalArgumentException("Unknown stack: " + stack);
+        };
+        // Arguments rather than default properties, so they override each application's own configuration
+        context = application.run(
+                "--server.port=0",
+                "--ticketing.idempotency.enabled=false",
+                "--ticketing.concurrency-limit.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.ticketing=WARN");
+        String baseUri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/api/v1/tickets/transactions";
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        TicketTransactionRequest request = BenchmarkFixtures.transactionRequest(customerCount);
+        transactionRequest = post(URI.create(baseUri), objectMapper.writeValueAsBytes(request));
+        batchRequest = post(URI.create(baseUri + "/batch"),
+                objectMapper.writeValueAsBytes(Collections.nCopies(BATCH_SIZE, request)));
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] transaction() throws IOException, InterruptedException {
+        return send(transactionRequest);
+    }
+
+    @Benchmark
+    public byte[] batch() throws IOException, InterruptedException {
+        return send(batchRequest);
+    }
+
+    private byte[] send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + " from " + stack);
+        }
+        return response.body();
+    }
+
+    private static HttpRequest post(URI uri, byte[] body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+}
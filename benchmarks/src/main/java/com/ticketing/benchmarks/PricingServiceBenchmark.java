@@ -0,0 +1,61 @@
+package com.ticketing.benchmarks;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import com.ticketing.pricing.service.PricingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PricingServiceBenchmark {
+
+    @Param({"3", "100", "10000"})
+    private int ruleCount;
+
+    @Param({"4", "500", "50000"})
+    private int customerCount;
+
+    @Param({"0", "20"})
+    private int priceTableMaxCustomers;
+
+    private PricingService pricingService;
+    private Map<TicketType, Integer> counts;
+
+    @Setup
+    public void setUp() {
+        PricingConfiguration configuration = BenchmarkFixtures.pricingConfiguration(ruleCount);
+        pricingService = BenchmarkFixtures.pricingService(configuration, BenchmarkFixtures.meterRegistry(), priceTableMaxCustomers);
+        counts = BenchmarkFixtures.ticketCounts(customerCount);
+    }
+
+    @Benchmark
+    public void calculateTicketPrice(Blackhole blackhole) {
+        for (TicketType ticketType : counts.keySet()) {
+            blackhole.consume(pricingService.calculateTicketPrice(ticketType, counts));
+        }
+    }
+
+    @Benchmark
+    public TransactionPriceResult calculateTransaction() {
+        return pricingService.calculateTransaction(counts);
+    }
+}
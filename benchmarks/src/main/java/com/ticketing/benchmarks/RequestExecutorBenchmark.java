@@ -0,0 +1,96 @@
+package com.ticketing.benchmarks;
+
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.service.TicketProcessingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares platform and virtual request threads under a burst of concurrent transactions.
+ * <p>
+ * Each invocation submits {@code concurrency} transactions at once, the way Tomcat hands accepted
+ * connections to its executor, and completes when the last of them does, so every sample is the latency
+ * of the slowest request in the burst and the reported percentiles bound the per-request p99 from above.
+ * The platform executor is sized like Tomcat's default pool. {@code blockingMillis} simulates blocking
+ * I/O, such as journaling or remote pricing, after each transaction is priced.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestExecutorBenchmark {
+
+    private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String executor;
+
+    @Param({"10000"})
+    private int concurrency;
+
+    @Param({"0", "5"})
+    private int blockingMillis;
+
+    private ExecutorService executorService;
+    private TicketProcessingService ticketProcessingService;
+    private TicketTransactionRequest request;
+
+    @Setup
+    public void setUp() {
+        executorService = switch (executor) {
+            case "platform" -> Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS);
+            case "virtual" -> Executors.newVirtualThreadPerTaskExecutor();
+            default -> throw new IllegalArgumentException("Unknown executor: " + executor);
+        };
+        PricingConfiguration configuration = BenchmarkFixtures.pricingConfiguration(3);
+        MeterRegistry meterRegistry = BenchmarkFixtures.meterRegistry();
+        ticketProcessingService = BenchmarkFixtures.ticketProcessingService(configuration, meterRegistry);
+        request = BenchmarkFixtures.transactionRequest(4);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.close();
+    }
+
+    @Benchmark
+    public void burst(Blackhole blackhole) throws InterruptedException, ExecutionException {
+        Future<?>[] responses = new Future<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            responses[i] = executorService.submit(this::handleRequest);
+        }
+        for (Future<?> response : responses) {
+            blackhole.consume(response.get());
+        }
+    }
+
+    private TicketTransactionResponse handleRequest() throws InterruptedException {
+        TicketTransactionResponse response = ticketProcessingService.processTransaction(request);
+        if (blockingMillis > 0) {
+            Thread.sleep(blockingMillis);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,87 @@
+package com.ticketing.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.dto.request.CustomerRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.ingest.StreamingTransactionParser;
+import com.ticketing.ingest.TalliedTransaction;
+import com.ticketing.pricing.service.AgeBandTable;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares turning a JSON transaction body into ticket counts by binding and validating
+ * {@link TicketTransactionRequest} and then classifying its customers, as the endpoint used to, with the
+ * {@link StreamingTransactionParser}. Allocation per request is constant for the streaming parser and
+ * grows with the customer list for binding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestParsingBenchmark {
+
+    @Param({"4", "100", "10000"})
+    private int customerCount;
+
+    private ObjectReader requestReader;
+    private JsonFactory jsonFactory;
+    private Validator validator;
+    private PricingSnapshot snapshot;
+    private AgeBandTable ageBands;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        requestReader = objectMapper.readerFor(TicketTransactionRequest.class);
+        jsonFactory = objectMapper.getFactory();
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        snapshot = new PricingSnapshotHolder(BenchmarkFixtures.pricingConfiguration(3)).current();
+        ageBands = snapshot.getAgeBandTable();
+        body = objectMapper.writeValueAsBytes(BenchmarkFixtures.transactionRequest(customerCount));
+    }
+
+    @Benchmark
+    public TicketCounts bindAndValidate() throws IOException {
+        TicketTransactionRequest request = requestReader.readValue(body);
+        if (!validator.validate(request).isEmpty()) {
+            throw new IllegalStateException("Fixture request is invalid");
+        }
+        TicketCounts ticketCounts = new TicketCounts();
+        for (CustomerRequest customer : request.getCustomers()) {
+            ticketCounts.increment(ageBands.classify(customer.getAge()));
+        }
+        return ticketCounts;
+    }
+
+    @Benchmark
+    public TalliedTransaction streaming() throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return StreamingTransactionParser.parse(parser, snapshot);
+        }
+    }
+}
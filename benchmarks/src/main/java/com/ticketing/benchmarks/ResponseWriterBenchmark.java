@@ -0,0 +1,56 @@
+package com.ticketing.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.json.TicketTransactionResponseWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing a four-segment transaction response to a servlet-like output stream with Jackson and
+ * with the pre-encoded {@link TicketTransactionResponseWriter}. The stream discards its input, so only
+ * encoding is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseWriterBenchmark {
+
+    private ObjectWriter jacksonWriter;
+    private TicketTransactionResponseWriter preEncodedWriter;
+    private TicketTransactionResponse response;
+
+    @Setup
+    public void setUp() {
+        jacksonWriter = Jackson2ObjectMapperBuilder.json().build().writerFor(TicketTransactionResponse.class);
+        preEncodedWriter = new TicketTransactionResponseWriter();
+        response = BenchmarkFixtures.ticketProcessingService(BenchmarkFixtures.pricingConfiguration(3),
+                BenchmarkFixtures.meterRegistry()).processTransaction(BenchmarkFixtures.transactionRequest(4));
+    }
+
+    @Benchmark
+    public void jackson() throws IOException {
+        jacksonWriter.writeValue(OutputStream.nullOutputStream(), response);
+    }
+
+    @Benchmark
+    public int preEncoded() throws IOException {
+        return preEncodedWriter.write(response, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,48 @@
+package com.ticketing.benchmarks;
+
+import com.ticketing.pricing.service.AgeBandTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketClassificationBenchmark {
+
+    @Param({"4", "100"})
+    private int bandCount;
+
+    @Param({"4", "500", "50000"})
+    private int customerCount;
+
+    private AgeBandTable ageBandTable;
+    private int[] ages;
+
+    @Setup
+    public void setUp() {
+        ageBandTable = AgeBandTable.compile(BenchmarkFixtures.ageBands(bandCount));
+        ages = BenchmarkFixtures.ages(customerCount);
+    }
+
+    @Benchmark
+    public void classify(Blackhole blackhole) {
+        for (int age : ages) {
+            blackhole.consume(ageBandTable.classify(age));
+        }
+    }
+}
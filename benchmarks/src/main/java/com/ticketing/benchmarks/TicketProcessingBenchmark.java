@@ -0,0 +1,51 @@
+package com.ticketing.benchmarks;
+
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.service.TicketProcessingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketProcessingBenchmark {
+
+    @Param({"3", "100", "10000"})
+    private int ruleCount;
+
+    @Param({"4", "500", "50000"})
+    private int customerCount;
+
+    private TicketProcessingService ticketProcessingService;
+    private TicketTransactionRequest request;
+
+    @Setup
+    public void setUp() {
+        PricingConfiguration configuration = BenchmarkFixtures.pricingConfiguration(ruleCount);
+        MeterRegistry meterRegistry = BenchmarkFixtures.meterRegistry();
+        ticketProcessingService = BenchmarkFixtures.ticketProcessingService(configuration, meterRegistry);
+        request = BenchmarkFixtures.transactionRequest(customerCount);
+    }
+
+    @Benchmark
+    public TicketTransactionResponse processTransaction() {
+        return ticketProcessingService.processTransaction(request);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ticketing.benchmarks;
+
+import com.ticketing.journal.FsyncPolicy;
+import com.ticketing.journal.MappedTransactionJournal;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import com.ticketing.pricing.service.PricingServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the latency the transaction journal adds to a request: one append of a priced transaction
+ * into a fresh journal in a temporary directory. {@code ALWAYS} includes the wait for the fsync.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionJournalBenchmark {
+
+    @Param({"NEVER", "INTERVAL", "ALWAYS"})
+    private FsyncPolicy fsyncPolicy;
+
+    private Path directory;
+    private MappedTransactionJournal journal;
+    private TransactionPriceResult transactionPrice;
+    private long transactionId;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("transaction-journal-benchmark");
+        journal = MappedTransactionJournal.open(directory, 64L * 1024 * 1024, fsyncPolicy, Duration.ofMillis(100));
+        PricingConfiguration configuration = BenchmarkFixtures.pricingConfiguration(3);
+        PricingServiceImpl pricingService = BenchmarkFixtures.pricingService(configuration, BenchmarkFixtures.meterRegistry());
+        transactionPrice = pricingService.calculateTransaction(BenchmarkFixtures.ticketCounts(4));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void append() {
+        journal.append(transactionId++, transactionPrice);
+    }
+}
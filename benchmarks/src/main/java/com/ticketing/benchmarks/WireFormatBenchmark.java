@@ -0,0 +1,79 @@
+package com.ticketing.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.pricing.config.PricingConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the CPU cost of the transactions API's wire formats: reading a request body and writing the
+ * response body, as the HTTP message converters do. The encoded sizes of both bodies are printed once
+ * per trial, since bytes on the wire matter as much as the time spent producing them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"4", "500"})
+    private int customerCount;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestBytes;
+    private TicketTransactionResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        requestReader = objectMapper.readerFor(TicketTransactionRequest.class);
+        responseWriter = objectMapper.writerFor(TicketTransactionResponse.class);
+
+        PricingConfiguration configuration = BenchmarkFixtures.pricingConfiguration(3);
+        TicketTransactionRequest request = BenchmarkFixtures.transactionRequest(customerCount);
+        requestBytes = objectMapper.writeValueAsBytes(request);
+        response = BenchmarkFixtures.ticketProcessingService(configuration, BenchmarkFixtures.meterRegistry())
+                .processTransaction(request);
+
+        System.out.printf("%n%s wire size for %d customers: request %d bytes, response %d bytes%n",
+                format, customerCount, requestBytes.length, responseWriter.writeValueAsBytes(response).length);
+    }
+
+    @Benchmark
+    public TicketTransactionRequest readRequest() throws IOException {
+        return requestReader.readValue(requestBytes);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
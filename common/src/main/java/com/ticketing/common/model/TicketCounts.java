@@ -0,0 +1,105 @@
+package com.ticketing.common.model;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Mutable per-{@link TicketType} ticket counts backed by an {@code int} array indexed by ordinal.
+ * <p>
+ * Tallying customers into this type neither boxes nor allocates, and the running total is maintained
+ * alongside the counts so it never has to be summed. Instances are not thread-safe; callers that keep
+ * one as a map key must store a {@link #copy()}.
+ */
+public final class TicketCounts {
+
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+
+    private final int[] counts = new int[TICKET_TYPES.length];
+    private int total;
+
+    public static TicketCounts of(Map<TicketType, Integer> counts) {
+        TicketCounts ticketCounts = new TicketCounts();
+        counts.forEach((ticketType, count) -> ticketCounts.add(ticketType, count));
+        return ticketCounts;
+    }
+
+    public void increment(TicketType ticketType) {
+        counts[ticketType.ordinal()]++;
+        total++;
+    }
+
+    public void add(TicketType ticketType, int count) {
+        counts[ticketType.ordinal()] += count;
+        total += count;
+    }
+
+    public int get(TicketType ticketType) {
+        return counts[ticketType.ordinal()];
+    }
+
+    /**
+     * Number of tickets of all types.
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Number of ticket types with a non-zero count.
+     */
+    public int distinctTypes() {
+        int distinct = 0;
+        for (int count : counts) {
+            if (count != 0) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        total = 0;
+    }
+
+    public TicketCounts copy() {
+        TicketCounts copy = new TicketCounts();
+        System.arraycopy(counts, 0, copy.counts, 0, counts.length);
+        copy.total = total;
+        return copy;
+    }
+
+    /**
+     * Returns the non-zero counts as a map, for callers of the map-based pricing API.
+     */
+    public Map<TicketType, Integer> toMap() {
+        Map<TicketType, Integer> map = new EnumMap<>(TicketType.class);
+        for (TicketType ticketType : TICKET_TYPES) {
+            int count = counts[ticketType.ordinal()];
+            if (count != 0) {
+                map.put(ticketType, count);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof TicketCounts other && Arrays.equals(counts, other.counts));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
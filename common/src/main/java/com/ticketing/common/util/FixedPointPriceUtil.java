@@ -0,0 +1,58 @@
+package com.ticketing.common.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point helpers for pricing arithmetic.
+ * <p>
+ * Amounts are held as {@code long} minor units (cents) and percentages as {@code int} basis points
+ * (hundredths of a percent), so that the pricing hot path does not allocate {@link BigDecimal}s.
+ * Rounding matches {@code price.multiply(percentage).divide(100, 2, RoundingMode.HALF_UP)}.
+ */
+public class FixedPointPriceUtil {
+
+    public static final int MINOR_UNIT_SCALE = 2;
+    public static final int BASIS_POINT_SCALE = 2;
+
+    private static final long BASIS_POINTS_PER_WHOLE = 10_000L;
+    private static final BigDecimal ZERO_AMOUNT = BigDecimal.ZERO.setScale(MINOR_UNIT_SCALE, RoundingMode.HALF_UP);
+
+    private FixedPointPriceUtil() {
+    }
+
+    /**
+     * Converts an amount to minor units.
+     *
+     * @throws ArithmeticException if the amount has sub-minor-unit precision or does not fit in a {@code long}
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(MINOR_UNIT_SCALE, RoundingMode.UNNECESSARY)
+                .movePointRight(MINOR_UNIT_SCALE)
+                .longValueExact();
+    }
+
+    /**
+     * Converts a percentage (e.g. {@code 12.5}) to basis points (e.g. {@code 1250}).
+     *
+     * @throws ArithmeticException if the percentage has more than two decimal places or does not fit in an {@code int}
+     */
+    public static int toBasisPoints(BigDecimal percentage) {
+        return percentage.setScale(BASIS_POINT_SCALE, RoundingMode.UNNECESSARY)
+                .movePointRight(BASIS_POINT_SCALE)
+                .intValueExact();
+    }
+
+    public static BigDecimal toAmount(long minorUnits) {
+        return minorUnits == 0 ? ZERO_AMOUNT : BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+    }
+
+    /**
+     * Returns {@code basisPoints} of {@code minorUnits}, rounded half up to the nearest minor unit.
+     */
+    public static long percentageOf(long minorUnits, int basisPoints) {
+        long product = Math.multiplyExact(minorUnits, (long) basisPoints);
+        long rounded = (Math.abs(product) + BASIS_POINTS_PER_WHOLE / 2) / BASIS_POINTS_PER_WHOLE;
+        return product < 0 ? -rounded : rounded;
+    }
+}
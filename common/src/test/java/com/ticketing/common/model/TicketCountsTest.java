@@ -0,0 +1,69 @@
+package com.ticketing.common.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketCountsTest {
+
+    @Test
+    void increment_shouldTrackPerTypeCountsAndTotal() {
+        // Given
+        TicketCounts counts = new TicketCounts();
+
+        // When
+        counts.increment(TicketType.ADULT);
+        counts.increment(TicketType.ADULT);
+        counts.increment(TicketType.CHILD);
+
+        // Then
+        assertEquals(2, counts.get(TicketType.ADULT));
+        assertEquals(1, counts.get(TicketType.CHILD));
+        assertEquals(0, counts.get(TicketType.SENIOR));
+        assertEquals(3, counts.total());
+        assertEquals(2, counts.distinctTypes());
+    }
+
+    @Test
+    void clear_shouldResetCountsAndTotal() {
+        // Given
+        TicketCounts counts = TicketCounts.of(Map.of(TicketType.TEEN, 4));
+
+        // When
+        counts.clear();
+
+        // Then
+        assertTrue(counts.isEmpty());
+        assertEquals(0, counts.get(TicketType.TEEN));
+        assertEquals(0, counts.distinctTypes());
+    }
+
+    @Test
+    void copy_shouldBeEqualButIndependent() {
+        // Given
+        TicketCounts counts = TicketCounts.of(Map.of(TicketType.ADULT, 2, TicketType.SENIOR, 1));
+
+        // When
+        TicketCounts copy = counts.copy();
+        counts.increment(TicketType.ADULT);
+
+        // Then
+        assertEquals(TicketCounts.of(Map.of(TicketType.ADULT, 2, TicketType.SENIOR, 1)), copy);
+        assertEquals(3, copy.total());
+        assertNotEquals(counts, copy);
+    }
+
+    @Test
+    void equals_shouldIgnoreZeroEntriesInSourceMap() {
+        // When
+        TicketCounts withZero = TicketCounts.of(Map.of(TicketType.ADULT, 2, TicketType.TEEN, 0));
+        TicketCounts withoutZero = TicketCounts.of(Map.of(TicketType.ADULT, 2));
+
+        // Then
+        assertEquals(withoutZero, withZero);
+        assertEquals(withoutZero.hashCode(), withZero.hashCode());
+        assertEquals(Map.of(TicketType.ADULT, 2), withZero.toMap());
+    }
+}
@@ -0,0 +1,80 @@
+package com.ticketing.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointPriceUtilTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "25.00, 2500",
+            "25, 2500",
+            "12.5, 1250",
+            "0.01, 1"
+    })
+    void toMinorUnits_shouldScaleToCents(String amount, long expected) {
+        // When
+        long result = FixedPointPriceUtil.toMinorUnits(new BigDecimal(amount));
+
+        // Then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void toMinorUnits_withSubCentAmount_shouldThrowException() {
+        // When & Then
+        assertThrows(ArithmeticException.class,
+                () -> FixedPointPriceUtil.toMinorUnits(new BigDecimal("25.005")));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "25, 2500",
+            "12.5, 1250",
+            "0.25, 25"
+    })
+    void toBasisPoints_shouldScaleToHundredthsOfPercent(String percentage, int expected) {
+        // When
+        int result = FixedPointPriceUtil.toBasisPoints(new BigDecimal(percentage));
+
+        // Then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void toAmount_shouldUseTwoDecimalPlaces() {
+        // When & Then
+        assertEquals(new BigDecimal("14.87"), FixedPointPriceUtil.toAmount(1487));
+        assertEquals(new BigDecimal("0.00"), FixedPointPriceUtil.toAmount(0));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "13.50, 5",
+            "3.75, 15",
+            "25.00, 30",
+            "0.05, 10",
+            "0.15, 10",
+            "99.99, 12.5",
+            "17.50, 33.33"
+    })
+    void percentageOf_shouldMatchBigDecimalHalfUpRounding(String price, String percentage) {
+        // Given
+        BigDecimal expected = new BigDecimal(price).multiply(new BigDecimal(percentage))
+                .divide(new BigDecimal("100"), 2, RoundingMode.HALF_UP);
+
+        // When
+        long result = FixedPointPriceUtil.percentageOf(
+                FixedPointPriceUtil.toMinorUnits(new BigDecimal(price)),
+                FixedPointPriceUtil.toBasisPoints(new BigDecimal(percentage)));
+
+        // Then
+        assertEquals(expected, FixedPointPriceUtil.toAmount(result));
+    }
+}
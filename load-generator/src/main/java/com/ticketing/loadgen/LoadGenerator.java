@@ -0,0 +1,71 @@
+package com.ticketing.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.TicketServiceApplication;
+import com.ticketing.reactive.ReactiveTicketServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+
+/**
+ * Boots the ticket service in-process on a random localhost port and drives its transactions endpoint
+ * with an open-loop {@link OpenLoopLoadGenerator}, printing throughput and HdrHistogram percentiles.
+ * <p>
+ * The service runs with its production defaults, idempotency and load shedding included; only request
+ * logging is silenced. A warmup run is discarded before the measured run. With
+ * {@code --histogram-output} the full response time distribution is also written in the {@code .hgrm}
+ * format, in milliseconds, for plotting.
+ * <pre>
+ * java -jar load-generator/target/load-generator.jar --rate=2000 --concurrency=128 --duration=60s
+ * </pre>
+ */
+public class LoadGenerator {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadGeneratorOptions options = LoadGeneratorOptions.parse(args);
+
+        try (ConfigurableApplicationContext context = start(options.getStack());
+             HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/tickets/transactions");
+            RequestMix requestMix = RequestMix.of(options.getCustomers(), options.getTicketTypes(),
+                    options.getSeed(), new ObjectMapper());
+            OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(httpClient, uri, requestMix,
+                    options.getRate(), options.getConcurrency());
+
+            System.out.printf("Warming up %s stack for %s at %,d req/s%n", options.getStack(), options.getWarmup(),
+                    options.getRate());
+            generator.run(options.getWarmup());
+            System.out.printf("Measuring for %s with up to %d requests in flight%n%n", options.getDuration(),
+                    options.getConcurrency());
+            LoadResult result = generator.run(options.getDuration());
+            result.print(System.out);
+
+            if (options.getHistogramOutput() != null) {
+                try (PrintStream out = new PrintStream(Files.newOutputStream(options.getHistogramOutput()))) {
+                    result.responseTimes().outputPercentileDistribution(out, NANOS_PER_MILLI);
+                }
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String stack) {
+        SpringApplicationBuilder application = stack.equals("reactive")
+                ? ReactiveTicketServiceApplication.application()
+                : new SpringApplicationBuilder(TicketServiceApplication.class).web(WebApplicationType.SERVLET);
+        // Arguments rather than default properties, so they override the application's own configuration
+        return application.run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.com.ticketing=WARN");
+    }
+}
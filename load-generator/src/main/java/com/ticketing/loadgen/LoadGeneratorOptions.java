@@ -0,0 +1,58 @@
+package com.ticketing.loadgen;
+
+import lombok.Data;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Command line options of the {@link LoadGenerator}, given as {@code --name=value}.
+ * <p>
+ * Customer counts and ticket types are weighted lists of {@code value:weight} pairs. The default customer
+ * mix centres on the four-customer family of {@code request.json} with a long tail of group bookings, and
+ * the default ticket type mix is mostly adults.
+ */
+@Data
+public class LoadGeneratorOptions {
+
+    private String stack = "servlet";
+    private int rate = 1000;
+    private int concurrency = 64;
+    private Duration duration = Duration.ofSeconds(30);
+    private Duration warmup = Duration.ofSeconds(10);
+    private long seed = 42L;
+    private String customers = "1:15,2:30,3:15,4:20,6:10,12:7,30:3";
+    private String ticketTypes = "child:20,teen:12,adult:55,senior:13";
+    private Path histogramOutput;
+
+    public static LoadGeneratorOptions parse(String... args) {
+        LoadGeneratorOptions options = new LoadGeneratorOptions();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but was: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "stack" -> options.setStack(value);
+                case "rate" -> options.setRate(Integer.parseInt(value));
+                case "concurrency" -> options.setConcurrency(Integer.parseInt(value));
+                case "duration" -> options.setDuration(DurationStyle.detectAndParse(value));
+                case "warmup" -> options.setWarmup(DurationStyle.detectAndParse(value));
+                case "seed" -> options.setSeed(Long.parseLong(value));
+                case "customers" -> options.setCustomers(value);
+                case "ticket-types" -> options.setTicketTypes(value);
+                case "histogram-output" -> options.setHistogramOutput(Path.of(value));
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (options.getRate() <= 0 || options.getConcurrency() <= 0) {
+            throw new IllegalArgumentException("Rate and concurrency must be positive");
+        }
+        if (!options.getStack().equals("servlet") && !options.getStack().equals("reactive")) {
+            throw new IllegalArgumentException("Unknown stack: " + options.getStack());
+        }
+        return options;
+    }
+}
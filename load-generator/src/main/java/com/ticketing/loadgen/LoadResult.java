@@ -0,0 +1,40 @@
+package com.ticketing.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of one {@link OpenLoopLoadGenerator} run. Histograms are in nanoseconds.
+ *
+ * @param responseTimes coordinated-omission-corrected latency, from when each request was due
+ * @param serviceTimes  latency from when each request was actually sent
+ * @param rejected      requests shed by the service with {@code 503 Service Unavailable}
+ */
+public record LoadResult(Histogram responseTimes, Histogram serviceTimes, long sent, long succeeded,
+                         long rejected, long failed, long elapsedNanos, int targetRate) {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    public double throughput() {
+        return (succeeded + rejected + failed) * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("Target rate       %,d req/s%n", targetRate);
+        out.printf("Throughput        %,.1f req/s over %.1f s%n", throughput(), elapsedNanos / 1e9);
+        out.printf("Requests          %,d sent, %,d succeeded, %,d shed (503), %,d failed%n",
+                sent, succeeded, rejected, failed);
+        out.println();
+        out.printf("%-12s %15s %15s%n", "Percentile", "Response (ms)", "Service (ms)");
+        for (double percentile : PERCENTILES) {
+            out.printf("%-12s %15.3f %15.3f%n", percentile + "%",
+                    responseTimes.getValueAtPercentile(percentile) / NANOS_PER_MILLI,
+                    serviceTimes.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+        }
+        out.printf("%-12s %15.3f %15.3f%n", "max",
+                responseTimes.getMaxValue() / NANOS_PER_MILLI, serviceTimes.getMaxValue() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,104 @@
+package com.ticketing.loadgen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends transactions at a fixed arrival rate, independent of how fast the service answers.
+ * <p>
+ * Request {@code i} is due at {@code start + i / rate}. A closed-loop client waits for each response
+ * before sending the next request, so when the service stalls it quietly stops sending and the stall
+ * shows up as one slow sample instead of many: coordinated omission. Here every request's response time
+ * is measured from when it was due, so time spent queued behind a stall, including waiting for one of
+ * the {@code concurrency} connection slots, is counted against the service. Service time, measured from
+ * when the request was actually sent, is recorded alongside for comparison.
+ */
+@Slf4j
+public class OpenLoopLoadGenerator {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient httpClient;
+    private final URI uri;
+    private final RequestMix requestMix;
+    private final int rate;
+    private final int concurrency;
+
+    private long nextSequence;
+
+    public OpenLoopLoadGenerator(HttpClient httpClient, URI uri, RequestMix requestMix, int rate, int concurrency) {
+        this.httpClient = httpClient;
+        this.uri = uri;
+        this.requestMix = requestMix;
+        this.rate = rate;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Sends requests for {@code duration}, then waits for the outstanding ones. Transaction ids continue
+     * from the previous run, so a warmup run can be followed by a measured one against the same instance.
+     */
+    public LoadResult run(Duration duration) throws InterruptedException {
+        Recorder responseTimes = new Recorder(SIGNIFICANT_DIGITS);
+        Recorder serviceTimes = new Recorder(SIGNIFICANT_DIGITS);
+        LongAdder succeeded = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder failed = new LongAdder();
+        Semaphore slots = new Semaphore(concurrency);
+
+        long requests = duration.toNanos() * rate / TimeUnit.SECONDS.toNanos(1);
+        long start = System.nanoTime();
+
+        for (long sent = 0; sent < requests; sent++) {
+            long due = start + sent * TimeUnit.SECONDS.toNanos(1) / rate;
+            long delay;
+            while ((delay = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            slots.acquire();
+
+            long sequence = nextSequence++;
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(requestMix.body(sequence, sequence + 1)))
+                    .build();
+            long sentAt = System.nanoTime();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long completedAt = System.nanoTime();
+                        responseTimes.recordValue(completedAt - due);
+                        serviceTimes.recordValue(completedAt - sentAt);
+                        if (failure != null) {
+                            log.debug("Request {} failed", sequence, failure);
+                            failed.increment();
+                        } else if (response.statusCode() == 200) {
+                            succeeded.increment();
+                        } else if (response.statusCode() == 503) {
+                            rejected.increment();
+                        } else {
+                            failed.increment();
+                        }
+                        slots.release();
+                    });
+        }
+
+        // Every slot back means every response has been recorded
+        slots.acquire(concurrency);
+        slots.release(concurrency);
+        long elapsedNanos = System.nanoTime() - start;
+
+        return new LoadResult(responseTimes.getIntervalHistogram(), serviceTimes.getIntervalHistogram(),
+                requests, succeeded.sum(), rejected.sum(), failed.sum(), elapsedNanos, rate);
+    }
+}
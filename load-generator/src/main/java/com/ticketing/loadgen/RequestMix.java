@@ -0,0 +1,139 @@
+package com.ticketing.loadgen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.dto.request.CustomerRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * A fixed, seeded pool of transaction request bodies shaped like {@code request.json}: one customer per
+ * entry, named after its ticket type, with an age drawn uniformly from that type's default age band.
+ * <p>
+ * The customer lists are generated and serialized once, so producing a request costs only a byte copy;
+ * each request still gets its own transaction id, so the service's idempotency cache sees distinct
+ * transactions rather than replays.
+ */
+public class RequestMix {
+
+    static final int POOL_SIZE = 4096;
+
+    private static final Map<TicketType, int[]> AGE_BANDS = new EnumMap<>(Map.of(
+            TicketType.CHILD, new int[]{0, 10},
+            TicketType.TEEN, new int[]{11, 17},
+            TicketType.ADULT, new int[]{18, 64},
+            TicketType.SENIOR, new int[]{65, 90}));
+    private static final byte[] PREFIX = "{\"transactionId\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CUSTOMERS = ",\"customers\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SUFFIX = "}".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[][] customerLists;
+    private final int[] customerCounts;
+
+    private RequestMix(byte[][] customerLists, int[] customerCounts) {
+        this.customerLists = customerLists;
+        this.customerCounts = customerCounts;
+    }
+
+    /**
+     * @param customers   weighted customer counts, for example {@code "1:15,4:20,30:3"}
+     * @param ticketTypes weighted ticket types, for example {@code "child:20,adult:80"}
+     */
+    public static RequestMix of(String customers, String ticketTypes, long seed, ObjectMapper objectMapper) {
+        WeightedChoice<Integer> customerCount = WeightedChoice.parse(customers, Integer::valueOf);
+        WeightedChoice<TicketType> ticketType = WeightedChoice.parse(ticketTypes,
+                name -> TicketType.valueOf(name.toUpperCase(Locale.ROOT)));
+        SplittableRandom random = new SplittableRandom(seed);
+
+        byte[][] customerLists = new byte[POOL_SIZE][];
+        int[] customerCounts = new int[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int count = customerCount.pick(random);
+            List<CustomerRequest> customerRequests = new ArrayList<>(count);
+            for (int customer = 0; customer < count; customer++) {
+                TicketType type = ticketType.pick(random);
+                int[] band = AGE_BANDS.get(type);
+                customerRequests.add(CustomerRequest.builder()
+                        .name(type.name().charAt(0) + type.name().substring(1).toLowerCase(Locale.ROOT) + " Customer")
+                        .age(random.nextInt(band[0], band[1] + 1))
+                        .build());
+            }
+            try {
+                customerLists[i] = objectMapper.writeValueAsBytes(customerRequests);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Failed to serialize generated customers", ex);
+            }
+            customerCounts[i] = count;
+        }
+        return new RequestMix(customerLists, customerCounts);
+    }
+
+    /**
+     * The body of request {@code sequence}, which cycles through the pool, carrying {@code transactionId}.
+     */
+    public byte[] body(long sequence, long transactionId) {
+        byte[] customers = customerLists[slot(sequence)];
+        byte[] id = Long.toString(transactionId).getBytes(StandardCharsets.US_ASCII);
+        byte[] body = new byte[PREFIX.length + id.length + CUSTOMERS.length + customers.length + SUFFIX.length];
+        int offset = append(body, 0, PREFIX);
+        offset = append(body, offset, id);
+        offset = append(body, offset, CUSTOMERS);
+        offset = append(body, offset, customers);
+        append(body, offset, SUFFIX);
+        return body;
+    }
+
+    public int customerCount(long sequence) {
+        return customerCounts[slot(sequence)];
+    }
+
+    private static int slot(long sequence) {
+        return (int) (sequence % POOL_SIZE);
+    }
+
+    private static int append(byte[] target, int offset, byte[] source) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    /**
+     * Values drawn in proportion to their integer weights.
+     */
+    private record WeightedChoice<T>(List<T> values, int[] cumulativeWeights) {
+
+        static <T> WeightedChoice<T> parse(String spec, Function<String, T> valueParser) {
+            List<T> values = new ArrayList<>();
+            List<Integer> cumulative = new ArrayList<>();
+            int total = 0;
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split(":");
+                int weight = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 0;
+                if (weight <= 0) {
+                    throw new IllegalArgumentException("Expected value:weight with a positive weight but was: " + entry);
+                }
+                values.add(valueParser.apply(parts[0].trim()));
+                total += weight;
+                cumulative.add(total);
+            }
+            return new WeightedChoice<>(values, cumulative.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        T pick(SplittableRandom random) {
+            int point = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (point < cumulativeWeights[i]) {
+                    return values.get(i);
+                }
+            }
+            throw new IllegalStateException("Weights exhausted");
+        }
+    }
+}
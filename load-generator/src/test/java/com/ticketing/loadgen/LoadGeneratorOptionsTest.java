@@ -0,0 +1,55 @@
+package com.ticketing.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorOptionsTest {
+
+    @Test
+    void parse_withNoArguments_shouldUseDefaults() {
+        // When
+        LoadGeneratorOptions options = LoadGeneratorOptions.parse();
+
+        // Then
+        assertEquals("servlet", options.getStack());
+        assertEquals(1000, options.getRate());
+        assertEquals(64, options.getConcurrency());
+        assertEquals(Duration.ofSeconds(30), options.getDuration());
+        assertNull(options.getHistogramOutput());
+    }
+
+    @Test
+    void parse_withArguments_shouldOverrideDefaults() {
+        // When
+        LoadGeneratorOptions options = LoadGeneratorOptions.parse("--stack=reactive", "--rate=250",
+                "--concurrency=8", "--duration=2m", "--warmup=500ms", "--seed=7", "--customers=4:1",
+                "--ticket-types=adult:1", "--histogram-output=latency.hgrm");
+
+        // Then
+        assertEquals("reactive", options.getStack());
+        assertEquals(250, options.getRate());
+        assertEquals(8, options.getConcurrency());
+        assertEquals(Duration.ofMinutes(2), options.getDuration());
+        assertEquals(Duration.ofMillis(500), options.getWarmup());
+        assertEquals(7L, options.getSeed());
+        assertEquals("4:1", options.getCustomers());
+        assertEquals("adult:1", options.getTicketTypes());
+        assertEquals(Path.of("latency.hgrm"), options.getHistogramOutput());
+    }
+
+    @Test
+    void parse_withUnknownOption_shouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> LoadGeneratorOptions.parse("--threads=4"));
+    }
+
+    @Test
+    void parse_withNonPositiveRate_shouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> LoadGeneratorOptions.parse("--rate=0"));
+    }
+}
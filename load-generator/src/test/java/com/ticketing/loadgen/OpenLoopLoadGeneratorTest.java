@@ -0,0 +1,110 @@
+package com.ticketing.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenLoopLoadGeneratorTest {
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final RequestMix requestMix = RequestMix.of("4:1", "adult:1", 42L, new ObjectMapper());
+    private final AtomicInteger lastTransactionId = new AtomicInteger();
+    private HttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void run_againstSlowService_shouldCountQueueingInResponseTime() throws Exception {
+        // Given - one slot and a 20 ms service at 200 req/s, so requests fall further behind schedule
+        URI uri = startServer(200, Duration.ofMillis(20));
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(httpClient, uri, requestMix, 200, 1);
+
+        // When
+        LoadResult result = generator.run(Duration.ofMillis(250));
+
+        // Then
+        assertEquals(50, result.sent());
+        assertEquals(50, result.succeeded());
+        assertEquals(50, result.responseTimes().getTotalCount());
+        // Each request takes ~20 ms, but the later ones were due hundreds of milliseconds before they could be sent
+        long medianServiceTime = result.serviceTimes().getValueAtPercentile(50);
+        long medianResponseTime = result.responseTimes().getValueAtPercentile(50);
+        assertTrue(medianServiceTime < TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(medianResponseTime > 5 * medianServiceTime);
+    }
+
+    @Test
+    void run_shouldClassifyShedAndFailedResponses() throws Exception {
+        // Given - the service alternates between shedding and failing
+        AtomicInteger requests = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(requests.getAndIncrement() % 2 == 0 ? 503 : 500, -1);
+            exchange.close();
+        });
+        server.start();
+        URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(httpClient, uri, requestMix, 100, 1);
+
+        // When
+        LoadResult result = generator.run(Duration.ofMillis(100));
+
+        // Then
+        assertEquals(10, result.sent());
+        assertEquals(0, result.succeeded());
+        assertEquals(5, result.rejected());
+        assertEquals(5, result.failed());
+    }
+
+    @Test
+    void run_twice_shouldContinueTransactionIds() throws Exception {
+        // Given
+        URI uri = startServer(200, Duration.ZERO);
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(httpClient, uri, requestMix, 100, 4);
+
+        // When
+        generator.run(Duration.ofMillis(50));
+        generator.run(Duration.ofMillis(50));
+
+        // Then
+        assertEquals(10, lastTransactionId.get());
+    }
+
+    private URI startServer(int status, Duration serviceTime) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newSingleThreadExecutor());
+        server.createContext("/", exchange -> {
+            long transactionId = objectMapper.readTree(exchange.getRequestBody()).get("transactionId").asLong();
+            lastTransactionId.accumulateAndGet((int) transactionId, Math::max);
+            try {
+                Thread.sleep(serviceTime);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        return URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+    }
+}
@@ -0,0 +1,67 @@
+package com.ticketing.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.dto.request.CustomerRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestMixTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void body_shouldCarryTransactionIdAndGeneratedCustomers() throws IOException {
+        // Given
+        RequestMix requestMix = RequestMix.of("2:1,5:1", "child:1,senior:1", 42L, objectMapper);
+
+        // When
+        TicketTransactionRequest request = objectMapper.readValue(requestMix.body(3, 1234L), TicketTransactionRequest.class);
+
+        // Then
+        assertEquals(1234L, request.getTransactionId());
+        assertEquals(requestMix.customerCount(3), request.getCustomers().size());
+        assertTrue(Set.of(2, 5).contains(request.getCustomers().size()));
+        for (CustomerRequest customer : request.getCustomers()) {
+            if (customer.getName().equals("Child Customer")) {
+                assertTrue(customer.getAge() >= 0 && customer.getAge() <= 10);
+            } else {
+                assertEquals("Senior Customer", customer.getName());
+                assertTrue(customer.getAge() >= 65);
+            }
+        }
+    }
+
+    @Test
+    void of_withSameSeed_shouldGenerateSameRequests() {
+        // Given
+        RequestMix first = RequestMix.of("1:15,4:20,30:3", "adult:55,child:20", 7L, objectMapper);
+        RequestMix second = RequestMix.of("1:15,4:20,30:3", "adult:55,child:20", 7L, objectMapper);
+
+        // When & Then
+        for (long sequence = 0; sequence < RequestMix.POOL_SIZE; sequence += 97) {
+            assertArrayEquals(first.body(sequence, 1L), second.body(sequence, 1L));
+        }
+    }
+
+    @Test
+    void body_pastPoolSize_shouldCycleThroughPool() {
+        // Given
+        RequestMix requestMix = RequestMix.of("1:1,2:1,3:1", "adult:1", 1L, objectMapper);
+
+        // When & Then
+        assertArrayEquals(requestMix.body(5, 9L), requestMix.body(5 + RequestMix.POOL_SIZE, 9L));
+    }
+
+    @Test
+    void of_withInvalidWeight_shouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> RequestMix.of("4", "adult:1", 1L, objectMapper));
+        assertThrows(IllegalArgumentException.class, () -> RequestMix.of("4:1", "adult:0", 1L, objectMapper));
+    }
+}
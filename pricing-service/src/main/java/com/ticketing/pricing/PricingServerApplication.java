@@ -0,0 +1,62 @@
+package com.ticketing.pricing;
+
+import com.ticketing.pricing.config.PricingServerProperties;
+import com.ticketing.pricing.rpc.PricingRpcServer;
+import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.Bean;
+
+import java.io.IOException;
+
+/**
+ * The pricing service as its own process, serving the pricing RPC protocol over TCP so that pricing can
+ * be scaled apart from the ticket service.
+ * <p>
+ * Pricing is wired exactly as in the ticket service, quote cache and precomputed prices included, and
+ * {@link PricingRpcServer} serves whichever {@link PricingService} is primary. The application only
+ * activates with {@code pricing.server.enabled}, which {@link #application()} sets, so the ticket
+ * services skip it when they scan the pricing packages. Configuration is read from
+ * {@code pricing-service.yml}.
+ */
+@SpringBootApplication(scanBasePackages = "com.ticketing.pricing")
+@ConditionalOnProperty(prefix = "pricing.server", name = "enabled", havingValue = "true")
+@ConfigurationPropertiesScan("com.ticketing.pricing")
+public class PricingServerApplication {
+
+    public static final String CONFIG_NAME = "pricing-service";
+
+    public static void main(String[] args) {
+        application().run(args);
+    }
+
+    /**
+     * The server without a web stack and with its own configuration name, for starting it from code.
+     */
+    public static SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(PricingServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.config.name=" + CONFIG_NAME, "pricing.server.enabled=true");
+    }
+
+    @Bean
+    public PricingRpcServer pricingRpcServer(PricingService pricingService, PricingSnapshotHolder pricingSnapshotHolder,
+                                             PricingServerProperties pricingServerProperties) throws IOException {
+        return PricingRpcServer.start(pricingService, pricingSnapshotHolder, pricingServerProperties.getHost(),
+                pricingServerProperties.getPort(), pricingServerProperties.getMaxBatchSize());
+    }
+
+    /**
+     * Pricing metrics are recorded in memory; the server has no endpoint to publish them from.
+     */
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
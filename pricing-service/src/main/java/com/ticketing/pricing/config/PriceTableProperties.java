@@ -0,0 +1,10 @@
+package com.ticketing.pricing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "pricing.price-table")
+@Data
+public class PriceTableProperties {
+    private int maxCustomers = 20;
+}
@@ -1,5 +1,6 @@
 package com.ticketing.pricing.config;
 
+import com.ticketing.pricing.model.AgeBand;
 import com.ticketing.pricing.model.DiscountRule;
 import com.ticketing.pricing.model.PricingRule;
 import lombok.Data;
@@ -13,4 +14,5 @@ import java.util.List;
 public class PricingConfiguration {
     private List<PricingRule> rules = new ArrayList<>();
     private List<DiscountRule> discounts = new ArrayList<>();
+    private List<AgeBand> ageBands = new ArrayList<>();
 }
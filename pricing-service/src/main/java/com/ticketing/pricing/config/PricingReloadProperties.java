@@ -0,0 +1,13 @@
+package com.ticketing.pricing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "pricing.reload")
+@Data
+public class PricingReloadProperties {
+    /**
+     * Location of the rules file read on reload, in Spring resource syntax, e.g. {@code file:/etc/ticketing/pricing-rules.yml}.
+     */
+    private String location = "classpath:pricing-rules.yml";
+}
@@ -0,0 +1,16 @@
+package com.ticketing.pricing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "pricing.server")
+@Data
+public class PricingServerProperties {
+    private boolean enabled = false;
+    private String host = "0.0.0.0";
+    /**
+     * TCP port the pricing server listens on; 0 picks a free port.
+     */
+    private int port = 9090;
+    private int maxBatchSize = 10_000;
+}
@@ -0,0 +1,11 @@
+package com.ticketing.pricing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "pricing.quote-cache")
+@Data
+public class QuoteCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+}
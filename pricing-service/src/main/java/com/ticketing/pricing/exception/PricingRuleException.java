@@ -1,7 +1,15 @@
 package com.ticketing.pricing.exception;
 
+/**
+ * Pricing rules that cannot be compiled or do not cover a ticket type. Raised while quoting as well as
+ * while loading rules, so it is created without a stack trace; a cause, when present, keeps its own.
+ */
 public class PricingRuleException extends RuntimeException {
     public PricingRuleException(String message) {
-        super(message);
+        super(message, null, false, false);
+    }
+
+    public PricingRuleException(String message, Throwable cause) {
+        super(message, cause, false, false);
     }
 }
@@ -0,0 +1,16 @@
+package com.ticketing.pricing.model;
+
+import com.ticketing.common.model.TicketType;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Ages up to and including {@code maxAge} that fall above the previous band are classified as {@code ticketType}.
+ * The last band has no {@code maxAge} and covers every older age.
+ */
+@Data
+@Builder
+public class AgeBand {
+    private TicketType ticketType;
+    private Integer maxAge;
+}
@@ -2,18 +2,43 @@ package com.ticketing.pricing.model;
 
 import com.ticketing.common.model.TicketType;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Value;
 
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.List;
 
-@Data
+/**
+ * One priced line of a transaction. Immutable, because price tables and quote caches hand the same
+ * instance to every caller: the builder wraps the lists it is given in unmodifiable views, so the
+ * caller hands them over and must not keep changing them.
+ */
+@Value
 @Builder
 public class PriceCalculationResult {
-    private TicketType ticketType;
-    private BigDecimal totalCost;
-    private BigDecimal basePrice;
-    private BigDecimal finalPrice;
-    private BigDecimal discountAmount;
-    private List<String> appliedDiscounts;
+    TicketType ticketType;
+    int quantity;
+    BigDecimal totalCost;
+    BigDecimal basePrice;
+    BigDecimal finalPrice;
+    BigDecimal discountAmount;
+    List<String> appliedDiscounts;
+    List<Long> appliedDiscountAmountsMinor;
+    long finalPriceMinor;
+    long discountAmountMinor;
+    long totalCostMinor;
+
+    public static class PriceCalculationResultBuilder {
+
+        public PriceCalculationResultBuilder appliedDiscounts(List<String> appliedDiscounts) {
+            this.appliedDiscounts = appliedDiscounts == null ? null : Collections.unmodifiableList(appliedDiscounts);
+            return this;
+        }
+
+        public PriceCalculationResultBuilder appliedDiscountAmountsMinor(List<Long> appliedDiscountAmountsMinor) {
+            this.appliedDiscountAmountsMinor = appliedDiscountAmountsMinor == null ? null
+                    : Collections.unmodifiableList(appliedDiscountAmountsMinor);
+            return this;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.ticketing.pricing.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A priced transaction. Immutable, because quote caches hand the same instance to every caller: the
+ * builder wraps the line list it is given in an unmodifiable view, so the caller hands it over and must
+ * not keep changing it.
+ */
+@Value
+@Builder
+public class TransactionPriceResult {
+    List<PriceCalculationResult> ticketPrices;
+    BigDecimal totalCost;
+    long totalCostMinor;
+    int totalQuantity;
+    long pricingVersion;
+
+    public static class TransactionPriceResultBuilder {
+
+        public TransactionPriceResultBuilder ticketPrices(List<PriceCalculationResult> ticketPrices) {
+            this.ticketPrices = ticketPrices == null ? null : Collections.unmodifiableList(ticketPrices);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.ticketing.pricing.rpc;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.common.util.FixedPointPriceUtil;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.ProtocolException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary protocol between the pricing server and its clients, one TCP connection at a time.
+ * <p>
+ * A client opens with {@link #MAGIC} and then writes batches: a call count followed by that many calls,
+ * each an operation byte and its arguments. The server answers each batch with one of its own, holding
+ * a status byte and a result or error message for every call, in order. Batches are answered in the order
+ * they were written, so a client may pipeline several before reading the first answer. Everything is
+ * big-endian; ticket counts travel as one {@code int} per {@link TicketType}, amounts as unscaled
+ * {@code long}s with their scale, and nothing is sent for a ticket type or field that is absent.
+ */
+public final class PricingProtocol {
+
+    /**
+     * "PRC" and protocol version 2, written once by the client when it connects.
+     */
+    public static final int MAGIC = 0x50524302;
+
+    public static final byte CALCULATE_TRANSACTION = 1;
+    public static final byte CALCULATE_TRANSACTION_BY_AGE = 2;
+    public static final byte CALCULATE_TICKET_PRICE = 3;
+    public static final byte GET_TICKET_BASE_PRICE = 4;
+    /**
+     * Prices ticket counts that the client classified, given with the fingerprint of the age bands it used,
+     * see {@link com.ticketing.pricing.service.AgeBandTable#getFingerprint()}. The server prices them only if
+     * its own age bands have the same fingerprint, and answers {@link #AGE_BANDS_MISMATCH} otherwise.
+     */
+    public static final byte CALCULATE_CLASSIFIED_TRANSACTION = 5;
+
+    public static final byte OK = 0;
+    public static final byte PRICING_RULE_ERROR = 1;
+    public static final byte INVALID_ARGUMENT = 2;
+    public static final byte SERVER_ERROR = 3;
+    public static final byte AGE_BANDS_MISMATCH = 4;
+
+    /**
+     * Most entries an age histogram may have, so a corrupt or hostile size cannot make the server allocate
+     * without bound. A histogram has one entry per distinct age, so no real one comes near it.
+     */
+    public static final int MAX_AGE_HISTOGRAM_SIZE = 1_000;
+
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+
+    private PricingProtocol() {
+    }
+
+    public static void writeTicketCounts(DataOutput out, TicketCounts counts) throws IOException {
+        for (TicketType ticketType : TICKET_TYPES) {
+            out.writeInt(counts.get(ticketType));
+        }
+    }
+
+    /**
+     * Reads one count per ticket type.
+     *
+     * @throws IllegalArgumentException once every count has been read, if one is negative or their total does
+     *                                  not fit in an {@code int}
+     */
+    public static TicketCounts readTicketCounts(DataInput in) throws IOException {
+        int[] values = new int[TICKET_TYPES.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        TicketCounts counts = new TicketCounts();
+        long total = 0;
+        for (TicketType ticketType : TICKET_TYPES) {
+            int count = values[ticketType.ordinal()];
+            if (count < 0) {
+                throw new IllegalArgumentException("Count cannot be negative: " + ticketType + "=" + count);
+            }
+            total += count;
+            counts.add(ticketType, count);
+        }
+        requireIntTotal(total);
+        return counts;
+    }
+
+    public static void writeCustomersByAge(DataOutput out, Map<Integer, Integer> customersByAge) throws IOException {
+        out.writeInt(customersByAge.size());
+        for (Map.Entry<Integer, Integer> entry : customersByAge.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    /**
+     * Reads an age histogram.
+     *
+     * @throws ProtocolException        if the histogram size is out of range
+     * @throws IllegalArgumentException once every entry has been read, if an age or a count is negative or
+     *                                  the counts add up to more than an {@code int} holds
+     */
+    public static Map<Integer, Integer> readCustomersByAge(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0 || size > MAX_AGE_HISTOGRAM_SIZE) {
+            throw new ProtocolException("Age histogram of " + size + " entries exceeds " + MAX_AGE_HISTOGRAM_SIZE);
+        }
+        Map<Integer, Integer> customersByAge = HashMap.newHashMap(size);
+        IllegalArgumentException invalid = null;
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            int age = in.readInt();
+            int count = in.readInt();
+            if (invalid == null && (age < 0 || count < 0)) {
+                invalid = new IllegalArgumentException("Invalid age histogram entry: " + age + "=" + count);
+            }
+            total += count;
+            customersByAge.put(age, count);
+        }
+        if (invalid != null) {
+            throw invalid;
+        }
+        requireIntTotal(total);
+        return customersByAge;
+    }
+
+    private static void requireIntTotal(long total) {
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Ticket count " + total + " exceeds " + Integer.MAX_VALUE);
+        }
+    }
+
+    public static void writeTicketType(DataOutput out, TicketType ticketType) throws IOException {
+        out.writeByte(ticketType.ordinal());
+    }
+
+    public static TicketType readTicketType(DataInput in) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= TICKET_TYPES.length) {
+            throw new ProtocolException("Unknown ticket type: " + ordinal);
+        }
+        return TICKET_TYPES[ordinal];
+    }
+
+    public static void writeTransactionPrice(DataOutput out, TransactionPriceResult transactionPrice) throws IOException {
+        out.writeLong(transactionPrice.getTotalCostMinor());
+        out.writeInt(transactionPrice.getTotalQuantity());
+        out.writeLong(transactionPrice.getPricingVersion());
+        List<PriceCalculationResult> ticketPrices = transactionPrice.getTicketPrices();
+        out.writeByte(ticketPrices.size());
+        for (PriceCalculationResult ticketPrice : ticketPrices) {
+            writeTicketPrice(out, ticketPrice);
+        }
+    }
+
+    public static TransactionPriceResult readTransactionPrice(DataInput in) throws IOException {
+        long totalCostMinor = in.readLong();
+        int totalQuantity = in.readInt();
+        long pricingVersion = in.readLong();
+        int lineCount = in.readUnsignedByte();
+        List<PriceCalculationResult> ticketPrices = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            ticketPrices.add(readTicketPrice(in));
+        }
+        return TransactionPriceResult.builder()
+                .ticketPrices(ticketPrices)
+                .totalCost(FixedPointPriceUtil.toAmount(totalCostMinor))
+                .totalCostMinor(totalCostMinor)
+                .totalQuantity(totalQuantity)
+                .pricingVersion(pricingVersion)
+                .build();
+    }
+
+    public static void writeTicketPrice(DataOutput out, PriceCalculationResult ticketPrice) throws IOException {
+        writeTicketType(out, ticketPrice.getTicketType());
+        out.writeInt(ticketPrice.getQuantity());
+        writeDecimal(out, ticketPrice.getTotalCost());
+        writeDecimal(out, ticketPrice.getBasePrice());
+        writeDecimal(out, ticketPrice.getFinalPrice());
+        writeDecimal(out, ticketPrice.getDiscountAmount());
+        out.writeLong(ticketPrice.getFinalPriceMinor());
+        out.writeLong(ticketPrice.getDiscountAmountMinor());
+        out.writeLong(ticketPrice.getTotalCostMinor());
+
+        List<String> appliedDiscounts = ticketPrice.getAppliedDiscounts();
+        out.writeShort(appliedDiscounts == null ? -1 : appliedDiscounts.size());
+        if (appliedDiscounts != null) {
+            for (String rule : appliedDiscounts) {
+                writeNullableString(out, rule);
+            }
+        }
+        List<Long> amountsMinor = ticketPrice.getAppliedDiscountAmountsMinor();
+        out.writeShort(amountsMinor == null ? -1 : amountsMinor.size());
+        if (amountsMinor != null) {
+            for (long amountMinor : amountsMinor) {
+                out.writeLong(amountMinor);
+            }
+        }
+    }
+
+    public static PriceCalculationResult readTicketPrice(DataInput in) throws IOException {
+        PriceCalculationResult.PriceCalculationResultBuilder ticketPrice = PriceCalculationResult.builder()
+                .ticketType(readTicketType(in))
+                .quantity(in.readInt())
+                .totalCost(readDecimal(in))
+                .basePrice(readDecimal(in))
+                .finalPrice(readDecimal(in))
+                .discountAmount(readDecimal(in))
+                .finalPriceMinor(in.readLong())
+                .discountAmountMinor(in.readLong())
+                .totalCostMinor(in.readLong());
+
+        int ruleCount = in.readShort();
+        if (ruleCount >= 0) {
+            List<String> appliedDiscounts = new ArrayList<>(ruleCount);
+            for (int i = 0; i < ruleCount; i++) {
+                appliedDiscounts.add(readNullableString(in));
+            }
+            ticketPrice.appliedDiscounts(appliedDiscounts);
+        }
+        int amountCount = in.readShort();
+        if (amountCount >= 0) {
+            List<Long> amountsMinor = new ArrayList<>(amountCount);
+            for (int i = 0; i < amountCount; i++) {
+                amountsMinor.add(in.readLong());
+            }
+            ticketPrice.appliedDiscountAmountsMinor(amountsMinor);
+        }
+        return ticketPrice.build();
+    }
+
+    /**
+     * Writes an amount as its scale and unscaled value, or a reserved scale alone for null.
+     *
+     * @throws ProtocolException if the amount does not fit in that form
+     */
+    public static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL_SCALE);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (value.scale() <= NULL_SCALE || value.scale() > Byte.MAX_VALUE || unscaled.bitLength() >= Long.SIZE) {
+            throw new ProtocolException("Amount out of range: " + value);
+        }
+        out.writeByte(value.scale());
+        out.writeLong(unscaled.longValue());
+    }
+
+    public static BigDecimal readDecimal(DataInput in) throws IOException {
+        byte scale = in.readByte();
+        return scale == NULL_SCALE ? null : BigDecimal.valueOf(in.readLong(), scale);
+    }
+
+    public static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    public static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,256 @@
+package com.ticketing.pricing.rpc;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.ticketing.pricing.rpc.PricingProtocol.*;
+
+/**
+ * Serves a {@link PricingService} to remote clients over {@link PricingProtocol}.
+ * <p>
+ * Each connection has its own thread, which reads a batch, prices its calls in order and writes the
+ * answers. Answers are flushed only once the client has nothing more pipelined, so a client that keeps
+ * several batches in flight gets them back in as few writes as possible. Clients spread load over cores
+ * by opening several connections. A failed call is answered with its error and does not affect the rest
+ * of its batch; a batch that cannot be read closes the connection.
+ * <p>
+ * The acceptor thread is not a daemon, so a server started from {@code main} keeps the JVM running
+ * until it is {@link #close closed}.
+ */
+@Slf4j
+public final class PricingRpcServer implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PricingService pricingService;
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final int maxBatchSize;
+    private final ServerSocket serverSocket;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    private PricingRpcServer(PricingService pricingService, PricingSnapshotHolder pricingSnapshotHolder,
+                             int maxBatchSize, ServerSocket serverSocket) {
+        this.pricingService = pricingService;
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
+        this.maxBatchSize = maxBatchSize;
+        this.serverSocket = serverSocket;
+    }
+
+    /**
+     * Binds to {@code host}:{@code port} and starts accepting connections.
+     *
+     * @param pricingSnapshotHolder the rules {@code pricingService} prices with, which calls classified by the
+     *                              client are checked against
+     */
+    public static PricingRpcServer start(PricingService pricingService, PricingSnapshotHolder pricingSnapshotHolder,
+                                         String host, int port, int maxBatchSize) throws IOException {
+        ServerSocket serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        try {
+            serverSocket.bind(new InetSocketAddress(host, port));
+        } catch (IOException ex) {
+            serverSocket.close();
+            throw ex;
+        }
+        PricingRpcServer server = new PricingRpcServer(pricingService, pricingSnapshotHolder, maxBatchSize, serverSocket);
+        Thread.ofPlatform().name("pricing-rpc-acceptor").start(server::acceptConnections);
+        log.info("Pricing server listening on {}", serverSocket.getLocalSocketAddress());
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        for (Socket connection : connections) {
+            closeQuietly(connection);
+        }
+    }
+
+    private void acceptConnections() {
+        while (!closed) {
+            try {
+                Socket connection = serverSocket.accept();
+                connection.setTcpNoDelay(true);
+                connections.add(connection);
+                Thread.ofPlatform().daemon().name("pricing-rpc-" + connection.getPort()).start(() -> serve(connection));
+            } catch (IOException ex) {
+                if (!closed) {
+                    log.error("Pricing server failed to accept a connection: {}", ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (connection;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream(), BUFFER_SIZE));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream(), BUFFER_SIZE))) {
+            int magic = in.readInt();
+            if (magic != MAGIC) {
+                throw new ProtocolException("Not a pricing client: " + Integer.toHexString(magic));
+            }
+            while (true) {
+                int callCount;
+                try {
+                    callCount = in.readInt();
+                } catch (EOFException ex) {
+                    return;
+                }
+                if (callCount < 0 || callCount > maxBatchSize) {
+                    throw new ProtocolException("Batch of " + callCount + " calls exceeds " + maxBatchSize);
+                }
+                out.writeInt(callCount);
+                for (int i = 0; i < callCount; i++) {
+                    serveCall(in, out);
+                }
+                // More batches already pipelined are answered before anything is sent
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (SocketException | EOFException ex) {
+            if (!closed) {
+                log.debug("Pricing client {} disconnected: {}", connection.getRemoteSocketAddress(), ex.getMessage());
+            }
+        } catch (IOException ex) {
+            log.warn("Closing pricing client {}: {}", connection.getRemoteSocketAddress(), ex.getMessage());
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    /**
+     * Reads one call, prices it and writes its status and result.
+     * <p>
+     * A call whose arguments cannot be read leaves the stream at an unknown position, so it is never
+     * answered: it fails with {@link ProtocolException}, which as an {@link IOException} passes the
+     * pricing error handlers below and closes the connection. Arguments that were read in full but are
+     * invalid, such as negative counts, are answered with {@code INVALID_ARGUMENT}, as are failures of the
+     * pricing itself.
+     */
+    private void serveCall(DataInputStream in, DataOutputStream out) throws IOException {
+        byte operation = in.readByte();
+        PricingCall call = readCall(operation, in);
+        try {
+            call.answer(out);
+        } catch (PricingRuleException ex) {
+            writeError(out, PRICING_RULE_ERROR, ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            writeError(out, INVALID_ARGUMENT, ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Pricing call {} failed", operation, ex);
+            writeError(out, SERVER_ERROR, ex.toString());
+        }
+    }
+
+    private PricingCall readCall(byte operation, DataInputStream in) throws IOException {
+        try {
+            return switch (operation) {
+                case CALCULATE_TRANSACTION -> {
+                    TicketCounts counts = readTicketCounts(in);
+                    yield out -> {
+                        var transactionPrice = pricingService.calculateTransaction(counts);
+                        out.writeByte(OK);
+                        writeTransactionPrice(out, transactionPrice);
+                    };
+                }
+                case CALCULATE_CLASSIFIED_TRANSACTION -> {
+                    long ageBands = in.readLong();
+                    TicketCounts counts = readTicketCounts(in);
+                    yield out -> {
+                        // Priced against the snapshot whose age bands were checked, even if a reload follows
+                        PricingSnapshot snapshot = pricingSnapshotHolder.current();
+                        if (snapshot.getAgeBandTable().getFingerprint() != ageBands) {
+                            writeError(out, AGE_BANDS_MISMATCH,
+                                    "Customers were classified against other age bands than the pricing server's");
+                            return;
+                        }
+                        var transactionPrice = pricingService.calculateTransaction(snapshot, counts);
+                        out.writeByte(OK);
+                        writeTransactionPrice(out, transactionPrice);
+                    };
+                }
+                case CALCULATE_TRANSACTION_BY_AGE -> {
+                    Map<Integer, Integer> customersByAge = readCustomersByAge(in);
+                    yield out -> {
+                        var transactionPrice = pricingService.calculateTransactionByAge(customersByAge);
+                        out.writeByte(OK);
+                        writeTransactionPrice(out, transactionPrice);
+                    };
+                }
+                case CALCULATE_TICKET_PRICE -> {
+                    TicketType ticketType = readTicketType(in);
+                    TicketCounts counts = readTicketCounts(in);
+                    yield out -> {
+                        var ticketPrice = pricingService.calculateTicketPrice(ticketType, counts.toMap());
+                        out.writeByte(OK);
+                        writeTicketPrice(out, ticketPrice);
+                    };
+                }
+                case GET_TICKET_BASE_PRICE -> {
+                    TicketType ticketType = readTicketType(in);
+                    yield out -> {
+                        var basePrice = pricingService.getTicketBasePrice(ticketType);
+                        out.writeByte(OK);
+                        writeDecimal(out, basePrice);
+                    };
+                }
+                default -> throw new ProtocolException("Unknown operation: " + operation);
+            };
+        } catch (IllegalArgumentException ex) {
+            // Thrown only once the arguments have been read in full, so the stream is still in step
+            return out -> writeError(out, INVALID_ARGUMENT, ex.getMessage());
+        } catch (RuntimeException ex) {
+            throw new ProtocolException("Unreadable pricing call " + operation + ": " + ex);
+        }
+    }
+
+    private static void writeError(DataOutputStream out, byte status, String message) throws IOException {
+        out.writeByte(status);
+        writeNullableString(out, message);
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Already closing
+        }
+    }
+
+    /**
+     * A call whose arguments have been read, ready to be priced and answered.
+     */
+    @FunctionalInterface
+    private interface PricingCall {
+        void answer(DataOutputStream out) throws IOException;
+    }
+}
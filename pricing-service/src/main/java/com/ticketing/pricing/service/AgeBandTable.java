@@ -0,0 +1,127 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.AgeBand;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable age to {@link TicketType} lookup compiled from the configured {@link AgeBand}s.
+ * <p>
+ * Every age up to the highest bounded band has its own slot, and one extra slot holds the open-ended
+ * band, so classification is a single clamped array load however many bands are configured. Without
+ * configured bands the table reproduces {@link com.ticketing.common.util.TicketClassificationUtil}.
+ */
+public final class AgeBandTable {
+
+    /**
+     * Upper limit for band boundaries, which keeps the table small.
+     */
+    static final int MAX_BOUNDED_AGE = 1_000;
+
+    private static final List<AgeBand> DEFAULT_BANDS = List.of(
+            AgeBand.builder().ticketType(TicketType.CHILD).maxAge(10).build(),
+            AgeBand.builder().ticketType(TicketType.TEEN).maxAge(17).build(),
+            AgeBand.builder().ticketType(TicketType.ADULT).maxAge(64).build(),
+            AgeBand.builder().ticketType(TicketType.SENIOR).build()
+    );
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final TicketType[] ticketTypesByAge;
+    private final int lastIndex;
+    private final long fingerprint;
+
+    private AgeBandTable(TicketType[] ticketTypesByAge) {
+        this.ticketTypesByAge = ticketTypesByAge;
+        this.lastIndex = ticketTypesByAge.length - 1;
+        this.fingerprint = fingerprint(ticketTypesByAge);
+    }
+
+    public static AgeBandTable compile(List<AgeBand> bands) {
+        List<AgeBand> effective = bands == null || bands.isEmpty() ? DEFAULT_BANDS : bands;
+
+        int lastBand = effective.size() - 1;
+        int previousMaxAge = -1;
+        for (int i = 0; i < lastBand; i++) {
+            AgeBand band = requireTicketType(effective.get(i));
+            Integer maxAge = band.getMaxAge();
+            if (maxAge == null) {
+                throw new PricingRuleException("Only the last age band may omit maxAge, found one for " + band.getTicketType());
+            }
+            if (maxAge <= previousMaxAge || maxAge > MAX_BOUNDED_AGE) {
+                throw new PricingRuleException("Invalid maxAge for age band " + band.getTicketType() + ": " + maxAge
+                        + " (must be above " + previousMaxAge + " and at most " + MAX_BOUNDED_AGE + ")");
+            }
+            previousMaxAge = maxAge;
+        }
+        AgeBand openBand = requireTicketType(effective.get(lastBand));
+        if (openBand.getMaxAge() != null) {
+            throw new PricingRuleException("The last age band must omit maxAge so that every age is covered");
+        }
+
+        TicketType[] ticketTypesByAge = new TicketType[previousMaxAge + 2];
+        int age = 0;
+        for (int i = 0; i < lastBand; i++) {
+            AgeBand band = effective.get(i);
+            for (; age <= band.getMaxAge(); age++) {
+                ticketTypesByAge[age] = band.getTicketType();
+            }
+        }
+        ticketTypesByAge[age] = openBand.getTicketType();
+
+        return new AgeBandTable(ticketTypesByAge);
+    }
+
+    /**
+     * Classifies a non-negative age. Ages beyond the last bounded band share the final slot.
+     */
+    public TicketType classify(int age) {
+        return ticketTypesByAge[Math.min(age, lastIndex)];
+    }
+
+    /**
+     * Classifies customers given as the number of customers of each age, one lookup per distinct age.
+     *
+     * @throws IllegalArgumentException if an age or a count is negative
+     */
+    public TicketCounts tally(Map<Integer, Integer> customersByAge) {
+        TicketCounts counts = new TicketCounts();
+        customersByAge.forEach((age, count) -> {
+            if (age == null || age < 0 || count == null || count < 0) {
+                throw new IllegalArgumentException("Invalid age histogram entry: " + age + "=" + count);
+            }
+            counts.add(classify(age), count);
+        });
+        return counts;
+    }
+
+    /**
+     * Identifies how this table classifies ages: tables compiled from bands that classify every age alike have
+     * the same fingerprint, in any process, so a remote pricer can tell whether it would classify customers
+     * as they were classified here.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    private static long fingerprint(TicketType[] ticketTypesByAge) {
+        // FNV-1a over the ticket type ordinals, one slot per age
+        long hash = FNV_OFFSET_BASIS;
+        for (TicketType ticketType : ticketTypesByAge) {
+            hash = (hash ^ ticketType.ordinal()) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static AgeBand requireTicketType(AgeBand band) {
+        if (band == null || band.getTicketType() == null) {
+            throw new PricingRuleException("Age band is missing a ticket type");
+        }
+        return band;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.common.util.FixedPointPriceUtil;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.PricingRule;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Immutable base price lookup indexed by {@link TicketType} ordinal.
+ * <p>
+ * Prices are converted to minor units once when the table is compiled. When several rules target the
+ * same ticket type, the first one wins.
+ */
+public final class BasePriceTable {
+
+    private static final int TICKET_TYPE_COUNT = TicketType.values().length;
+
+    private final BigDecimal[] basePrices;
+    private final long[] basePricesMinor;
+
+    private BasePriceTable(BigDecimal[] basePrices, long[] basePricesMinor) {
+        this.basePrices = basePrices;
+        this.basePricesMinor = basePricesMinor;
+    }
+
+    public static BasePriceTable compile(List<PricingRule> rules) {
+        BigDecimal[] basePrices = new BigDecimal[TICKET_TYPE_COUNT];
+        long[] basePricesMinor = new long[TICKET_TYPE_COUNT];
+
+        if (rules != null) {
+            for (PricingRule rule : rules) {
+                if (rule == null || rule.getTicketType() == null || rule.getBasePrice() == null) {
+                    continue;
+                }
+                int ordinal = rule.getTicketType().ordinal();
+                if (basePrices[ordinal] != null) {
+                    continue;
+                }
+                try {
+                    basePricesMinor[ordinal] = FixedPointPriceUtil.toMinorUnits(rule.getBasePrice());
+                } catch (ArithmeticException e) {
+                    throw new PricingRuleException("Unsupported base price for ticket type "
+                            + rule.getTicketType() + ": " + rule.getBasePrice());
+                }
+                basePrices[ordinal] = rule.getBasePrice();
+            }
+        }
+
+        return new BasePriceTable(basePrices, basePricesMinor);
+    }
+
+    /**
+     * Returns the configured base price, or {@code null} if there is no rule for the ticket type.
+     */
+    public BigDecimal basePrice(TicketType ticketType) {
+        return ticketType == null ? null : basePrices[ticketType.ordinal()];
+    }
+
+    /**
+     * Returns the configured base price in minor units. Only meaningful if {@link #contains} is true.
+     */
+    public long basePriceMinor(TicketType ticketType) {
+        return basePricesMinor[ticketType.ordinal()];
+    }
+
+    public boolean contains(TicketType ticketType) {
+        return basePrice(ticketType) != null;
+    }
+}
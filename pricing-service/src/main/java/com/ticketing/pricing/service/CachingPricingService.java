@@ -0,0 +1,133 @@
+package com.ticketing.pricing.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.config.QuoteCacheProperties;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * {@link PricingService} decorator that memoizes whole-transaction quotes.
+ * <p>
+ * A transaction price depends only on its per-type ticket counts, so quotes are cached under the count
+ * vector packed into a single {@code long}. Counts too large to pack bypass the cache. The cache is
+ * cleared by the publishing thread whenever a new {@link PricingSnapshot} is published, and every entry
+ * remembers the snapshot it was priced against so that a quote computed concurrently with a rule swap is
+ * never served afterwards. Cached results are shared between callers and must be treated as read-only.
+ * <p>
+ * Not used by a ticket service that prices remotely ({@code pricing.client.enabled}): it could not see the
+ * pricing server reload its rules, and the server caches quotes itself.
+ */
+@Service
+@Primary
+@Slf4j
+@ConditionalOnProperty(prefix = "pricing.quote-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(prefix = "pricing.client", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class CachingPricingService implements PricingService {
+
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+    private static final int BITS_PER_TYPE = Long.SIZE / TICKET_TYPES.length;
+    private static final long MAX_PACKED_COUNT = (1L << BITS_PER_TYPE) - 1;
+    private static final long UNCACHEABLE = -1L;
+
+    private final PricingServiceImpl delegate;
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final Cache<Long, CachedQuote> quotes;
+
+    public CachingPricingService(PricingServiceImpl delegate, PricingSnapshotHolder pricingSnapshotHolder,
+                                 QuoteCacheProperties quoteCacheProperties) {
+        this.delegate = delegate;
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
+        this.quotes = Caffeine.newBuilder()
+                .maximumSize(quoteCacheProperties.getMaximumSize())
+                .recordStats()
+                .build();
+        pricingSnapshotHolder.addPublishListener(this::invalidate);
+        log.info("Quote cache enabled with a maximum size of {} entries.", quoteCacheProperties.getMaximumSize());
+    }
+
+    @Override
+    public PriceCalculationResult calculateTicketPrice(TicketType ticketType, Map<TicketType, Integer> counts) {
+        return delegate.calculateTicketPrice(ticketType, counts);
+    }
+
+    @Override
+    public BigDecimal getTicketBasePrice(TicketType ticketType) {
+        return delegate.getTicketBasePrice(ticketType);
+    }
+
+    @Override
+    public TransactionPriceResult calculateTransaction(TicketCounts counts) {
+        return calculateTransaction(pricingSnapshotHolder.current(), counts);
+    }
+
+    /**
+     * Only quotes against the current snapshot are cached; a caller still holding an older one is priced
+     * against it directly.
+     */
+    @Override
+    public TransactionPriceResult calculateTransaction(PricingSnapshot snapshot, TicketCounts counts) {
+        long key = pack(counts);
+        if (key == UNCACHEABLE || snapshot != pricingSnapshotHolder.current()) {
+            return delegate.calculateTransaction(snapshot, counts);
+        }
+        CachedQuote quote = quotes.get(key, ignored -> new CachedQuote(snapshot, delegate.calculateTransaction(snapshot, counts)));
+        if (quote.snapshot() != snapshot) {
+            // Loaded while the rules were being swapped, so it was priced against older rules
+            quote = new CachedQuote(snapshot, delegate.calculateTransaction(snapshot, counts));
+            quotes.put(key, quote);
+        }
+        return quote.result();
+    }
+
+    /**
+     * Tallies the ages against the current bands, so the quote is cached under the resulting count vector.
+     */
+    @Override
+    public TransactionPriceResult calculateTransactionByAge(Map<Integer, Integer> customersByAge) {
+        PricingSnapshot snapshot = pricingSnapshotHolder.current();
+        return calculateTransaction(snapshot, snapshot.getAgeBandTable().tally(customersByAge));
+    }
+
+    /**
+     * Exposes the underlying cache so that its statistics can be bound to a meter registry.
+     */
+    public Cache<Long, CachedQuote> getCache() {
+        return quotes;
+    }
+
+    private void invalidate(PricingSnapshot snapshot) {
+        quotes.invalidateAll();
+        log.info("Pricing snapshot version {} published, quote cache invalidated.", snapshot.getVersion());
+    }
+
+    /**
+     * Packs the per-type counts into one {@code long}, or returns {@link #UNCACHEABLE} if any count does not fit.
+     */
+    static long pack(TicketCounts counts) {
+        long key = 0;
+        for (TicketType ticketType : TICKET_TYPES) {
+            int count = counts.get(ticketType);
+            if (count < 0 || count > MAX_PACKED_COUNT) {
+                return UNCACHEABLE;
+            }
+            key |= (long) count << (ticketType.ordinal() * BITS_PER_TYPE);
+        }
+        return key;
+    }
+
+    /**
+     * A cached quote together with the snapshot that was current when it was requested.
+     */
+    public record CachedQuote(PricingSnapshot snapshot, TransactionPriceResult result) {
+    }
+}
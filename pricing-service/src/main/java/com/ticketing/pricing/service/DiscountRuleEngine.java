@@ -8,4 +8,14 @@ import java.util.Map;
 
 public interface DiscountRuleEngine {
     PriceCalculationResult applyDiscounts(TicketType ticketType, BigDecimal basePrice, Map<TicketType, Integer> counts);
+
+    /**
+     * Applies the discount rules of the given snapshot to pre-computed transaction aggregates, so that every
+     * ticket type in a transaction is priced against the same rule version without rebuilding a count map.
+     *
+     * @param typeQuantity  number of tickets of {@code ticketType} in the transaction
+     * @param totalQuantity number of tickets of all types in the transaction
+     */
+    PriceCalculationResult applyDiscounts(PricingSnapshot snapshot, TicketType ticketType, BigDecimal basePrice,
+                                          int typeQuantity, int totalQuantity);
 }
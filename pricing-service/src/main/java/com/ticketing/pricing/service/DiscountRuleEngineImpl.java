@@ -1,7 +1,6 @@
 package com.ticketing.pricing.service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -9,77 +8,96 @@ import java.util.Map;
 import org.springframework.stereotype.Service;
 
 import com.ticketing.common.model.TicketType;
-import com.ticketing.pricing.config.PricingConfiguration;
-import com.ticketing.pricing.model.DiscountCondition;
-import com.ticketing.pricing.model.DiscountRule;
+import com.ticketing.common.util.FixedPointPriceUtil;
+import com.ticketing.pricing.exception.PricingRuleException;
 import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.service.DiscountRulePlan.CompiledRule;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class DiscountRuleEngineImpl implements DiscountRuleEngine {
 
-    private final PricingConfiguration pricingConfiguration;
-    private static final RoundingMode PRICE_ROUNDING_MODE = RoundingMode.HALF_UP;
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final PricingMetrics pricingMetrics;
 
-    public DiscountRuleEngineImpl(PricingConfiguration pricingConfiguration) {
-        this.pricingConfiguration = pricingConfiguration;
+    public DiscountRuleEngineImpl(PricingSnapshotHolder pricingSnapshotHolder, PricingMetrics pricingMetrics) {
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
+        this.pricingMetrics = pricingMetrics;
     }
 
     @Override
     public PriceCalculationResult applyDiscounts(TicketType ticketType, BigDecimal basePrice, Map<TicketType, Integer> counts) {
-        List<String> appliedDiscounts = new ArrayList<>();
-        BigDecimal finalPrice = basePrice;
-        BigDecimal totalDiscount = BigDecimal.ZERO.setScale(2, PRICE_ROUNDING_MODE);
+        DiscountRulePlan plan = pricingSnapshotHolder.current().getDiscountRulePlan();
+        int typeQuantity = counts.getOrDefault(ticketType, 0);
+        int totalQuantity = plan.hasGroupRules() ? totalQuantity(counts) : 0;
+        return applyDiscounts(plan, ticketType, basePrice, typeQuantity, totalQuantity);
+    }
 
-        for (DiscountRule rule : pricingConfiguration.getDiscounts()) {
-            if (!rule.isEnabled()) {
-                continue;
-            }
+    @Override
+    public PriceCalculationResult applyDiscounts(PricingSnapshot snapshot, TicketType ticketType, BigDecimal basePrice,
+                                                 int typeQuantity, int totalQuantity) {
+        return applyDiscounts(snapshot.getDiscountRulePlan(), ticketType, basePrice, typeQuantity, totalQuantity);
+    }
 
-            if (isDiscountApplicable(rule, ticketType, counts)) {
-                BigDecimal discountAmount = calculateDiscountAmount(finalPrice, rule.getDiscountPercentage());
-                finalPrice = finalPrice.subtract(discountAmount);
-                totalDiscount = totalDiscount.add(discountAmount);
-                appliedDiscounts.add(rule.getName());
-            }
+    private PriceCalculationResult applyDiscounts(DiscountRulePlan plan, TicketType ticketType, BigDecimal basePrice,
+                                                  int typeQuantity, int totalQuantity) {
+        CompiledRule[] rules = plan.applicableRules(ticketType, typeQuantity, totalQuantity);
+        pricingMetrics.recordDiscounts(plan, ticketType, rules);
+        return price(rules, ticketType, basePrice, typeQuantity);
+    }
+
+    /**
+     * Prices {@code typeQuantity} tickets by compounding {@code rules} in order onto the base price.
+     */
+    static PriceCalculationResult price(CompiledRule[] rules, TicketType ticketType, BigDecimal basePrice,
+                                        int typeQuantity) {
+        List<String> appliedDiscounts = new ArrayList<>(rules.length);
+        List<Long> appliedDiscountAmountsMinor = new ArrayList<>(rules.length);
+        long basePriceMinor = toMinorUnits(ticketType, basePrice);
+        long finalPriceMinor = basePriceMinor;
+        long totalDiscountMinor = 0;
+
+        for (int i = 0; i < rules.length; i++) {
+            CompiledRule rule = rules[i];
+            long discountAmountMinor = FixedPointPriceUtil.percentageOf(finalPriceMinor, rule.discountBasisPoints());
+            finalPriceMinor -= discountAmountMinor;
+            totalDiscountMinor += discountAmountMinor;
+            appliedDiscounts.add(rule.name());
+            appliedDiscountAmountsMinor.add(discountAmountMinor);
         }
 
+        long totalCostMinor = Math.multiplyExact(finalPriceMinor, (long) typeQuantity);
+
         return PriceCalculationResult.builder()
                 .ticketType(ticketType)
+                .quantity(typeQuantity)
                 .basePrice(basePrice)
-                .finalPrice(finalPrice)
-                .discountAmount(totalDiscount)
+                .finalPrice(rules.length == 0 ? basePrice : FixedPointPriceUtil.toAmount(finalPriceMinor))
+                .discountAmount(FixedPointPriceUtil.toAmount(totalDiscountMinor))
                 .appliedDiscounts(appliedDiscounts)
+                .appliedDiscountAmountsMinor(appliedDiscountAmountsMinor)
+                .finalPriceMinor(finalPriceMinor)
+                .discountAmountMinor(totalDiscountMinor)
+                .totalCost(FixedPointPriceUtil.toAmount(totalCostMinor))
+                .totalCostMinor(totalCostMinor)
                 .build();
     }
 
-    private boolean isDiscountApplicable(DiscountRule rule, TicketType ticketType, Map<TicketType, Integer> counts) {
-        if (rule.getCondition() == DiscountCondition.GROUP_DISCOUNT) {
-            // For GROUP_DISCOUNT, count all tickets regardless of type
-            int totalQuantity = counts.values().stream().mapToInt(Integer::intValue).sum();
-            return totalQuantity >= rule.getMinQuantity(); // Group discount applies for more than 5 tickets
+    private int totalQuantity(Map<TicketType, Integer> counts) {
+        // For GROUP_DISCOUNT, count all tickets regardless of type
+        int total = 0;
+        for (Integer count : counts.values()) {
+            total += count;
         }
-
-        // Check if the discount applies to this ticket type for non-GROUP_DISCOUNT rules
-        if (rule.getApplicableTicketType() != null && !rule.getApplicableTicketType().equals(ticketType)) {
-            return false;
-        }
-
-        if (rule.getCondition() == DiscountCondition.MIN_QUANTITY) {
-            // For MIN_QUANTITY, only count tickets of the applicable type
-            int relevantQuantity = counts.getOrDefault(rule.getApplicableTicketType(), 0);
-            return relevantQuantity >= rule.getMinQuantity();
-        } else if (rule.getCondition() == DiscountCondition.TICKET_TYPE) {
-            // For TICKET_TYPE, just check if the ticket type matches
-            return rule.getApplicableTicketType() == ticketType;
-        }
-
-        return false;
+        return total;
     }
 
-    private BigDecimal calculateDiscountAmount(BigDecimal price, BigDecimal discountPercentage) {
-        return price.multiply(discountPercentage)
-                .divide(new BigDecimal("100"), 2, PRICE_ROUNDING_MODE);
+    private static long toMinorUnits(TicketType ticketType, BigDecimal basePrice) {
+        try {
+            return FixedPointPriceUtil.toMinorUnits(basePrice);
+        } catch (ArithmeticException e) {
+            throw new PricingRuleException("Unsupported base price for ticket type " + ticketType + ": " + basePrice);
+        }
     }
 }
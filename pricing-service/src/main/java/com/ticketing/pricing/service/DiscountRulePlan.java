@@ -0,0 +1,226 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.common.util.FixedPointPriceUtil;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.DiscountRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, pre-indexed view of the configured discount rules.
+ * <p>
+ * Disabled rules are dropped at compile time and the remaining rules are bucketed by ticket type.
+ * {@code MIN_QUANTITY} and {@code GROUP_DISCOUNT} rules are kept sorted by their threshold, so the
+ * applicable rules for a quantity are always a prefix of the bucket found by binary search. Rules are
+ * still applied in configuration order, which matters because each discount compounds on the
+ * previously discounted price.
+ */
+public final class DiscountRulePlan {
+
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+    private static final CompiledRule[] NO_RULES = new CompiledRule[0];
+    private static final int[] NO_THRESHOLDS = new int[0];
+    private static final Comparator<CompiledRule> BY_THRESHOLD =
+            Comparator.comparingInt(CompiledRule::threshold).thenComparingInt(CompiledRule::order);
+    private static final Comparator<CompiledRule> BY_ORDER = Comparator.comparingInt(CompiledRule::order);
+
+    private final int activeRuleCount;
+    private final List<CompiledRule> compiledRules;
+
+    // Indexed by TicketType ordinal
+    private final CompiledRule[][] unconditionalRules;
+    private final CompiledRule[][] quantityRules;
+    private final int[][] quantityThresholds;
+
+    private final CompiledRule[] groupRules;
+    private final int[] groupThresholds;
+
+    private DiscountRulePlan(int activeRuleCount, List<CompiledRule> compiledRules,
+                             CompiledRule[][] unconditionalRules, CompiledRule[][] quantityRules,
+                             CompiledRule[] groupRules) {
+        this.activeRuleCount = activeRuleCount;
+        this.compiledRules = compiledRules;
+        this.unconditionalRules = unconditionalRules;
+        this.quantityRules = quantityRules;
+        this.quantityThresholds = new int[quantityRules.length][];
+        for (int i = 0; i < quantityRules.length; i++) {
+            this.quantityThresholds[i] = thresholdsOf(quantityRules[i]);
+        }
+        this.groupRules = groupRules;
+        this.groupThresholds = thresholdsOf(groupRules);
+    }
+
+    public static DiscountRulePlan compile(List<DiscountRule> discounts) {
+        List<DiscountRule> rules = discounts == null ? List.of() : discounts;
+
+        List<List<CompiledRule>> unconditional = newBuckets();
+        List<List<CompiledRule>> quantity = newBuckets();
+        List<CompiledRule> group = new ArrayList<>();
+        List<CompiledRule> compiledRules = new ArrayList<>();
+        int active = 0;
+
+        for (int order = 0; order < rules.size(); order++) {
+            DiscountRule rule = rules.get(order);
+            if (rule == null || !rule.isEnabled() || rule.getCondition() == null) {
+                continue;
+            }
+            active++;
+
+            TicketType applicableType = rule.getApplicableTicketType();
+            switch (rule.getCondition()) {
+                case GROUP_DISCOUNT -> {
+                    CompiledRule compiled = new CompiledRule(order, rule.getName(), null, discountBasisPoints(rule), requireMinQuantity(rule));
+                    group.add(compiled);
+                    compiledRules.add(compiled);
+                }
+                case MIN_QUANTITY -> {
+                    int minQuantity = requireMinQuantity(rule);
+                    if (applicableType != null) {
+                        CompiledRule compiled = new CompiledRule(order, rule.getName(), applicableType, discountBasisPoints(rule), minQuantity);
+                        quantity.get(applicableType.ordinal()).add(compiled);
+                        compiledRules.add(compiled);
+                    } else if (minQuantity <= 0) {
+                        // An untyped MIN_QUANTITY rule counts zero tickets, so it only ever matches a non-positive threshold
+                        CompiledRule compiled = new CompiledRule(order, rule.getName(), null, discountBasisPoints(rule), 0);
+                        unconditional.forEach(bucket -> bucket.add(compiled));
+                        compiledRules.add(compiled);
+                    }
+                }
+                case TICKET_TYPE -> {
+                    if (applicableType != null) {
+                        CompiledRule compiled = new CompiledRule(order, rule.getName(), applicableType, discountBasisPoints(rule), 0);
+                        unconditional.get(applicableType.ordinal()).add(compiled);
+                        compiledRules.add(compiled);
+                    }
+                }
+            }
+        }
+
+        CompiledRule[][] unconditionalRules = new CompiledRule[TICKET_TYPES.length][];
+        CompiledRule[][] quantityRules = new CompiledRule[TICKET_TYPES.length][];
+        for (int i = 0; i < TICKET_TYPES.length; i++) {
+            unconditionalRules[i] = toArray(unconditional.get(i));
+            quantityRules[i] = toArray(quantity.get(i));
+            Arrays.sort(quantityRules[i], BY_THRESHOLD);
+        }
+        CompiledRule[] groupRules = toArray(group);
+        Arrays.sort(groupRules, BY_THRESHOLD);
+
+        return new DiscountRulePlan(active, List.copyOf(compiledRules), unconditionalRules, quantityRules, groupRules);
+    }
+
+    /**
+     * Returns the rules that apply to {@code ticketType}, in configuration order.
+     *
+     * @param ticketType    the ticket type being priced
+     * @param typeQuantity  number of tickets of {@code ticketType} in the transaction
+     * @param totalQuantity number of tickets of all types in the transaction
+     */
+    public CompiledRule[] applicableRules(TicketType ticketType, int typeQuantity, int totalQuantity) {
+        int ordinal = ticketType.ordinal();
+        CompiledRule[] always = unconditionalRules[ordinal];
+        int quantityMatches = countAtMost(quantityThresholds[ordinal], typeQuantity);
+        int groupMatches = countAtMost(groupThresholds, totalQuantity);
+
+        if (quantityMatches == 0 && groupMatches == 0) {
+            return always;
+        }
+
+        CompiledRule[] matched = new CompiledRule[always.length + quantityMatches + groupMatches];
+        System.arraycopy(always, 0, matched, 0, always.length);
+        System.arraycopy(quantityRules[ordinal], 0, matched, always.length, quantityMatches);
+        System.arraycopy(groupRules, 0, matched, always.length + quantityMatches, groupMatches);
+        Arrays.sort(matched, BY_ORDER);
+        return matched;
+    }
+
+    public boolean hasGroupRules() {
+        return groupRules.length > 0;
+    }
+
+    public int getActiveRuleCount() {
+        return activeRuleCount;
+    }
+
+    /**
+     * Returns every rule that can apply to some quote, in configuration order.
+     */
+    public List<CompiledRule> getCompiledRules() {
+        return compiledRules;
+    }
+
+    /**
+     * Number of leading thresholds that are {@code <= quantity}.
+     */
+    private static int countAtMost(int[] thresholds, int quantity) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= quantity) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int requireMinQuantity(DiscountRule rule) {
+        if (rule.getMinQuantity() == null) {
+            throw new PricingRuleException("Discount rule '" + rule.getName() + "' with condition "
+                    + rule.getCondition() + " requires a minQuantity");
+        }
+        return rule.getMinQuantity();
+    }
+
+    private static int discountBasisPoints(DiscountRule rule) {
+        if (rule.getDiscountPercentage() == null) {
+            throw new PricingRuleException("Discount rule '" + rule.getName() + "' requires a discountPercentage");
+        }
+        try {
+            return FixedPointPriceUtil.toBasisPoints(rule.getDiscountPercentage());
+        } catch (ArithmeticException e) {
+            throw new PricingRuleException("Discount rule '" + rule.getName() + "' has an unsupported discountPercentage: "
+                    + rule.getDiscountPercentage());
+        }
+    }
+
+    private static List<List<CompiledRule>> newBuckets() {
+        List<List<CompiledRule>> buckets = new ArrayList<>(TICKET_TYPES.length);
+        for (int i = 0; i < TICKET_TYPES.length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        return buckets;
+    }
+
+    private static CompiledRule[] toArray(List<CompiledRule> rules) {
+        return rules.isEmpty() ? NO_RULES : rules.toArray(new CompiledRule[0]);
+    }
+
+    private static int[] thresholdsOf(CompiledRule[] rules) {
+        if (rules.length == 0) {
+            return NO_THRESHOLDS;
+        }
+        int[] thresholds = new int[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            thresholds[i] = rules[i].threshold();
+        }
+        return thresholds;
+    }
+
+    /**
+     * A single enabled discount rule, reduced to what the engine needs at quote time.
+     *
+     * @param order               position of the rule in the configured discount list
+     * @param ticketType          ticket type the rule is restricted to, {@code null} if it can apply to any type
+     * @param discountBasisPoints discount percentage in basis points
+     * @param threshold           minimum quantity for quantity based rules, {@code 0} otherwise
+     */
+    public record CompiledRule(int order, String name, TicketType ticketType, int discountBasisPoints, int threshold) {
+    }
+}
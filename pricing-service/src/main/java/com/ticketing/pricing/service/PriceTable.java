@@ -0,0 +1,195 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.service.DiscountRulePlan.CompiledRule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+
+/**
+ * Every transaction of up to {@code maxCustomers} tickets, priced ahead of time.
+ * <p>
+ * A price depends only on the per-type counts, so the table enumerates every count vector whose total is
+ * within the bound and stores its total cost in a {@code long[]} indexed by the vector's rank in the
+ * combinatorial number system: with the running sums {@code s_i} of the counts, the rank is
+ * {@code sum(C(s_i + i, i + 1))}, a bijection onto {@code [0, C(maxCustomers + k, k))} for {@code k}
+ * ticket types. The per-type breakdown depends only on the type, its quantity and the transaction total,
+ * so those line items are shared in a much smaller second table. Both are computed with the same
+ * arithmetic as {@link DiscountRuleEngineImpl}.
+ * <p>
+ * Vectors that include a ticket type without a base price are left out, so those transactions still
+ * reach the rule engine and fail there as before.
+ */
+@Slf4j
+public final class PriceTable {
+
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+    private static final int K = TICKET_TYPES.length;
+    private static final long NOT_PRICED = -1L;
+
+    /**
+     * Keeps the table within a few tens of megabytes; it grows with the fourth power of the bound.
+     */
+    static final int MAX_CUSTOMERS_LIMIT = 100;
+
+    static final PriceTable DISABLED = new PriceTable(-1, new int[0][], new long[0], new PriceCalculationResult[0],
+            new CompiledRule[0][]);
+
+    private final int maxCustomers;
+    private final int[][] binomials;
+    private final long[] totalCostsMinor;
+    private final PriceCalculationResult[] lineItems;
+    private final CompiledRule[][] lineItemRules;
+
+    private PriceTable(int maxCustomers, int[][] binomials, long[] totalCostsMinor,
+                       PriceCalculationResult[] lineItems, CompiledRule[][] lineItemRules) {
+        this.maxCustomers = maxCustomers;
+        this.binomials = binomials;
+        this.totalCostsMinor = totalCostsMinor;
+        this.lineItems = lineItems;
+        this.lineItemRules = lineItemRules;
+    }
+
+    public static PriceTable build(BasePriceTable basePriceTable, DiscountRulePlan discountRulePlan, int maxCustomers) {
+        if (maxCustomers <= 0) {
+            return DISABLED;
+        }
+        if (maxCustomers > MAX_CUSTOMERS_LIMIT) {
+            throw new PricingRuleException("Price table size bound " + maxCustomers + " exceeds the limit of "
+                    + MAX_CUSTOMERS_LIMIT + " customers");
+        }
+        long start = System.nanoTime();
+
+        int[][] binomials = binomials(maxCustomers + K, K);
+        int size = maxCustomers + 1;
+        PriceCalculationResult[] lineItems = new PriceCalculationResult[K * size * size];
+        CompiledRule[][] lineItemRules = new CompiledRule[lineItems.length][];
+        for (TicketType ticketType : TICKET_TYPES) {
+            BigDecimal basePrice = basePriceTable.basePrice(ticketType);
+            if (basePrice == null) {
+                continue;
+            }
+            for (int totalQuantity = 1; totalQuantity <= maxCustomers; totalQuantity++) {
+                for (int quantity = 1; quantity <= totalQuantity; quantity++) {
+                    int item = lineItemIndex(maxCustomers, ticketType, quantity, totalQuantity);
+                    CompiledRule[] rules = discountRulePlan.applicableRules(ticketType, quantity, totalQuantity);
+                    lineItemRules[item] = rules;
+                    lineItems[item] = DiscountRuleEngineImpl.price(rules, ticketType, basePrice, quantity);
+                }
+            }
+        }
+
+        PriceTable table = new PriceTable(maxCustomers, binomials, new long[binomials[maxCustomers + K][K]],
+                lineItems, lineItemRules);
+        table.fillTotals(new int[K], 0, 0, new TicketCounts());
+
+        log.info("Built price table for up to {} customers: {} transaction totals ({} KB) and {} line items in {} ms.",
+                maxCustomers, table.totalCostsMinor.length, table.totalCostsMinor.length * Long.BYTES / 1024,
+                lineItems.length, (System.nanoTime() - start) / 1_000_000);
+        return table;
+    }
+
+    /**
+     * Whether a transaction of {@code totalQuantity} tickets is within the table's bound.
+     */
+    public boolean covers(int totalQuantity) {
+        return totalQuantity >= 0 && totalQuantity <= maxCustomers;
+    }
+
+    /**
+     * Returns the total cost in minor units, or a negative value if the transaction cannot be priced from
+     * the table, including when a count is negative. Only valid if {@link #covers} is true for
+     * {@code counts.total()}.
+     */
+    public long totalCostMinor(TicketCounts counts) {
+        for (TicketType ticketType : TICKET_TYPES) {
+            if (counts.get(ticketType) < 0) {
+                return NOT_PRICED;
+            }
+        }
+        return totalCostsMinor[rank(counts)];
+    }
+
+    /**
+     * The priced line for {@code quantity} tickets of {@code ticketType} in a transaction of {@code totalQuantity}.
+     * Shared between callers, which is safe because results are immutable.
+     */
+    public PriceCalculationResult lineItem(TicketType ticketType, int quantity, int totalQuantity) {
+        return lineItems[lineItemIndex(maxCustomers, ticketType, quantity, totalQuantity)];
+    }
+
+    /**
+     * The discount rules applied to {@link #lineItem}, for metrics.
+     */
+    CompiledRule[] lineItemRules(TicketType ticketType, int quantity, int totalQuantity) {
+        return lineItemRules[lineItemIndex(maxCustomers, ticketType, quantity, totalQuantity)];
+    }
+
+    public int getMaxCustomers() {
+        return Math.max(maxCustomers, 0);
+    }
+
+    public int size() {
+        return totalCostsMinor.length;
+    }
+
+    int rank(TicketCounts counts) {
+        int rank = 0;
+        int runningSum = 0;
+        for (int i = 0; i < K; i++) {
+            runningSum += counts.get(TICKET_TYPES[i]);
+            rank += binomials[runningSum + i][i + 1];
+        }
+        return rank;
+    }
+
+    private void fillTotals(int[] counts, int position, int total, TicketCounts scratch) {
+        if (position == K) {
+            scratch.clear();
+            for (int i = 0; i < K; i++) {
+                scratch.add(TICKET_TYPES[i], counts[i]);
+            }
+            totalCostsMinor[rank(scratch)] = sumLineItems(counts, total);
+            return;
+        }
+        for (int count = 0; total + count <= maxCustomers; count++) {
+            counts[position] = count;
+            fillTotals(counts, position + 1, total + count, scratch);
+        }
+        counts[position] = 0;
+    }
+
+    private long sumLineItems(int[] counts, int total) {
+        long totalCostMinor = 0;
+        for (int i = 0; i < K; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            PriceCalculationResult item = lineItem(TICKET_TYPES[i], counts[i], total);
+            if (item == null) {
+                return NOT_PRICED;
+            }
+            totalCostMinor += item.getTotalCostMinor();
+        }
+        return totalCostMinor;
+    }
+
+    private static int lineItemIndex(int maxCustomers, TicketType ticketType, int quantity, int totalQuantity) {
+        int size = maxCustomers + 1;
+        return (ticketType.ordinal() * size + quantity) * size + totalQuantity;
+    }
+
+    private static int[][] binomials(int maxN, int maxK) {
+        int[][] binomials = new int[maxN + 1][maxK + 1];
+        for (int n = 0; n <= maxN; n++) {
+            binomials[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, maxK); k++) {
+                binomials[n][k] = Math.addExact(binomials[n - 1][k - 1], binomials[n - 1][k]);
+            }
+        }
+        return binomials;
+    }
+}
@@ -0,0 +1,193 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.service.DiscountRulePlan.CompiledRule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Meters for the pricing hot path.
+ * <p>
+ * Per ticket type meters are registered up front and per rule meters once for each discount rule plan.
+ * Both are held in arrays indexed by ticket type ordinal or rule position, so recording a quote never
+ * looks up a meter or builds tags. A rule counts as evaluated whenever a ticket type it can apply to is
+ * priced, so a quote only counts its ticket type once per plan and each rule's evaluation count is derived
+ * when it is read, from the counts of the types the rule applies to. That derivation is held per rule name
+ * and re-pointed at every new plan, so the count carries over when a plan changes what the rule applies to,
+ * and starts over only if the rule is removed and added back.
+ */
+@Component
+public class PricingMetrics {
+
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[] ticketPricingTimers = new Timer[TICKET_TYPES.length];
+    private final ReentrantLock registrationLock = new ReentrantLock();
+    private final Map<String, RuleEvaluations> ruleEvaluations = new HashMap<>();
+
+    private volatile RuleMeters ruleMeters;
+
+    public PricingMetrics(MeterRegistry meterRegistry, PricingSnapshotHolder pricingSnapshotHolder) {
+        this.meterRegistry = meterRegistry;
+        for (TicketType ticketType : TICKET_TYPES) {
+            ticketPricingTimers[ticketType.ordinal()] = Timer.builder("pricing.tickets")
+                    .description("Time to price all tickets of one type in a transaction")
+                    .tag("ticket.type", ticketType.name())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100))
+                    .maximumExpectedValue(Duration.ofMillis(100))
+                    .register(meterRegistry);
+        }
+        Gauge.builder("pricing.discount.rules.active", pricingSnapshotHolder,
+                        holder -> holder.current().getDiscountRulePlan().getActiveRuleCount())
+                .description("Enabled discount rules in the current pricing snapshot")
+                .register(meterRegistry);
+    }
+
+    public void recordTicketPricing(TicketType ticketType, long durationNanos) {
+        ticketPricingTimers[ticketType.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records that {@code ticketType} was evaluated against {@code plan} and that {@code appliedRules} matched.
+     */
+    public void recordDiscounts(DiscountRulePlan plan, TicketType ticketType, CompiledRule[] appliedRules) {
+        RuleMeters meters = ruleMeters(plan);
+        meters.evaluations()[ticketType.ordinal()].increment();
+        Counter[] hits = meters.hits();
+        for (CompiledRule rule : appliedRules) {
+            hits[rule.order()].increment();
+        }
+    }
+
+    private RuleMeters ruleMeters(DiscountRulePlan plan) {
+        RuleMeters current = ruleMeters;
+        if (current != null && current.plan() == plan) {
+            return current;
+        }
+        registrationLock.lock();
+        try {
+            current = ruleMeters;
+            if (current == null || current.plan() != plan) {
+                current = register(plan, current);
+                ruleMeters = current;
+            }
+            return current;
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+
+    /**
+     * Registers the meters for every rule of {@code plan} and removes those of rules that are no longer configured.
+     */
+    private RuleMeters register(DiscountRulePlan plan, RuleMeters previous) {
+        List<CompiledRule> rules = plan.getCompiledRules();
+        int size = rules.isEmpty() ? 0 : rules.get(rules.size() - 1).order() + 1;
+        Counter[] hits = new Counter[size];
+        LongAdder[] evaluations = new LongAdder[TICKET_TYPES.length];
+        for (int i = 0; i < evaluations.length; i++) {
+            evaluations[i] = new LongAdder();
+        }
+        Map<String, List<TicketType>> ticketTypesByName = new HashMap<>();
+        Set<Meter.Id> ids = new HashSet<>();
+
+        for (CompiledRule rule : rules) {
+            String name = rule.name() == null ? "rule-" + rule.order() : rule.name();
+            hits[rule.order()] = Counter.builder("pricing.discount.rule.hits")
+                    .description("Quotes the discount rule was applied to")
+                    .tag("rule", name)
+                    .register(meterRegistry);
+            List<TicketType> ticketTypes = ticketTypesByName.computeIfAbsent(name, ruleName -> new ArrayList<>());
+            if (rule.ticketType() == null) {
+                ticketTypes.addAll(List.of(TICKET_TYPES));
+            } else {
+                ticketTypes.add(rule.ticketType());
+            }
+            ids.add(hits[rule.order()].getId());
+        }
+
+        ruleEvaluations.keySet().retainAll(ticketTypesByName.keySet());
+        ticketTypesByName.forEach((name, ticketTypes) -> {
+            // A rule that is still configured finds its meter already registered, reading this same holder
+            RuleEvaluations ruleEvaluation = ruleEvaluations.computeIfAbsent(name, ruleName -> new RuleEvaluations());
+            ruleEvaluation.repoint(evaluations, ticketTypes);
+            FunctionCounter evaluated = FunctionCounter.builder("pricing.discount.rule.evaluations", ruleEvaluation,
+                            RuleEvaluations::count)
+                    .description("Quotes the discount rule was evaluated for")
+                    .tag("rule", name)
+                    .register(meterRegistry);
+            ids.add(evaluated.getId());
+        });
+
+        if (previous != null) {
+            for (Meter.Id id : previous.ids()) {
+                if (!ids.contains(id)) {
+                    meterRegistry.remove(id);
+                }
+            }
+        }
+        return new RuleMeters(plan, hits, evaluations, ids);
+    }
+
+    /**
+     * @param evaluations quotes priced against {@code plan}, by ticket type ordinal
+     */
+    private record RuleMeters(DiscountRulePlan plan, Counter[] hits, LongAdder[] evaluations, Set<Meter.Id> ids) {
+    }
+
+    /**
+     * The evaluation count of one rule: the quotes counted under the plans it was part of before, plus those of
+     * the current plan's ticket types it applies to. Quotes recorded against a plan after it was replaced are
+     * not counted.
+     */
+    private static final class RuleEvaluations {
+
+        private volatile Source source = new Source(0, new LongAdder[0]);
+
+        /**
+         * Folds the count so far into the carried over total and starts reading {@code ticketTypes} of
+         * {@code evaluations}. Called under the registration lock.
+         */
+        void repoint(LongAdder[] evaluations, List<TicketType> ticketTypes) {
+            LongAdder[] adders = new LongAdder[ticketTypes.size()];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = evaluations[ticketTypes.get(i).ordinal()];
+            }
+            source = new Source(total(), adders);
+        }
+
+        double count() {
+            return total();
+        }
+
+        private long total() {
+            Source current = source;
+            long count = current.carriedOver();
+            for (LongAdder adder : current.adders()) {
+                count += adder.sum();
+            }
+            return count;
+        }
+
+        private record Source(long carriedOver, LongAdder[] adders) {
+        }
+    }
+}
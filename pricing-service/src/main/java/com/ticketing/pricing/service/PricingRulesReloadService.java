@@ -0,0 +1,102 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.config.PricingReloadProperties;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.DiscountRule;
+import com.ticketing.pricing.model.PricingRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reloads the pricing rules from {@code pricing.reload.location} without a restart.
+ * <p>
+ * The file is bound into a fresh {@link PricingConfiguration}, validated, compiled and only then
+ * published, so a broken rules file is rejected and the rules in effect stay unchanged.
+ */
+@Service
+@Slf4j
+public class PricingRulesReloadService {
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final PricingReloadProperties pricingReloadProperties;
+    private final ResourceLoader resourceLoader;
+
+    public PricingRulesReloadService(PricingSnapshotHolder pricingSnapshotHolder,
+                                     PricingReloadProperties pricingReloadProperties,
+                                     ResourceLoader resourceLoader) {
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
+        this.pricingReloadProperties = pricingReloadProperties;
+        this.resourceLoader = resourceLoader;
+    }
+
+    public PricingSnapshot reload() {
+        String location = pricingReloadProperties.getLocation();
+        PricingConfiguration candidate = load(location);
+        validate(candidate);
+        PricingSnapshot snapshot = pricingSnapshotHolder.publish(candidate);
+        log.info("Reloaded pricing rules from {}.", location);
+        return snapshot;
+    }
+
+    private PricingConfiguration load(String location) {
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.exists()) {
+            throw new PricingRuleException("Pricing rules file not found: " + location);
+        }
+        try {
+            List<PropertySource<?>> propertySources = new YamlPropertySourceLoader().load(location, resource);
+            return new Binder(ConfigurationPropertySources.from(propertySources))
+                    .bind("pricing", PricingConfiguration.class)
+                    .orElseThrow(() -> new PricingRuleException("No pricing rules found in " + location));
+        } catch (IOException | BindException e) {
+            throw new PricingRuleException("Unable to read pricing rules from " + location + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void validate(PricingConfiguration candidate) {
+        Set<TicketType> pricedTypes = EnumSet.noneOf(TicketType.class);
+        for (PricingRule rule : candidate.getRules()) {
+            if (rule == null || rule.getTicketType() == null) {
+                throw new PricingRuleException("Pricing rule is missing a ticket type");
+            }
+            if (rule.getBasePrice() == null || rule.getBasePrice().signum() < 0) {
+                throw new PricingRuleException("Invalid base price for ticket type " + rule.getTicketType()
+                        + ": " + rule.getBasePrice());
+            }
+            pricedTypes.add(rule.getTicketType());
+        }
+        for (TicketType ticketType : TicketType.values()) {
+            if (!pricedTypes.contains(ticketType)) {
+                throw new PricingRuleException("No pricing rule found for ticket type: " + ticketType);
+            }
+        }
+
+        for (DiscountRule discount : candidate.getDiscounts()) {
+            if (discount == null || discount.getCondition() == null) {
+                throw new PricingRuleException("Discount rule is missing a condition");
+            }
+            BigDecimal percentage = discount.getDiscountPercentage();
+            if (percentage == null || percentage.signum() < 0 || percentage.compareTo(ONE_HUNDRED) > 0) {
+                throw new PricingRuleException("Invalid discount percentage for rule " + discount.getName()
+                        + ": " + percentage);
+            }
+        }
+    }
+}
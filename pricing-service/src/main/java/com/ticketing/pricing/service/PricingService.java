@@ -1,7 +1,9 @@
 package com.ticketing.pricing.service;
 
+import com.ticketing.common.model.TicketCounts;
 import com.ticketing.common.model.TicketType;
 import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
 
 import java.math.BigDecimal;
 import java.util.Map;
@@ -10,4 +12,33 @@ public interface PricingService {
     PriceCalculationResult calculateTicketPrice(TicketType ticketType, Map<TicketType, Integer> counts);
 
     BigDecimal getTicketBasePrice(TicketType ticketType);
+
+    /**
+     * Prices every ticket type present in {@code counts} in a single pass.
+     * Ticket types with a zero count are skipped.
+     */
+    default TransactionPriceResult calculateTransaction(Map<TicketType, Integer> counts) {
+        return calculateTransaction(TicketCounts.of(counts));
+    }
+
+    /**
+     * Prices every ticket type present in {@code counts} in a single pass, without boxing.
+     * Implementations must not retain {@code counts}, so callers may reuse it.
+     *
+     * @throws IllegalArgumentException if a count is negative
+     */
+    TransactionPriceResult calculateTransaction(TicketCounts counts);
+
+    /**
+     * Prices {@code counts} against {@code snapshot}, for callers that classified the customers against that
+     * snapshot's age bands and must not have them priced under rules published since. A service that prices
+     * remotely prices against its own rules, and refuses counts classified against age bands other than its own.
+     */
+    TransactionPriceResult calculateTransaction(PricingSnapshot snapshot, TicketCounts counts);
+
+    /**
+     * Prices a transaction given as the number of customers of each age, classifying the ages against the
+     * age bands in effect. Ages and counts must not be negative.
+     */
+    TransactionPriceResult calculateTransactionByAge(Map<Integer, Integer> customersByAge);
 }
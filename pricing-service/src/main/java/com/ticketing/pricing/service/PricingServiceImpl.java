@@ -1,14 +1,17 @@
 package com.ticketing.pricing.service;
 
-import com.ticketing.pricing.config.PricingConfiguration;
 import com.ticketing.pricing.exception.PricingRuleException;
 import com.ticketing.pricing.model.PriceCalculationResult;
-import com.ticketing.pricing.model.PricingRule;
+import com.ticketing.pricing.model.TransactionPriceResult;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import com.ticketing.common.model.TicketCounts;
 import com.ticketing.common.model.TicketType;
+import com.ticketing.common.util.FixedPointPriceUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -16,15 +19,21 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class PricingServiceImpl implements PricingService {
 
-    private final PricingConfiguration pricingConfiguration;
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+
+    private final PricingSnapshotHolder pricingSnapshotHolder;
     private final DiscountRuleEngine discountRuleEngine;
+    private final PricingMetrics pricingMetrics;
 
-    public PricingServiceImpl(PricingConfiguration pricingConfiguration, DiscountRuleEngine discountRuleEngine) {
-        this.pricingConfiguration = pricingConfiguration;
+    public PricingServiceImpl(PricingSnapshotHolder pricingSnapshotHolder, DiscountRuleEngine discountRuleEngine,
+                              PricingMetrics pricingMetrics) {
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
         this.discountRuleEngine = discountRuleEngine;
+        this.pricingMetrics = pricingMetrics;
+        PricingSnapshot snapshot = pricingSnapshotHolder.current();
         log.info("PricingService initialized with {} pricing rules and {} discount rules.",
-                pricingConfiguration.getRules().size(),
-                pricingConfiguration.getDiscounts().size());
+                snapshot.getPricingRuleCount(),
+                snapshot.getDiscountRuleCount());
     }
 
     @Override
@@ -35,10 +44,92 @@ public class PricingServiceImpl implements PricingService {
 
     @Override
     public BigDecimal getTicketBasePrice(TicketType ticketType) {
-        return pricingConfiguration.getRules().stream()
-                .filter(rule -> rule.getTicketType().equals(ticketType))
-                .findFirst()
-                .map(PricingRule::getBasePrice)
-                .orElseThrow(() -> new PricingRuleException("No pricing rule found for ticket type: " + ticketType));
+        BigDecimal basePrice = pricingSnapshotHolder.current().getBasePriceTable().basePrice(ticketType);
+        if (basePrice == null) {
+            throw new PricingRuleException("No pricing rule found for ticket type: " + ticketType);
+        }
+        return basePrice;
+    }
+
+    @Override
+    public TransactionPriceResult calculateTransaction(TicketCounts counts) {
+        // Read once so that every ticket type is priced against the same rule version
+        return calculateTransaction(pricingSnapshotHolder.current(), counts);
+    }
+
+    @Override
+    public TransactionPriceResult calculateTransactionByAge(Map<Integer, Integer> customersByAge) {
+        // Classified and priced against the same snapshot, so a reload cannot pair old bands with new prices
+        PricingSnapshot snapshot = pricingSnapshotHolder.current();
+        return calculateTransaction(snapshot, snapshot.getAgeBandTable().tally(customersByAge));
+    }
+
+    @Override
+    public TransactionPriceResult calculateTransaction(PricingSnapshot snapshot, TicketCounts counts) {
+        BasePriceTable table = snapshot.getBasePriceTable();
+        int totalQuantity = counts.total();
+
+        PriceTable priceTable = snapshot.getPriceTable();
+        if (priceTable.covers(totalQuantity)) {
+            long totalCostMinor = priceTable.totalCostMinor(counts);
+            if (totalCostMinor >= 0) {
+                return lookUpTransaction(snapshot, priceTable, counts, totalCostMinor);
+            }
+        }
+
+        List<PriceCalculationResult> ticketPrices = new ArrayList<>(counts.distinctTypes());
+        long totalCostMinor = 0;
+        for (TicketType ticketType : TICKET_TYPES) {
+            int quantity = counts.get(ticketType);
+            if (quantity == 0) {
+                continue;
+            }
+            if (quantity < 0) {
+                throw new IllegalArgumentException("Count cannot be negative: " + ticketType + "=" + quantity);
+            }
+            BigDecimal basePrice = table.basePrice(ticketType);
+            if (basePrice == null) {
+                throw new PricingRuleException("No pricing rule found for ticket type: " + ticketType);
+            }
+            long start = System.nanoTime();
+            PriceCalculationResult ticketPrice = discountRuleEngine.applyDiscounts(snapshot, ticketType, basePrice, quantity, totalQuantity);
+            pricingMetrics.recordTicketPricing(ticketType, System.nanoTime() - start);
+            ticketPrices.add(ticketPrice);
+            totalCostMinor += ticketPrice.getTotalCostMinor();
+        }
+
+        return TransactionPriceResult.builder()
+                .ticketPrices(ticketPrices)
+                .totalCost(FixedPointPriceUtil.toAmount(totalCostMinor))
+                .totalCostMinor(totalCostMinor)
+                .totalQuantity(totalQuantity)
+                .pricingVersion(snapshot.getVersion())
+                .build();
+    }
+
+    /**
+     * Answers a transaction from the precomputed table; only the breakdown list is allocated.
+     */
+    private TransactionPriceResult lookUpTransaction(PricingSnapshot snapshot, PriceTable priceTable,
+                                                     TicketCounts counts, long totalCostMinor) {
+        int totalQuantity = counts.total();
+        List<PriceCalculationResult> ticketPrices = new ArrayList<>(counts.distinctTypes());
+        for (TicketType ticketType : TICKET_TYPES) {
+            int quantity = counts.get(ticketType);
+            if (quantity == 0) {
+                continue;
+            }
+            ticketPrices.add(priceTable.lineItem(ticketType, quantity, totalQuantity));
+            pricingMetrics.recordDiscounts(snapshot.getDiscountRulePlan(), ticketType,
+                    priceTable.lineItemRules(ticketType, quantity, totalQuantity));
+        }
+
+        return TransactionPriceResult.builder()
+                .ticketPrices(ticketPrices)
+                .totalCost(FixedPointPriceUtil.toAmount(totalCostMinor))
+                .totalCostMinor(totalCostMinor)
+                .totalQuantity(totalQuantity)
+                .pricingVersion(snapshot.getVersion())
+                .build();
     }
 }
@@ -0,0 +1,80 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.pricing.config.PricingConfiguration;
+
+import java.util.List;
+
+/**
+ * Immutable, compiled view of one version of the pricing rules.
+ * <p>
+ * A snapshot pairs the base price table and age bands with the discount rule plan compiled from the same
+ * configuration, so a transaction priced against a single snapshot never mixes classification, prices and
+ * discounts from different rule versions. The optional {@link PriceTable} is precomputed from the same
+ * prices and discounts. Snapshots are published through {@link PricingSnapshotHolder}.
+ */
+public final class PricingSnapshot {
+
+    private final long version;
+    private final BasePriceTable basePriceTable;
+    private final DiscountRulePlan discountRulePlan;
+    private final AgeBandTable ageBandTable;
+    private final PriceTable priceTable;
+    private final int pricingRuleCount;
+    private final int discountRuleCount;
+
+    private PricingSnapshot(long version, BasePriceTable basePriceTable,
+                            DiscountRulePlan discountRulePlan, AgeBandTable ageBandTable, PriceTable priceTable,
+                            int pricingRuleCount, int discountRuleCount) {
+        this.version = version;
+        this.basePriceTable = basePriceTable;
+        this.discountRulePlan = discountRulePlan;
+        this.ageBandTable = ageBandTable;
+        this.priceTable = priceTable;
+        this.pricingRuleCount = pricingRuleCount;
+        this.discountRuleCount = discountRuleCount;
+    }
+
+    /**
+     * @param priceTableMaxCustomers size bound of the precomputed {@link PriceTable}, or 0 for none
+     */
+    static PricingSnapshot compile(long version, PricingConfiguration configuration, int priceTableMaxCustomers) {
+        BasePriceTable basePriceTable = BasePriceTable.compile(configuration.getRules());
+        DiscountRulePlan discountRulePlan = DiscountRulePlan.compile(configuration.getDiscounts());
+        AgeBandTable ageBandTable = AgeBandTable.compile(configuration.getAgeBands());
+        PriceTable priceTable = PriceTable.build(basePriceTable, discountRulePlan, priceTableMaxCustomers);
+        return new PricingSnapshot(version, basePriceTable, discountRulePlan, ageBandTable, priceTable,
+                sizeOf(configuration.getRules()), sizeOf(configuration.getDiscounts()));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public BasePriceTable getBasePriceTable() {
+        return basePriceTable;
+    }
+
+    public DiscountRulePlan getDiscountRulePlan() {
+        return discountRulePlan;
+    }
+
+    public AgeBandTable getAgeBandTable() {
+        return ageBandTable;
+    }
+
+    public PriceTable getPriceTable() {
+        return priceTable;
+    }
+
+    public int getPricingRuleCount() {
+        return pricingRuleCount;
+    }
+
+    public int getDiscountRuleCount() {
+        return discountRuleCount;
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+}
@@ -0,0 +1,81 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.pricing.config.PriceTableProperties;
+import com.ticketing.pricing.config.PricingConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Publishes the current {@link PricingSnapshot}.
+ * <p>
+ * Readers take the current snapshot with a single volatile read and never block. A new snapshot is fully
+ * compiled before it is published with one reference swap, so quoting continues against the previous
+ * rules until the new ones are ready. {@link #publish} is the only way the rules change: later edits to the
+ * bound {@link PricingConfiguration} are not seen until it is published again. Publish listeners are called on
+ * the publishing thread once the new snapshot is current.
+ */
+@Component
+@Slf4j
+public class PricingSnapshotHolder {
+
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<PricingSnapshot> current;
+    private final List<Consumer<PricingSnapshot>> publishListeners = new CopyOnWriteArrayList<>();
+    private final int priceTableMaxCustomers;
+
+    /**
+     * Creates a holder whose snapshots have no precomputed price table.
+     */
+    public PricingSnapshotHolder(PricingConfiguration pricingConfiguration) {
+        this(pricingConfiguration, 0);
+    }
+
+    @Autowired
+    public PricingSnapshotHolder(PricingConfiguration pricingConfiguration, PriceTableProperties priceTableProperties) {
+        this(pricingConfiguration, priceTableProperties.getMaxCustomers());
+    }
+
+    private PricingSnapshotHolder(PricingConfiguration pricingConfiguration, int priceTableMaxCustomers) {
+        this.priceTableMaxCustomers = priceTableMaxCustomers;
+        this.current = new AtomicReference<>(compile(pricingConfiguration));
+    }
+
+    public PricingSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * Registers {@code listener} to be called with every snapshot published from now on.
+     */
+    public void addPublishListener(Consumer<PricingSnapshot> listener) {
+        publishListeners.add(listener);
+    }
+
+    /**
+     * Compiles {@code configuration} into a new snapshot and makes it current.
+     *
+     * @throws com.ticketing.pricing.exception.PricingRuleException if the rules cannot be compiled, in which
+     *                                                              case the current snapshot is kept
+     */
+    public PricingSnapshot publish(PricingConfiguration configuration) {
+        PricingSnapshot snapshot = compile(configuration);
+        current.set(snapshot);
+        log.info("Published pricing snapshot version {} with {} pricing rules and {} discount rules.",
+                snapshot.getVersion(), snapshot.getPricingRuleCount(), snapshot.getDiscountRuleCount());
+        for (Consumer<PricingSnapshot> listener : publishListeners) {
+            listener.accept(snapshot);
+        }
+        return snapshot;
+    }
+
+    private PricingSnapshot compile(PricingConfiguration configuration) {
+        return PricingSnapshot.compile(versions.incrementAndGet(), configuration, priceTableMaxCustomers);
+    }
+}
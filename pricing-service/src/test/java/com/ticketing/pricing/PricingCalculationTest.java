@@ -1,11 +1,16 @@
 package com.ticketing.pricing;
 
+import com.ticketing.pricing.config.PriceTableProperties;
 import com.ticketing.pricing.config.PricingConfiguration;
 import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
 import com.ticketing.common.model.TicketType;
 import com.ticketing.pricing.service.DiscountRuleEngineImpl;
+import com.ticketing.pricing.service.PricingMetrics;
 import com.ticketing.pricing.service.PricingService;
 import com.ticketing.pricing.service.PricingServiceImpl;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -20,6 +25,10 @@ import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(classes = {
         PricingConfiguration.class,
+        PriceTableProperties.class,
+        PricingSnapshotHolder.class,
+        PricingMetrics.class,
+        SimpleMeterRegistry.class,
         PricingServiceImpl.class,
         DiscountRuleEngineImpl.class
 })
@@ -112,4 +121,23 @@ class PricingCalculationTest {
         assertEquals(new BigDecimal("12.82"), result.getFinalPrice());
         assertEquals(2, result.getAppliedDiscounts().size());
     }
+
+    @Test
+    void calculateTransaction_endToEnd_shouldMatchPerTicketTypePricing() {
+        // Given
+        Map<TicketType, Integer> counts = Map.of(TicketType.ADULT, 2, TicketType.SENIOR, 2);
+
+        // When
+        TransactionPriceResult result = pricingService.calculateTransaction(counts);
+
+        // Then
+        // ADULT: 25.00 - 10% = 22.50 * 2 = 45.00, SENIOR: 12.82 * 2 = 25.64
+        assertEquals(2, result.getTicketPrices().size());
+        assertEquals(new BigDecimal("70.64"), result.getTotalCost());
+        for (PriceCalculationResult ticketPrice : result.getTicketPrices()) {
+            PriceCalculationResult expected = pricingService.calculateTicketPrice(ticketPrice.getTicketType(), counts);
+            assertEquals(expected.getFinalPrice(), ticketPrice.getFinalPrice());
+            assertEquals(expected.getAppliedDiscounts(), ticketPrice.getAppliedDiscounts());
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package com.ticketing.pricing.rpc;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ProtocolException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingProtocolTest {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    @Test
+    void transactionPrice_shouldRoundTripEveryField() throws IOException {
+        // Given
+        PriceCalculationResult child = PriceCalculationResult.builder()
+                .ticketType(TicketType.CHILD)
+                .quantity(4)
+                .basePrice(new BigDecimal("5.00"))
+                .finalPrice(new BigDecimal("3.19"))
+                .discountAmount(new BigDecimal("1.81"))
+                .totalCost(new BigDecimal("12.76"))
+                .finalPriceMinor(319)
+                .discountAmountMinor(181)
+                .totalCostMinor(1276)
+                .appliedDiscounts(List.of("Bulk Child Discount"))
+                .appliedDiscountAmountsMinor(List.of(181L))
+                .build();
+        TransactionPriceResult transactionPrice = TransactionPriceResult.builder()
+                .ticketPrices(List.of(child))
+                .totalCost(new BigDecimal("12.76"))
+                .totalCostMinor(1276)
+                .totalQuantity(4)
+                .pricingVersion(3)
+                .build();
+
+        // When
+        PricingProtocol.writeTransactionPrice(out, transactionPrice);
+        TransactionPriceResult read = PricingProtocol.readTransactionPrice(in());
+
+        // Then
+        assertEquals(0, new BigDecimal("12.76").compareTo(read.getTotalCost()));
+        assertEquals(1276, read.getTotalCostMinor());
+        assertEquals(4, read.getTotalQuantity());
+        assertEquals(3, read.getPricingVersion());
+        PriceCalculationResult line = read.getTicketPrices().getFirst();
+        assertEquals(TicketType.CHILD, line.getTicketType());
+        assertEquals(new BigDecimal("3.19"), line.getFinalPrice());
+        assertEquals(new BigDecimal("1.81"), line.getDiscountAmount());
+        assertEquals(181, line.getDiscountAmountMinor());
+        assertEquals(List.of("Bulk Child Discount"), line.getAppliedDiscounts());
+        assertEquals(List.of(181L), line.getAppliedDiscountAmountsMinor());
+    }
+
+    @Test
+    void ticketPrice_withAbsentFields_shouldReadThemBackAsNull() throws IOException {
+        // Given
+        PriceCalculationResult ticketPrice = PriceCalculationResult.builder()
+                .ticketType(TicketType.ADULT)
+                .quantity(1)
+                .build();
+
+        // When
+        PricingProtocol.writeTicketPrice(out, ticketPrice);
+        PriceCalculationResult read = PricingProtocol.readTicketPrice(in());
+
+        // Then
+        assertEquals(TicketType.ADULT, read.getTicketType());
+        assertNull(read.getBasePrice());
+        assertNull(read.getAppliedDiscounts());
+        assertNull(read.getAppliedDiscountAmountsMinor());
+    }
+
+    @Test
+    void countsAndAges_shouldRoundTrip() throws IOException {
+        // Given
+        TicketCounts counts = TicketCounts.of(Map.of(TicketType.ADULT, 2, TicketType.SENIOR, 1));
+        Map<Integer, Integer> customersByAge = Map.of(35, 1, 8, 3);
+
+        // When
+        PricingProtocol.writeTicketCounts(out, counts);
+        PricingProtocol.writeCustomersByAge(out, customersByAge);
+        DataInputStream in = in();
+
+        // Then
+        assertEquals(counts, PricingProtocol.readTicketCounts(in));
+        assertEquals(customersByAge, PricingProtocol.readCustomersByAge(in));
+    }
+
+    @Test
+    void writeDecimal_withAmountTooLarge_shouldThrowProtocolException() {
+        // When & Then
+        assertThrows(ProtocolException.class,
+                () -> PricingProtocol.writeDecimal(out, new BigDecimal("1e30").setScale(2)));
+    }
+
+    @Test
+    void readTicketType_withUnknownOrdinal_shouldThrowProtocolException() throws IOException {
+        // Given
+        out.writeByte(TicketType.values().length);
+
+        // When & Then
+        assertThrows(ProtocolException.class, () -> PricingProtocol.readTicketType(in()));
+    }
+
+    private DataInputStream in() {
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,267 @@
+package com.ticketing.pricing.rpc;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.AgeBand;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import com.ticketing.pricing.service.AgeBandTable;
+import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+
+import static com.ticketing.pricing.rpc.PricingProtocol.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PricingRpcServerTest {
+
+    @Mock
+    private PricingService pricingService;
+
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    private PricingRpcServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pricingSnapshotHolder = new PricingSnapshotHolder(new PricingConfiguration());
+        server = PricingRpcServer.start(pricingService, pricingSnapshotHolder, "localhost", 0, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void batch_shouldAnswerEveryCallInOrder_evenWhenSomeFail() throws IOException {
+        // Given
+        TicketCounts counts = TicketCounts.of(Map.of(TicketType.ADULT, 2));
+        when(pricingService.calculateTransaction(counts)).thenReturn(TransactionPriceResult.builder()
+                .ticketPrices(List.of())
+                .totalCost(new BigDecimal("50.00"))
+                .totalCostMinor(5000)
+                .totalQuantity(2)
+                .pricingVersion(1)
+                .build());
+        when(pricingService.getTicketBasePrice(TicketType.SENIOR))
+                .thenThrow(new PricingRuleException("No pricing rule found for ticket type: SENIOR"));
+
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            // When
+            out.writeInt(MAGIC);
+            out.writeInt(3);
+            out.writeByte(CALCULATE_TRANSACTION);
+            writeTicketCounts(out, counts);
+            out.writeByte(GET_TICKET_BASE_PRICE);
+            writeTicketType(out, TicketType.SENIOR);
+            out.writeByte(CALCULATE_TRANSACTION_BY_AGE);
+            writeCustomersByAge(out, Map.of(-1, 1));
+            out.flush();
+
+            // Then
+            assertEquals(3, in.readInt());
+            assertEquals(OK, in.readByte());
+            assertEquals(5000, readTransactionPrice(in).getTotalCostMinor());
+            assertEquals(PRICING_RULE_ERROR, in.readByte());
+            assertEquals("No pricing rule found for ticket type: SENIOR", readNullableString(in));
+            assertEquals(INVALID_ARGUMENT, in.readByte());
+            assertEquals("Invalid age histogram entry: -1=1", readNullableString(in));
+            verify(pricingService, never()).calculateTransactionByAge(any());
+        }
+    }
+
+    @Test
+    void calls_withNegativeOrOverflowingCounts_shouldBeAnsweredAsInvalidWithoutPricing() throws IOException {
+        // Given
+        when(pricingService.getTicketBasePrice(TicketType.ADULT)).thenReturn(new BigDecimal("25.00"));
+
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            // When
+            out.writeInt(MAGIC);
+            out.writeInt(4);
+            out.writeByte(CALCULATE_TRANSACTION);
+            writeTicketCounts(out, TicketCounts.of(Map.of(TicketType.ADULT, -1, TicketType.CHILD, 3)));
+            out.writeByte(CALCULATE_TICKET_PRICE);
+            writeTicketType(out, TicketType.ADULT);
+            writeTicketCounts(out, TicketCounts.of(Map.of(TicketType.ADULT, -2)));
+            out.writeByte(CALCULATE_TRANSACTION_BY_AGE);
+            writeCustomersByAge(out, Map.of(30, Integer.MAX_VALUE, 40, 1));
+            out.writeByte(GET_TICKET_BASE_PRICE);
+            writeTicketType(out, TicketType.ADULT);
+            out.flush();
+
+            // Then
+            assertEquals(4, in.readInt());
+            assertEquals(INVALID_ARGUMENT, in.readByte());
+            assertEquals("Count cannot be negative: ADULT=-1", readNullableString(in));
+            assertEquals(INVALID_ARGUMENT, in.readByte());
+            assertEquals("Count cannot be negative: ADULT=-2", readNullableString(in));
+            assertEquals(INVALID_ARGUMENT, in.readByte());
+            assertTrue(readNullableString(in).startsWith("Ticket count"));
+            assertEquals(OK, in.readByte());
+            assertEquals(new BigDecimal("25.00"), readDecimal(in));
+            verify(pricingService, only()).getTicketBasePrice(TicketType.ADULT);
+        }
+    }
+
+    @Test
+    void classifiedTransaction_shouldBePricedOnlyAgainstMatchingAgeBands() throws IOException {
+        // Given
+        PricingSnapshot snapshot = pricingSnapshotHolder.current();
+        TicketCounts counts = TicketCounts.of(Map.of(TicketType.CHILD, 2));
+        when(pricingService.calculateTransaction(snapshot, counts)).thenReturn(TransactionPriceResult.builder()
+                .ticketPrices(List.of())
+                .totalCost(new BigDecimal("10.00"))
+                .totalCostMinor(1000)
+                .totalQuantity(2)
+                .pricingVersion(snapshot.getVersion())
+                .build());
+        long otherAgeBands = AgeBandTable.compile(List.of(
+                AgeBand.builder().ticketType(TicketType.CHILD).maxAge(12).build(),
+                AgeBand.builder().ticketType(TicketType.ADULT).build())).getFingerprint();
+
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            // When
+            out.writeInt(MAGIC);
+            out.writeInt(2);
+            out.writeByte(CALCULATE_CLASSIFIED_TRANSACTION);
+            out.writeLong(snapshot.getAgeBandTable().getFingerprint());
+            writeTicketCounts(out, counts);
+            out.writeByte(CALCULATE_CLASSIFIED_TRANSACTION);
+            out.writeLong(otherAgeBands);
+            writeTicketCounts(out, counts);
+            out.flush();
+
+            // Then
+            assertEquals(2, in.readInt());
+            assertEquals(OK, in.readByte());
+            assertEquals(1000, readTransactionPrice(in).getTotalCostMinor());
+            assertEquals(AGE_BANDS_MISMATCH, in.readByte());
+            assertNotNull(readNullableString(in));
+            verify(pricingService, only()).calculateTransaction(snapshot, counts);
+        }
+    }
+
+    @Test
+    void pipelinedBatches_shouldBeAnsweredInOrder() throws IOException {
+        // Given
+        when(pricingService.getTicketBasePrice(TicketType.ADULT)).thenReturn(new BigDecimal("25.00"));
+        when(pricingService.getTicketBasePrice(TicketType.CHILD)).thenReturn(new BigDecimal("5.00"));
+
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            // When
+            out.writeInt(MAGIC);
+            for (TicketType ticketType : List.of(TicketType.ADULT, TicketType.CHILD)) {
+                out.writeInt(1);
+                out.writeByte(GET_TICKET_BASE_PRICE);
+                writeTicketType(out, ticketType);
+            }
+            out.flush();
+
+            // Then
+            assertEquals(1, in.readInt());
+            assertEquals(OK, in.readByte());
+            assertEquals(new BigDecimal("25.00"), readDecimal(in));
+            assertEquals(1, in.readInt());
+            assertEquals(OK, in.readByte());
+            assertEquals(new BigDecimal("5.00"), readDecimal(in));
+        }
+    }
+
+    @Test
+    void connection_withoutMagic_shouldBeClosed() throws IOException {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            // When
+            new DataOutputStream(socket.getOutputStream()).writeInt(0xCAFEBABE);
+
+            // Then
+            assertEquals(-1, socket.getInputStream().read());
+            verifyNoInteractions(pricingService);
+        }
+    }
+
+    @Test
+    void batch_largerThanMaxBatchSize_shouldCloseConnection() throws IOException {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+
+            // When
+            out.writeInt(MAGIC);
+            out.writeInt(101);
+
+            // Then
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    void call_withUnknownTicketType_shouldCloseConnectionWithoutAnswering() throws IOException {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            // When
+            out.writeInt(MAGIC);
+            out.writeInt(1);
+            out.writeByte(GET_TICKET_BASE_PRICE);
+            out.writeByte(TicketType.values().length);
+            out.flush();
+
+            // Then
+            assertEquals(1, in.readInt());
+            assertEquals(-1, in.read());
+            verifyNoInteractions(pricingService);
+        }
+    }
+
+    @Test
+    void call_withAgeHistogramLargerThanMax_shouldCloseConnectionWithoutAnswering() throws IOException {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            // When
+            out.writeInt(MAGIC);
+            out.writeInt(1);
+            out.writeByte(CALCULATE_TRANSACTION_BY_AGE);
+            out.writeInt(MAX_AGE_HISTOGRAM_SIZE + 1);
+            out.flush();
+
+            // Then
+            assertEquals(1, in.readInt());
+            assertEquals(-1, in.read());
+            verifyNoInteractions(pricingService);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.common.util.TicketClassificationUtil;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.AgeBand;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgeBandTableTest {
+
+    @Test
+    void compile_withoutBands_shouldMatchDefaultClassification() {
+        // When
+        AgeBandTable table = AgeBandTable.compile(new ArrayList<>());
+
+        // Then
+        for (int age = 0; age <= 130; age++) {
+            assertEquals(TicketClassificationUtil.classifyByAge(age), table.classify(age), "age " + age);
+        }
+        assertEquals(TicketType.SENIOR, table.classify(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void classify_shouldUseBandBoundariesInclusively() {
+        // Given
+        AgeBandTable table = AgeBandTable.compile(List.of(
+                band(TicketType.CHILD, 3),
+                band(TicketType.TEEN, 12),
+                band(TicketType.ADULT, 59),
+                band(TicketType.SENIOR, null)));
+
+        // When & Then
+        assertEquals(TicketType.CHILD, table.classify(0));
+        assertEquals(TicketType.CHILD, table.classify(3));
+        assertEquals(TicketType.TEEN, table.classify(4));
+        assertEquals(TicketType.TEEN, table.classify(12));
+        assertEquals(TicketType.ADULT, table.classify(59));
+        assertEquals(TicketType.SENIOR, table.classify(60));
+        assertEquals(TicketType.SENIOR, table.classify(200));
+    }
+
+    @Test
+    void compile_withSingleOpenBand_shouldClassifyEveryAgeTheSame() {
+        // When
+        AgeBandTable table = AgeBandTable.compile(List.of(band(TicketType.ADULT, null)));
+
+        // Then
+        assertEquals(TicketType.ADULT, table.classify(0));
+        assertEquals(TicketType.ADULT, table.classify(99));
+    }
+
+    @Test
+    void compile_withInvalidBands_shouldThrowException() {
+        // When & Then
+        assertThrows(PricingRuleException.class, () -> AgeBandTable.compile(List.of(
+                band(TicketType.CHILD, 10), band(TicketType.ADULT, 64))));
+        assertThrows(PricingRuleException.class, () -> AgeBandTable.compile(List.of(
+                band(TicketType.CHILD, 10), band(TicketType.TEEN, 10), band(TicketType.ADULT, null))));
+        assertThrows(PricingRuleException.class, () -> AgeBandTable.compile(List.of(
+                band(TicketType.CHILD, null), band(TicketType.ADULT, null))));
+        assertThrows(PricingRuleException.class, () -> AgeBandTable.compile(List.of(
+                band(null, 10), band(TicketType.ADULT, null))));
+        assertThrows(PricingRuleException.class, () -> AgeBandTable.compile(List.of(
+                band(TicketType.CHILD, AgeBandTable.MAX_BOUNDED_AGE + 1), band(TicketType.ADULT, null))));
+    }
+
+    @Test
+    void tally_shouldAddEachAgeCountToItsTicketType() {
+        // Given
+        AgeBandTable table = AgeBandTable.compile(new ArrayList<>());
+
+        // When
+        TicketCounts counts = table.tally(Map.of(5, 2, 10, 1, 30, 4, 70, 0));
+
+        // Then
+        assertEquals(TicketCounts.of(Map.of(TicketType.CHILD, 3, TicketType.ADULT, 4)), counts);
+        assertEquals(7, counts.total());
+    }
+
+    @Test
+    void tally_withNegativeAgeOrCount_shouldThrowException() {
+        // Given
+        AgeBandTable table = AgeBandTable.compile(new ArrayList<>());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> table.tally(Map.of(-1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> table.tally(Map.of(30, -1)));
+    }
+
+    private AgeBand band(TicketType ticketType, Integer maxAge) {
+        return AgeBand.builder().ticketType(ticketType).maxAge(maxAge).build();
+    }
+}
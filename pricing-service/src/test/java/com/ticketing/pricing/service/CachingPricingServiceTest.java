@@ -0,0 +1,170 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.config.QuoteCacheProperties;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPricingServiceTest {
+
+    @Mock
+    private PricingServiceImpl delegate;
+
+    private PricingConfiguration pricingConfiguration;
+
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    private CachingPricingService cachingPricingService;
+
+    @BeforeEach
+    void setUp() {
+        pricingConfiguration = new PricingConfiguration();
+        pricingSnapshotHolder = new PricingSnapshotHolder(pricingConfiguration);
+        cachingPricingService = new CachingPricingService(delegate, pricingSnapshotHolder, new QuoteCacheProperties());
+    }
+
+    @Test
+    void calculateTransaction_withRepeatedCounts_shouldCallDelegateOnce() {
+        // Given
+        TransactionPriceResult quote = quote("50.00");
+        when(delegate.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 2))))).thenReturn(quote);
+
+        // When
+        TransactionPriceResult first = cachingPricingService.calculateTransaction(Map.of(TicketType.ADULT, 2));
+        TransactionPriceResult second = cachingPricingService.calculateTransaction(Map.of(TicketType.ADULT, 2));
+
+        // Then
+        assertSame(quote, first);
+        assertSame(quote, second);
+        verify(delegate, times(1)).calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class));
+        assertEquals(1, cachingPricingService.getCache().stats().hitCount());
+        assertEquals(1, cachingPricingService.getCache().stats().missCount());
+    }
+
+    @Test
+    void calculateTransaction_withDifferentCounts_shouldUseSeparateEntries() {
+        // Given
+        when(delegate.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 2))))).thenReturn(quote("50.00"));
+        when(delegate.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 1))))).thenReturn(quote("30.00"));
+
+        // When
+        TransactionPriceResult adults = cachingPricingService.calculateTransaction(Map.of(TicketType.ADULT, 2));
+        TransactionPriceResult mixed = cachingPricingService.calculateTransaction(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 1));
+
+        // Then
+        assertEquals(new BigDecimal("50.00"), adults.getTotalCost());
+        assertEquals(new BigDecimal("30.00"), mixed.getTotalCost());
+    }
+
+    @Test
+    void calculateTransactionByAge_shouldShareEntriesWithEqualCounts() {
+        // Given
+        TransactionPriceResult quote = quote("30.00");
+        when(delegate.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 1))))).thenReturn(quote);
+
+        // When
+        TransactionPriceResult byCounts = cachingPricingService.calculateTransaction(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 1));
+        TransactionPriceResult byAge = cachingPricingService.calculateTransactionByAge(Map.of(40, 1, 6, 1));
+
+        // Then
+        assertSame(quote, byCounts);
+        assertSame(quote, byAge);
+        verify(delegate, times(1)).calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class));
+    }
+
+    @Test
+    void calculateTransaction_afterRulesPublished_shouldRecompute() {
+        // Given
+        when(delegate.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1)))))
+                .thenReturn(quote("25.00"), quote("20.00"));
+        cachingPricingService.calculateTransaction(Map.of(TicketType.ADULT, 1));
+
+        // When
+        pricingConfiguration.setDiscounts(new ArrayList<>());
+        pricingSnapshotHolder.publish(pricingConfiguration);
+        TransactionPriceResult result = cachingPricingService.calculateTransaction(Map.of(TicketType.ADULT, 1));
+
+        // Then
+        assertEquals(new BigDecimal("20.00"), result.getTotalCost());
+        verify(delegate, times(2)).calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class));
+    }
+
+    @Test
+    void publish_shouldClearCacheBeforeNextRequest() {
+        // Given
+        when(delegate.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1)))))
+                .thenReturn(quote("25.00"));
+        cachingPricingService.calculateTransaction(Map.of(TicketType.ADULT, 1));
+
+        // When
+        pricingSnapshotHolder.publish(pricingConfiguration);
+
+        // Then
+        assertEquals(0, cachingPricingService.getCache().estimatedSize());
+    }
+
+    @Test
+    void calculateTransaction_withOlderSnapshot_shouldPriceAgainstItWithoutCaching() {
+        // Given
+        PricingSnapshot older = pricingSnapshotHolder.current();
+        pricingSnapshotHolder.publish(pricingConfiguration);
+        TicketCounts counts = TicketCounts.of(Map.of(TicketType.ADULT, 1));
+        when(delegate.calculateTransaction(older, counts)).thenReturn(quote("25.00"));
+
+        // When
+        cachingPricingService.calculateTransaction(older, counts);
+        cachingPricingService.calculateTransaction(older, counts);
+
+        // Then
+        verify(delegate, times(2)).calculateTransaction(older, counts);
+        assertEquals(0, cachingPricingService.getCache().estimatedSize());
+    }
+
+    @Test
+    void calculateTransaction_withCountTooLargeToPack_shouldBypassCache() {
+        // Given
+        TicketCounts counts = TicketCounts.of(Map.of(TicketType.ADULT, 1 << 20));
+        when(delegate.calculateTransaction(any(PricingSnapshot.class), eq(counts))).thenReturn(quote("1.00"));
+
+        // When
+        cachingPricingService.calculateTransaction(counts);
+        cachingPricingService.calculateTransaction(counts);
+
+        // Then
+        verify(delegate, times(2)).calculateTransaction(any(PricingSnapshot.class), eq(counts));
+        assertEquals(0, cachingPricingService.getCache().estimatedSize());
+    }
+
+    @Test
+    void pack_shouldEncodeEachTicketTypeSeparately() {
+        // When & Then
+        assertNotEquals(
+                CachingPricingService.pack(TicketCounts.of(Map.of(TicketType.ADULT, 1))),
+                CachingPricingService.pack(TicketCounts.of(Map.of(TicketType.CHILD, 1))));
+        assertEquals(
+                CachingPricingService.pack(TicketCounts.of(Map.of(TicketType.ADULT, 2, TicketType.TEEN, 0))),
+                CachingPricingService.pack(TicketCounts.of(Map.of(TicketType.ADULT, 2))));
+    }
+
+    private TransactionPriceResult quote(String totalCost) {
+        return TransactionPriceResult.builder()
+                .ticketPrices(List.of())
+                .totalCost(new BigDecimal(totalCost))
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.ticketing.pricing.model.DiscountCondition;
 import com.ticketing.pricing.model.DiscountRule;
 import com.ticketing.pricing.model.PriceCalculationResult;
 import com.ticketing.common.model.TicketType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,11 +27,15 @@ class DiscountRuleEngineImplTest {
     @Mock
     private PricingConfiguration pricingConfiguration;
 
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
     private DiscountRuleEngine discountRuleEngine;
 
     @BeforeEach
     void setUp() {
-        discountRuleEngine = new DiscountRuleEngineImpl(pricingConfiguration);
+        pricingSnapshotHolder = new PricingSnapshotHolder(pricingConfiguration);
+        discountRuleEngine = new DiscountRuleEngineImpl(pricingSnapshotHolder,
+                new PricingMetrics(new SimpleMeterRegistry(), pricingSnapshotHolder));
     }
 
     @Test
@@ -41,6 +46,7 @@ class DiscountRuleEngineImplTest {
         Map<TicketType, Integer> counts = Map.of(TicketType.ADULT, 1);
 
         when(pricingConfiguration.getDiscounts()).thenReturn(new ArrayList<>());
+        pricingSnapshotHolder.publish(pricingConfiguration);
 
         // When
         PriceCalculationResult result = discountRuleEngine.applyDiscounts(ticketType, basePrice, counts);
@@ -68,6 +74,7 @@ class DiscountRuleEngineImplTest {
                 .build();
 
         when(pricingConfiguration.getDiscounts()).thenReturn(List.of(groupDiscount));
+        pricingSnapshotHolder.publish(pricingConfiguration);
 
         // When
         PriceCalculationResult result = discountRuleEngine.applyDiscounts(ticketType, basePrice, counts);
@@ -96,6 +103,7 @@ class DiscountRuleEngineImplTest {
                 .build();
 
         when(pricingConfiguration.getDiscounts()).thenReturn(List.of(seniorDiscount));
+        pricingSnapshotHolder.publish(pricingConfiguration);
 
         // When
         PriceCalculationResult result = discountRuleEngine.applyDiscounts(ticketType, basePrice, counts);
@@ -132,6 +140,7 @@ class DiscountRuleEngineImplTest {
 
         when(pricingConfiguration.getDiscounts())
                 .thenReturn(List.of(groupDiscount, seniorDiscount));
+        pricingSnapshotHolder.publish(pricingConfiguration);
 
         // When
         PriceCalculationResult result = discountRuleEngine.applyDiscounts(ticketType, basePrice, counts);
@@ -139,6 +148,7 @@ class DiscountRuleEngineImplTest {
         // Then
         assertEquals(new BigDecimal("12.82"), result.getFinalPrice());
         assertEquals(2, result.getAppliedDiscounts().size());
+        assertEquals(List.of(150L, 68L), result.getAppliedDiscountAmountsMinor());
     }
 
     @Test
@@ -158,6 +168,7 @@ class DiscountRuleEngineImplTest {
                 .build();
 
         when(pricingConfiguration.getDiscounts()).thenReturn(List.of(disabledDiscount));
+        pricingSnapshotHolder.publish(pricingConfiguration);
 
         // When
         PriceCalculationResult result = discountRuleEngine.applyDiscounts(ticketType, basePrice, counts);
@@ -184,6 +195,7 @@ class DiscountRuleEngineImplTest {
                 .build();
 
         when(pricingConfiguration.getDiscounts()).thenReturn(List.of(groupDiscount));
+        pricingSnapshotHolder.publish(pricingConfiguration);
 
         // When
         PriceCalculationResult result = discountRuleEngine.applyDiscounts(ticketType, basePrice, counts);
@@ -210,6 +222,7 @@ class DiscountRuleEngineImplTest {
                 .build();
 
         when(pricingConfiguration.getDiscounts()).thenReturn(List.of(seniorDiscount));
+        pricingSnapshotHolder.publish(pricingConfiguration);
 
         // When
         PriceCalculationResult result = discountRuleEngine.applyDiscounts(ticketType, basePrice, counts);
@@ -218,4 +231,45 @@ class DiscountRuleEngineImplTest {
         assertEquals(new BigDecimal("25.00"), result.getFinalPrice());
         assertTrue(result.getAppliedDiscounts().isEmpty());
     }
+
+    @Test
+    void applyDiscounts_withAggregatedQuantities_shouldMatchCountMapResult() {
+        // Given
+        TicketType ticketType = TicketType.CHILD;
+        BigDecimal basePrice = new BigDecimal("5.00");
+        Map<TicketType, Integer> counts = Map.of(TicketType.CHILD, 4, TicketType.ADULT, 1);
+
+        DiscountRule childDiscount = DiscountRule.builder()
+                .name("Child Discount")
+                .applicableTicketType(TicketType.CHILD)
+                .discountPercentage(new BigDecimal("25"))
+                .condition(DiscountCondition.MIN_QUANTITY)
+                .minQuantity(3)
+                .enabled(true)
+                .build();
+
+        DiscountRule groupDiscount = DiscountRule.builder()
+                .name("Group Discount")
+                .discountPercentage(new BigDecimal("15"))
+                .condition(DiscountCondition.GROUP_DISCOUNT)
+                .minQuantity(4)
+                .enabled(true)
+                .build();
+
+        when(pricingConfiguration.getDiscounts()).thenReturn(List.of(childDiscount, groupDiscount));
+        pricingSnapshotHolder.publish(pricingConfiguration);
+
+        // When
+        PriceCalculationResult fromCounts = discountRuleEngine.applyDiscounts(ticketType, basePrice, counts);
+        PriceCalculationResult fromAggregates = discountRuleEngine.applyDiscounts(pricingSnapshotHolder.current(),
+                ticketType, basePrice, 4, 5);
+
+        // Then
+        // 5.00 - 25% = 3.75, then 3.75 - 15% = 3.19
+        assertEquals(new BigDecimal("3.19"), fromAggregates.getFinalPrice());
+        assertEquals(fromCounts.getFinalPrice(), fromAggregates.getFinalPrice());
+        assertEquals(4, fromAggregates.getQuantity());
+        assertEquals(new BigDecimal("12.76"), fromAggregates.getTotalCost());
+        assertEquals(List.of("Child Discount", "Group Discount"), fromAggregates.getAppliedDiscounts());
+    }
 }
@@ -0,0 +1,108 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.DiscountCondition;
+import com.ticketing.pricing.model.DiscountRule;
+import com.ticketing.pricing.service.DiscountRulePlan.CompiledRule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiscountRulePlanTest {
+
+    @Test
+    void compile_shouldDropDisabledRules() {
+        // Given
+        List<DiscountRule> discounts = List.of(
+                rule("Enabled", TicketType.SENIOR, DiscountCondition.TICKET_TYPE, null, true),
+                rule("Disabled", null, DiscountCondition.GROUP_DISCOUNT, 1, false)
+        );
+
+        // When
+        DiscountRulePlan plan = DiscountRulePlan.compile(discounts);
+
+        // Then
+        assertEquals(1, plan.getActiveRuleCount());
+        assertFalse(plan.hasGroupRules());
+        assertEquals(List.of("Enabled"), names(plan.applicableRules(TicketType.SENIOR, 1, 10)));
+    }
+
+    @Test
+    void applicableRules_shouldKeepConfigurationOrderAcrossBuckets() {
+        // Given
+        List<DiscountRule> discounts = List.of(
+                rule("Group", null, DiscountCondition.GROUP_DISCOUNT, 4, true),
+                rule("Child Quantity", TicketType.CHILD, DiscountCondition.MIN_QUANTITY, 3, true),
+                rule("Child Type", TicketType.CHILD, DiscountCondition.TICKET_TYPE, null, true)
+        );
+        DiscountRulePlan plan = DiscountRulePlan.compile(discounts);
+
+        // When
+        CompiledRule[] rules = plan.applicableRules(TicketType.CHILD, 3, 4);
+
+        // Then
+        assertEquals(List.of("Group", "Child Quantity", "Child Type"), names(rules));
+    }
+
+    @Test
+    void applicableRules_shouldMatchOnlyThresholdsAtOrBelowQuantity() {
+        // Given
+        List<DiscountRule> discounts = new ArrayList<>();
+        for (int minQuantity = 1000; minQuantity > 0; minQuantity--) {
+            discounts.add(rule("Adult " + minQuantity, TicketType.ADULT, DiscountCondition.MIN_QUANTITY, minQuantity, true));
+        }
+        DiscountRulePlan plan = DiscountRulePlan.compile(discounts);
+
+        // When
+        CompiledRule[] rules = plan.applicableRules(TicketType.ADULT, 3, 3);
+
+        // Then
+        assertEquals(List.of("Adult 3", "Adult 2", "Adult 1"), names(rules));
+        assertEquals(0, plan.applicableRules(TicketType.CHILD, 3, 3).length);
+    }
+
+    @Test
+    void applicableRules_withGroupThreshold_shouldUseTotalQuantity() {
+        // Given
+        DiscountRulePlan plan = DiscountRulePlan.compile(List.of(
+                rule("Group", null, DiscountCondition.GROUP_DISCOUNT, 4, true)
+        ));
+
+        // When & Then
+        assertEquals(0, plan.applicableRules(TicketType.TEEN, 1, 3).length);
+        assertEquals(List.of("Group"), names(plan.applicableRules(TicketType.TEEN, 1, 4)));
+    }
+
+    @Test
+    void compile_withMissingMinQuantity_shouldThrowException() {
+        // Given
+        List<DiscountRule> discounts = List.of(
+                rule("Broken Group", null, DiscountCondition.GROUP_DISCOUNT, null, true)
+        );
+
+        // When & Then
+        assertThrows(PricingRuleException.class, () -> DiscountRulePlan.compile(discounts));
+    }
+
+    private DiscountRule rule(String name, TicketType ticketType, DiscountCondition condition,
+                              Integer minQuantity, boolean enabled) {
+        return DiscountRule.builder()
+                .name(name)
+                .applicableTicketType(ticketType)
+                .discountPercentage(new BigDecimal("10"))
+                .condition(condition)
+                .minQuantity(minQuantity)
+                .enabled(enabled)
+                .build();
+    }
+
+    private List<String> names(CompiledRule[] rules) {
+        return Arrays.stream(rules).map(CompiledRule::name).toList();
+    }
+}
@@ -0,0 +1,195 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.config.PriceTableProperties;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.DiscountCondition;
+import com.ticketing.pricing.model.DiscountRule;
+import com.ticketing.pricing.model.PricingRule;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceTableTest {
+
+    private static final int MAX_CUSTOMERS = 8;
+
+    private PricingConfiguration pricingConfiguration;
+
+    @BeforeEach
+    void setUp() {
+        pricingConfiguration = new PricingConfiguration();
+        pricingConfiguration.setRules(new ArrayList<>(List.of(
+                pricingRule(TicketType.ADULT, "25.00"),
+                pricingRule(TicketType.CHILD, "5.00"),
+                pricingRule(TicketType.TEEN, "12.00"),
+                pricingRule(TicketType.SENIOR, "17.50"))));
+        pricingConfiguration.setDiscounts(new ArrayList<>(List.of(
+                discount("Child Discount", TicketType.CHILD, DiscountCondition.MIN_QUANTITY, 3, "25"),
+                discount("Senior Discount", TicketType.SENIOR, DiscountCondition.TICKET_TYPE, 0, "30"),
+                discount("Group Discount", null, DiscountCondition.GROUP_DISCOUNT, 4, "15"))));
+    }
+
+    @Test
+    void calculateTransaction_shouldMatchRuleEngineForEveryCountVectorWithinBound() {
+        // Given
+        PricingService tablePricing = pricingService(MAX_CUSTOMERS);
+        PricingService enginePricing = pricingService(0);
+
+        // When & Then
+        int vectors = 0;
+        for (int adult = 0; adult <= MAX_CUSTOMERS; adult++) {
+            for (int child = 0; adult + child <= MAX_CUSTOMERS; child++) {
+                for (int teen = 0; adult + child + teen <= MAX_CUSTOMERS; teen++) {
+                    for (int senior = 0; adult + child + teen + senior <= MAX_CUSTOMERS; senior++) {
+                        TicketCounts counts = TicketCounts.of(Map.of(TicketType.ADULT, adult, TicketType.CHILD, child,
+                                TicketType.TEEN, teen, TicketType.SENIOR, senior));
+                        assertEquals(enginePricing.calculateTransaction(counts), tablePricing.calculateTransaction(counts),
+                                counts.toString());
+                        vectors++;
+                    }
+                }
+            }
+        }
+        assertEquals(pricingSnapshotHolder(MAX_CUSTOMERS).current().getPriceTable().size(), vectors);
+    }
+
+    @Test
+    void calculateTransaction_fromTable_shouldReturnResultsCallersCannotModify() {
+        // Given
+        PricingService tablePricing = pricingService(MAX_CUSTOMERS);
+        TicketCounts counts = TicketCounts.of(Map.of(TicketType.CHILD, 3, TicketType.SENIOR, 1));
+
+        // When
+        TransactionPriceResult result = tablePricing.calculateTransaction(counts);
+
+        // Then
+        assertThrows(UnsupportedOperationException.class, () -> result.getTicketPrices().clear());
+        assertThrows(UnsupportedOperationException.class,
+                () -> result.getTicketPrices().get(0).getAppliedDiscounts().add("Extra Discount"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> result.getTicketPrices().get(0).getAppliedDiscountAmountsMinor().set(0, 0L));
+        assertEquals(result, tablePricing.calculateTransaction(counts));
+    }
+
+    @Test
+    void rank_shouldMapEveryCountVectorToADistinctSlot() {
+        // Given
+        PriceTable table = pricingSnapshotHolder(MAX_CUSTOMERS).current().getPriceTable();
+        BitSet seen = new BitSet();
+
+        // When
+        for (int adult = 0; adult <= MAX_CUSTOMERS; adult++) {
+            for (int child = 0; adult + child <= MAX_CUSTOMERS; child++) {
+                for (int teen = 0; adult + child + teen <= MAX_CUSTOMERS; teen++) {
+                    for (int senior = 0; adult + child + teen + senior <= MAX_CUSTOMERS; senior++) {
+                        int rank = table.rank(TicketCounts.of(Map.of(TicketType.ADULT, adult, TicketType.CHILD, child,
+                                TicketType.TEEN, teen, TicketType.SENIOR, senior)));
+                        assertFalse(seen.get(rank));
+                        seen.set(rank);
+                    }
+                }
+            }
+        }
+
+        // Then
+        assertEquals(table.size(), seen.cardinality());
+        assertEquals(table.size(), seen.length());
+    }
+
+    @Test
+    void calculateTransaction_aboveBound_shouldUseRuleEngine() {
+        // Given
+        PricingService pricingService = pricingService(MAX_CUSTOMERS);
+
+        // When
+        TransactionPriceResult result = pricingService.calculateTransaction(Map.of(TicketType.ADULT, MAX_CUSTOMERS + 1));
+
+        // Then
+        assertEquals(new BigDecimal("191.25"), result.getTotalCost());
+    }
+
+    @Test
+    void calculateTransaction_withUnpricedTicketType_shouldStillThrowException() {
+        // Given
+        pricingConfiguration.setRules(new ArrayList<>(List.of(pricingRule(TicketType.ADULT, "25.00"))));
+        PricingService pricingService = pricingService(MAX_CUSTOMERS);
+
+        // When & Then
+        assertEquals(new BigDecimal("25.00"), pricingService.calculateTransaction(Map.of(TicketType.ADULT, 1)).getTotalCost());
+        assertThrows(PricingRuleException.class,
+                () -> pricingService.calculateTransaction(Map.of(TicketType.ADULT, 1, TicketType.TEEN, 1)));
+    }
+
+    @Test
+    void calculateTransaction_withNegativeCount_shouldThrowException() {
+        // Given
+        PricingService pricingService = pricingService(MAX_CUSTOMERS);
+        PriceTable table = pricingSnapshotHolder(MAX_CUSTOMERS).current().getPriceTable();
+
+        // When & Then
+        assertFalse(table.covers(-1));
+        assertTrue(table.totalCostMinor(TicketCounts.of(Map.of(TicketType.ADULT, -1, TicketType.CHILD, 3))) < 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> pricingService.calculateTransaction(Map.of(TicketType.ADULT, -1, TicketType.CHILD, 3)));
+        assertThrows(IllegalArgumentException.class,
+                () -> pricingService.calculateTransaction(Map.of(TicketType.SENIOR, -2)));
+    }
+
+    @Test
+    void build_withBoundAboveLimit_shouldThrowException() {
+        // When & Then
+        assertThrows(PricingRuleException.class,
+                () -> pricingSnapshotHolder(PriceTable.MAX_CUSTOMERS_LIMIT + 1));
+    }
+
+    @Test
+    void build_withZeroBound_shouldCoverNothing() {
+        // When
+        PriceTable table = pricingSnapshotHolder(0).current().getPriceTable();
+
+        // Then
+        assertFalse(table.covers(0));
+        assertEquals(0, table.getMaxCustomers());
+    }
+
+    private PricingSnapshotHolder pricingSnapshotHolder(int maxCustomers) {
+        PriceTableProperties priceTableProperties = new PriceTableProperties();
+        priceTableProperties.setMaxCustomers(maxCustomers);
+        return new PricingSnapshotHolder(pricingConfiguration, priceTableProperties);
+    }
+
+    private PricingService pricingService(int maxCustomers) {
+        PricingSnapshotHolder pricingSnapshotHolder = pricingSnapshotHolder(maxCustomers);
+        PricingMetrics pricingMetrics = new PricingMetrics(new SimpleMeterRegistry(), pricingSnapshotHolder);
+        return new PricingServiceImpl(pricingSnapshotHolder,
+                new DiscountRuleEngineImpl(pricingSnapshotHolder, pricingMetrics), pricingMetrics);
+    }
+
+    private PricingRule pricingRule(TicketType ticketType, String basePrice) {
+        return PricingRule.builder().ticketType(ticketType).basePrice(new BigDecimal(basePrice)).build();
+    }
+
+    private DiscountRule discount(String name, TicketType ticketType, DiscountCondition condition, int minQuantity,
+                                  String percentage) {
+        return DiscountRule.builder()
+                .name(name)
+                .applicableTicketType(ticketType)
+                .discountPercentage(new BigDecimal(percentage))
+                .minQuantity(minQuantity)
+                .condition(condition)
+                .enabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.model.DiscountCondition;
+import com.ticketing.pricing.model.DiscountRule;
+import com.ticketing.pricing.model.PricingRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PricingConfiguration pricingConfiguration;
+
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    private PricingService pricingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pricingConfiguration = new PricingConfiguration();
+        pricingConfiguration.setRules(new ArrayList<>(List.of(
+                PricingRule.builder().ticketType(TicketType.ADULT).basePrice(new BigDecimal("25.00")).build(),
+                PricingRule.builder().ticketType(TicketType.CHILD).basePrice(new BigDecimal("5.00")).build()
+        )));
+        pricingConfiguration.setDiscounts(new ArrayList<>(List.of(
+                discount("Child Discount", TicketType.CHILD, 3, DiscountCondition.MIN_QUANTITY),
+                discount("Group Discount", null, 4, DiscountCondition.GROUP_DISCOUNT)
+        )));
+        pricingSnapshotHolder = new PricingSnapshotHolder(pricingConfiguration);
+        PricingMetrics pricingMetrics = new PricingMetrics(meterRegistry, pricingSnapshotHolder);
+        pricingService = new PricingServiceImpl(pricingSnapshotHolder,
+                new DiscountRuleEngineImpl(pricingSnapshotHolder, pricingMetrics), pricingMetrics);
+    }
+
+    @Test
+    void calculateTransaction_shouldRecordPricingLatencyPerTicketType() {
+        // When
+        pricingService.calculateTransaction(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 2));
+        pricingService.calculateTransaction(Map.of(TicketType.ADULT, 2));
+
+        // Then
+        assertEquals(2, meterRegistry.get("pricing.tickets").tag("ticket.type", "ADULT").timer().count());
+        assertEquals(1, meterRegistry.get("pricing.tickets").tag("ticket.type", "CHILD").timer().count());
+        assertEquals(0, meterRegistry.get("pricing.tickets").tag("ticket.type", "SENIOR").timer().count());
+    }
+
+    @Test
+    void calculateTransaction_shouldCountRuleEvaluationsAndHits() {
+        // When
+        pricingService.calculateTransaction(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 3));
+        pricingService.calculateTransaction(Map.of(TicketType.CHILD, 1));
+
+        // Then
+        assertEquals(2, meterRegistry.get("pricing.discount.rule.evaluations").tag("rule", "Child Discount").functionCounter().count());
+        assertEquals(1, meterRegistry.get("pricing.discount.rule.hits").tag("rule", "Child Discount").counter().count());
+        assertEquals(3, meterRegistry.get("pricing.discount.rule.evaluations").tag("rule", "Group Discount").functionCounter().count());
+        assertEquals(2, meterRegistry.get("pricing.discount.rule.hits").tag("rule", "Group Discount").counter().count());
+    }
+
+    @Test
+    void activeRuleGauge_shouldFollowCurrentSnapshot() {
+        // Given
+        assertEquals(2, meterRegistry.get("pricing.discount.rules.active").gauge().value());
+
+        // When
+        pricingConfiguration.setDiscounts(new ArrayList<>(List.of(
+                discount("Child Discount", TicketType.CHILD, 3, DiscountCondition.MIN_QUANTITY))));
+        pricingSnapshotHolder.publish(pricingConfiguration);
+
+        // Then
+        assertEquals(1, meterRegistry.get("pricing.discount.rules.active").gauge().value());
+    }
+
+    @Test
+    void calculateTransaction_afterRuleRemoved_shouldRemoveItsMeters() {
+        // Given
+        pricingService.calculateTransaction(Map.of(TicketType.CHILD, 4));
+
+        // When
+        pricingConfiguration.setDiscounts(new ArrayList<>(List.of(
+                discount("Child Discount", TicketType.CHILD, 3, DiscountCondition.MIN_QUANTITY))));
+        pricingSnapshotHolder.publish(pricingConfiguration);
+        pricingService.calculateTransaction(Map.of(TicketType.CHILD, 4));
+
+        // Then
+        assertNull(meterRegistry.find("pricing.discount.rule.hits").tag("rule", "Group Discount").counter());
+        assertEquals(2, meterRegistry.get("pricing.discount.rule.hits").tag("rule", "Child Discount").counter().count());
+    }
+
+    @Test
+    void calculateTransaction_afterRuleTicketTypeChanged_shouldKeepCountingEvaluationsOfThatRule() {
+        // Given
+        pricingService.calculateTransaction(Map.of(TicketType.CHILD, 1));
+
+        // When
+        pricingConfiguration.setDiscounts(new ArrayList<>(List.of(
+                discount("Child Discount", TicketType.ADULT, 3, DiscountCondition.MIN_QUANTITY))));
+        pricingSnapshotHolder.publish(pricingConfiguration);
+        pricingService.calculateTransaction(Map.of(TicketType.ADULT, 1));
+        pricingService.calculateTransaction(Map.of(TicketType.ADULT, 2));
+        pricingService.calculateTransaction(Map.of(TicketType.CHILD, 1));
+
+        // Then
+        assertEquals(3, meterRegistry.get("pricing.discount.rule.evaluations").tag("rule", "Child Discount").functionCounter().count());
+    }
+
+    @Test
+    void calculateTransaction_withThousandsOfRules_shouldCountEvaluationsOfEveryRule() {
+        // Given
+        List<DiscountRule> discounts = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            discounts.add(discount("Child " + i, TicketType.CHILD, 1_000 + i, DiscountCondition.MIN_QUANTITY));
+            discounts.add(discount("Adult " + i, TicketType.ADULT, 1_000 + i, DiscountCondition.MIN_QUANTITY));
+            discounts.add(discount("Group " + i, null, 1_000 + i, DiscountCondition.GROUP_DISCOUNT));
+        }
+        pricingConfiguration.setDiscounts(discounts);
+        pricingSnapshotHolder.publish(pricingConfiguration);
+
+        // When
+        pricingService.calculateTransaction(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 2));
+        pricingService.calculateTransaction(Map.of(TicketType.CHILD, 1));
+        pricingService.calculateTransaction(Map.of(TicketType.CHILD, 1_000));
+
+        // Then
+        assertEquals(3, meterRegistry.get("pricing.discount.rule.evaluations").tag("rule", "Child 999").functionCounter().count());
+        assertEquals(1, meterRegistry.get("pricing.discount.rule.evaluations").tag("rule", "Adult 0").functionCounter().count());
+        assertEquals(4, meterRegistry.get("pricing.discount.rule.evaluations").tag("rule", "Group 500").functionCounter().count());
+        assertEquals(1, meterRegistry.get("pricing.discount.rule.hits").tag("rule", "Child 0").counter().count());
+        assertEquals(1, meterRegistry.get("pricing.discount.rule.hits").tag("rule", "Group 0").counter().count());
+        assertEquals(0, meterRegistry.get("pricing.discount.rule.hits").tag("rule", "Child 1").counter().count());
+        assertEquals(3_000, meterRegistry.find("pricing.discount.rule.evaluations").functionCounters().size());
+    }
+
+    private DiscountRule discount(String name, TicketType ticketType, int minQuantity, DiscountCondition condition) {
+        return DiscountRule.builder()
+                .name(name)
+                .applicableTicketType(ticketType)
+                .discountPercentage(BigDecimal.TEN)
+                .minQuantity(minQuantity)
+                .condition(condition)
+                .enabled(true)
+                .build();
+    }
+}
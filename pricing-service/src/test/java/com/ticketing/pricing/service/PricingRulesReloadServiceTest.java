@@ -0,0 +1,152 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.config.PricingReloadProperties;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.PricingRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingRulesReloadServiceTest {
+
+    private static final String VALID_RULES = """
+            pricing:
+              rules:
+                - ticketType: ADULT
+                  basePrice: 30.00
+                - ticketType: CHILD
+                  basePrice: 5.00
+                - ticketType: TEEN
+                  basePrice: 12.00
+                - ticketType: SENIOR
+                  basePrice: 25.00
+              discounts:
+                - name: Group Discount (4+ tickets)
+                  discountPercentage: 15
+                  minQuantity: 4
+                  condition: GROUP_DISCOUNT
+                  enabled: true
+            """;
+
+    @TempDir
+    private Path directory;
+
+    private Path rulesFile;
+
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    private PricingRulesReloadService pricingRulesReloadService;
+
+    @BeforeEach
+    void setUp() {
+        PricingConfiguration pricingConfiguration = new PricingConfiguration();
+        pricingConfiguration.setRules(List.of(
+                PricingRule.builder().ticketType(TicketType.ADULT).basePrice(new BigDecimal("25.00")).build()));
+        pricingSnapshotHolder = new PricingSnapshotHolder(pricingConfiguration);
+
+        rulesFile = directory.resolve("pricing-rules.yml");
+        PricingReloadProperties pricingReloadProperties = new PricingReloadProperties();
+        pricingReloadProperties.setLocation(rulesFile.toUri().toString());
+        pricingRulesReloadService = new PricingRulesReloadService(
+                pricingSnapshotHolder, pricingReloadProperties, new DefaultResourceLoader());
+    }
+
+    @Test
+    void reload_withValidRules_shouldPublishNewSnapshot() throws IOException {
+        // Given
+        Files.writeString(rulesFile, VALID_RULES);
+
+        // When
+        PricingSnapshot snapshot = pricingRulesReloadService.reload();
+
+        // Then
+        assertSame(snapshot, pricingSnapshotHolder.current());
+        assertEquals(3000, snapshot.getBasePriceTable().basePriceMinor(TicketType.ADULT));
+        assertEquals(4, snapshot.getPricingRuleCount());
+        assertEquals(1, snapshot.getDiscountRulePlan().getActiveRuleCount());
+    }
+
+    @Test
+    void reload_withMissingTicketType_shouldKeepCurrentRules() throws IOException {
+        // Given
+        Files.writeString(rulesFile, VALID_RULES.replace("""
+                    - ticketType: TEEN
+                      basePrice: 12.00
+                """, ""));
+        PricingSnapshot previous = pricingSnapshotHolder.current();
+
+        // When
+        PricingRuleException exception = assertThrows(PricingRuleException.class, () -> pricingRulesReloadService.reload());
+
+        // Then
+        assertEquals("No pricing rule found for ticket type: TEEN", exception.getMessage());
+        assertSame(previous, pricingSnapshotHolder.current());
+    }
+
+    @Test
+    void reload_withInvalidDiscountPercentage_shouldKeepCurrentRules() throws IOException {
+        // Given
+        Files.writeString(rulesFile, VALID_RULES.replace("discountPercentage: 15", "discountPercentage: 150"));
+        PricingSnapshot previous = pricingSnapshotHolder.current();
+
+        // When & Then
+        assertThrows(PricingRuleException.class, () -> pricingRulesReloadService.reload());
+        assertSame(previous, pricingSnapshotHolder.current());
+    }
+
+    @Test
+    void reload_withAgeBands_shouldPublishThemWithTheRules() throws IOException {
+        // Given
+        Files.writeString(rulesFile, VALID_RULES.replace("pricing:\n", """
+                pricing:
+                  ageBands:
+                    - ticketType: CHILD
+                      maxAge: 5
+                    - ticketType: ADULT
+                """));
+
+        // When
+        PricingSnapshot snapshot = pricingRulesReloadService.reload();
+
+        // Then
+        assertEquals(TicketType.CHILD, snapshot.getAgeBandTable().classify(5));
+        assertEquals(TicketType.ADULT, snapshot.getAgeBandTable().classify(6));
+        assertEquals(TicketType.ADULT, snapshot.getAgeBandTable().classify(80));
+    }
+
+    @Test
+    void reload_withUnorderedAgeBands_shouldKeepCurrentRules() throws IOException {
+        // Given
+        Files.writeString(rulesFile, VALID_RULES.replace("pricing:\n", """
+                pricing:
+                  ageBands:
+                    - ticketType: TEEN
+                      maxAge: 17
+                    - ticketType: CHILD
+                      maxAge: 10
+                    - ticketType: ADULT
+                """));
+        PricingSnapshot previous = pricingSnapshotHolder.current();
+
+        // When & Then
+        assertThrows(PricingRuleException.class, () -> pricingRulesReloadService.reload());
+        assertSame(previous, pricingSnapshotHolder.current());
+    }
+
+    @Test
+    void reload_withMissingFile_shouldThrowException() {
+        // When & Then
+        assertThrows(PricingRuleException.class, () -> pricingRulesReloadService.reload());
+    }
+}
@@ -4,15 +4,19 @@ import com.ticketing.pricing.config.PricingConfiguration;
 import com.ticketing.pricing.exception.PricingRuleException;
 import com.ticketing.pricing.model.PriceCalculationResult;
 import com.ticketing.pricing.model.PricingRule;
+import com.ticketing.pricing.model.TransactionPriceResult;
 import com.ticketing.common.model.TicketType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +30,8 @@ class PricingServiceImplTest {
     @Mock
     private PricingConfiguration pricingConfiguration;
 
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
     @Mock
     private DiscountRuleEngine discountRuleEngine;
 
@@ -33,7 +39,9 @@ class PricingServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        pricingService = new PricingServiceImpl(pricingConfiguration, discountRuleEngine);
+        pricingSnapshotHolder = new PricingSnapshotHolder(pricingConfiguration);
+        pricingService = new PricingServiceImpl(pricingSnapshotHolder, discountRuleEngine,
+                new PricingMetrics(new SimpleMeterRegistry(), pricingSnapshotHolder));
     }
 
     @Test
@@ -56,6 +64,7 @@ class PricingServiceImplTest {
                 .build();
 
         when(pricingConfiguration.getRules()).thenReturn(List.of(rule));
+        pricingSnapshotHolder.publish(pricingConfiguration);
         when(discountRuleEngine.applyDiscounts(eq(ticketType), any(), eq(counts)))
                 .thenReturn(discountResult);
 
@@ -83,6 +92,7 @@ class PricingServiceImplTest {
                 .build();
 
         when(pricingConfiguration.getRules()).thenReturn(List.of(rule));
+        pricingSnapshotHolder.publish(pricingConfiguration);
 
         // When
         BigDecimal result = pricingService.getTicketBasePrice(ticketType);
@@ -95,6 +105,7 @@ class PricingServiceImplTest {
     void getTicketBasePrice_withInvalidTicketType_shouldThrowException() {
         // Given
         when(pricingConfiguration.getRules()).thenReturn(new ArrayList<>());
+        pricingSnapshotHolder.publish(pricingConfiguration);
 
         // When & Then
         assertThrows(
@@ -125,6 +136,7 @@ class PricingServiceImplTest {
                 .build();
 
         when(pricingConfiguration.getRules()).thenReturn(List.of(rule));
+        pricingSnapshotHolder.publish(pricingConfiguration);
         when(discountRuleEngine.applyDiscounts(eq(ticketType), any(), eq(counts)))
                 .thenReturn(discountResult);
 
@@ -137,4 +149,85 @@ class PricingServiceImplTest {
         assertEquals(new BigDecimal("12.75"), result.getFinalPrice());
         assertEquals(1, result.getAppliedDiscounts().size());
     }
+
+    @Test
+    void calculateTransaction_shouldPriceEachPresentTicketTypeOnce() {
+        // Given
+        Map<TicketType, Integer> counts = Map.of(
+                TicketType.ADULT, 2,
+                TicketType.CHILD, 3,
+                TicketType.TEEN, 0
+        );
+
+        givenTwoAdultsAndThreeChildrenArePriced();
+
+        // When
+        TransactionPriceResult result = pricingService.calculateTransaction(counts);
+
+        // Then
+        assertEquals(2, result.getTicketPrices().size());
+        assertEquals(new BigDecimal("61.25"), result.getTotalCost());
+        assertEquals(6125, result.getTotalCostMinor());
+        assertEquals(5, result.getTotalQuantity());
+        verify(discountRuleEngine, never()).applyDiscounts(any(PricingSnapshot.class), eq(TicketType.TEEN), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void calculateTransactionByAge_shouldClassifyAgesBeforePricing() {
+        // Given
+        Map<Integer, Integer> customersByAge = Map.of(35, 1, 40, 1, 8, 3, 15, 0);
+
+        givenTwoAdultsAndThreeChildrenArePriced();
+        ArgumentCaptor<TicketType> ticketTypes = ArgumentCaptor.forClass(TicketType.class);
+        ArgumentCaptor<Integer> quantities = ArgumentCaptor.forClass(Integer.class);
+
+        // When
+        TransactionPriceResult result = pricingService.calculateTransactionByAge(customersByAge);
+
+        // Then
+        verify(discountRuleEngine, times(2)).applyDiscounts(any(PricingSnapshot.class), ticketTypes.capture(), any(),
+                quantities.capture(), eq(5));
+        Map<TicketType, Integer> pricedQuantities = new EnumMap<>(TicketType.class);
+        for (int i = 0; i < ticketTypes.getAllValues().size(); i++) {
+            pricedQuantities.put(ticketTypes.getAllValues().get(i), quantities.getAllValues().get(i));
+        }
+        assertEquals(Map.of(TicketType.ADULT, 2, TicketType.CHILD, 3), pricedQuantities);
+        assertEquals(6125, result.getTotalCostMinor());
+        assertEquals(5, result.getTotalQuantity());
+    }
+
+    @Test
+    void calculateTransaction_withMissingPricingRule_shouldThrowException() {
+        // Given
+        when(pricingConfiguration.getRules()).thenReturn(new ArrayList<>());
+        pricingSnapshotHolder.publish(pricingConfiguration);
+
+        // When & Then
+        assertThrows(
+                PricingRuleException.class,
+                () -> pricingService.calculateTransaction(Map.of(TicketType.ADULT, 1))
+        );
+    }
+
+    private void givenTwoAdultsAndThreeChildrenArePriced() {
+        when(pricingConfiguration.getRules()).thenReturn(List.of(
+                PricingRule.builder().ticketType(TicketType.ADULT).basePrice(new BigDecimal("25.00")).build(),
+                PricingRule.builder().ticketType(TicketType.CHILD).basePrice(new BigDecimal("5.00")).build()
+        ));
+        pricingSnapshotHolder.publish(pricingConfiguration);
+        when(discountRuleEngine.applyDiscounts(any(PricingSnapshot.class), eq(TicketType.ADULT), eq(new BigDecimal("25.00")), eq(2), eq(5)))
+                .thenReturn(PriceCalculationResult.builder()
+                        .ticketType(TicketType.ADULT)
+                        .quantity(2)
+                        .totalCost(new BigDecimal("50.00"))
+                        .totalCostMinor(5000)
+                        .build());
+        when(discountRuleEngine.applyDiscounts(any(PricingSnapshot.class), eq(TicketType.CHILD), eq(new BigDecimal("5.00")), eq(3), eq(5)))
+                .thenReturn(PriceCalculationResult.builder()
+                        .ticketType(TicketType.CHILD)
+                        .quantity(3)
+                        .totalCost(new BigDecimal("11.25"))
+                        .totalCostMinor(1125)
+                        .build());
+    }
 }
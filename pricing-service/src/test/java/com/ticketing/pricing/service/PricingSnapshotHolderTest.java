@@ -0,0 +1,178 @@
+package com.ticketing.pricing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.DiscountCondition;
+import com.ticketing.pricing.model.DiscountRule;
+import com.ticketing.pricing.model.PricingRule;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingSnapshotHolderTest {
+
+    private PricingConfiguration pricingConfiguration;
+
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    @BeforeEach
+    void setUp() {
+        pricingConfiguration = configuration("25.00", null);
+        pricingSnapshotHolder = new PricingSnapshotHolder(pricingConfiguration);
+    }
+
+    @Test
+    void current_withUnchangedConfiguration_shouldReturnSameSnapshot() {
+        // When & Then
+        assertSame(pricingSnapshotHolder.current(), pricingSnapshotHolder.current());
+    }
+
+    @Test
+    void publish_shouldSwapInNewSnapshot() {
+        // Given
+        PricingSnapshot previous = pricingSnapshotHolder.current();
+
+        // When
+        PricingSnapshot published = pricingSnapshotHolder.publish(configuration("30.00", null));
+
+        // Then
+        assertSame(published, pricingSnapshotHolder.current());
+        assertTrue(published.getVersion() > previous.getVersion());
+        assertEquals(new BigDecimal("30.00"), published.getBasePriceTable().basePrice(TicketType.ADULT));
+    }
+
+    @Test
+    void publish_withInvalidRules_shouldKeepCurrentSnapshot() {
+        // Given
+        PricingSnapshot previous = pricingSnapshotHolder.current();
+        PricingConfiguration invalid = configuration("30.00", null);
+        invalid.setDiscounts(List.of(DiscountRule.builder()
+                .name("Broken")
+                .condition(DiscountCondition.MIN_QUANTITY)
+                .discountPercentage(BigDecimal.TEN)
+                .enabled(true)
+                .build()));
+
+        // When & Then
+        assertThrows(PricingRuleException.class, () -> pricingSnapshotHolder.publish(invalid));
+        assertSame(previous, pricingSnapshotHolder.current());
+    }
+
+    @Test
+    void publish_shouldNotifyListenersOfPublishedSnapshotsOnly() {
+        // Given
+        List<PricingSnapshot> notified = new ArrayList<>();
+        pricingSnapshotHolder.addPublishListener(notified::add);
+        PricingConfiguration invalid = configuration("30.00", null);
+        invalid.setDiscounts(List.of(DiscountRule.builder()
+                .name("Broken")
+                .condition(DiscountCondition.MIN_QUANTITY)
+                .discountPercentage(BigDecimal.TEN)
+                .enabled(true)
+                .build()));
+
+        // When
+        PricingSnapshot published = pricingSnapshotHolder.publish(configuration("30.00", null));
+        assertThrows(PricingRuleException.class, () -> pricingSnapshotHolder.publish(invalid));
+
+        // Then
+        assertEquals(List.of(published), notified);
+    }
+
+    @Test
+    void current_afterConfigurationEditedInPlace_shouldKeepSnapshotUntilPublished() {
+        // Given
+        PricingSnapshot previous = pricingSnapshotHolder.current();
+
+        // When
+        pricingConfiguration.setRules(configuration("20.00", null).getRules());
+
+        // Then
+        assertSame(previous, pricingSnapshotHolder.current());
+        assertEquals(new BigDecimal("25.00"), previous.getBasePriceTable().basePrice(TicketType.ADULT));
+        assertEquals(new BigDecimal("20.00"), pricingSnapshotHolder.publish(pricingConfiguration)
+                .getBasePriceTable().basePrice(TicketType.ADULT));
+    }
+
+    @Test
+    void calculateTransaction_whileRulesAreSwapped_shouldNeverMixRuleVersions() throws Exception {
+        // Given
+        // A prices the pair at 25.00 + 5.00, B at 20.00 - 50% + 8.00; any mix of the two gives a different total
+        PricingConfiguration versionA = configuration("25.00", "5.00", null);
+        PricingConfiguration versionB = configuration("20.00", "8.00", "50");
+        PricingSnapshotHolder holder = new PricingSnapshotHolder(versionA);
+        PricingMetrics pricingMetrics = new PricingMetrics(new SimpleMeterRegistry(), holder);
+        PricingService pricingService = new PricingServiceImpl(holder, new DiscountRuleEngineImpl(holder, pricingMetrics), pricingMetrics);
+        Map<TicketType, Integer> counts = Map.of(TicketType.ADULT, 1, TicketType.CHILD, 1);
+
+        Set<BigDecimal> totals = ConcurrentHashMap.newKeySet();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(2);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                readers.add(executor.submit(() -> {
+                    started.countDown();
+                    while (running.get()) {
+                        TransactionPriceResult result = pricingService.calculateTransaction(counts);
+                        totals.add(result.getTotalCost());
+                    }
+                }));
+            }
+            started.await();
+            for (int i = 0; i < 2_000; i++) {
+                holder.publish(i % 2 == 0 ? versionB : versionA);
+            }
+            running.set(false);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        }
+
+        // Then
+        assertTrue(Set.of(new BigDecimal("30.00"), new BigDecimal("18.00")).containsAll(totals), totals::toString);
+    }
+
+    private PricingConfiguration configuration(String adultPrice, String adultDiscountPercentage) {
+        return configuration(adultPrice, "5.00", adultDiscountPercentage);
+    }
+
+    private PricingConfiguration configuration(String adultPrice, String childPrice, String adultDiscountPercentage) {
+        PricingConfiguration configuration = new PricingConfiguration();
+        configuration.setRules(new ArrayList<>(List.of(
+                PricingRule.builder().ticketType(TicketType.ADULT).basePrice(new BigDecimal(adultPrice)).build(),
+                PricingRule.builder().ticketType(TicketType.CHILD).basePrice(new BigDecimal(childPrice)).build()
+        )));
+        List<DiscountRule> discounts = new ArrayList<>();
+        if (adultDiscountPercentage != null) {
+            discounts.add(DiscountRule.builder()
+                    .name("Adult Promotion")
+                    .applicableTicketType(TicketType.ADULT)
+                    .discountPercentage(new BigDecimal(adultDiscountPercentage))
+                    .minQuantity(0)
+                    .condition(DiscountCondition.TICKET_TYPE)
+                    .enabled(true)
+                    .build());
+        }
+        configuration.setDiscounts(discounts);
+        return configuration;
+    }
+}
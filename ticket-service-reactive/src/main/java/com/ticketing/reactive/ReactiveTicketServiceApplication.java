@@ -0,0 +1,60 @@
+package com.ticketing.reactive;
+
+import com.ticketing.actuator.PricingRulesEndpoint;
+import com.ticketing.actuator.SalesEndpoint;
+import com.ticketing.config.BatchProcessingProperties;
+import com.ticketing.config.ErrorLogProperties;
+import com.ticketing.config.JournalConfiguration;
+import com.ticketing.config.JournalProperties;
+import com.ticketing.config.QuoteCacheMetricsConfiguration;
+import com.ticketing.service.SalesCounters;
+import com.ticketing.service.TicketBatchProcessingService;
+import com.ticketing.service.TicketProcessingService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The transactions API on WebFlux and Netty, sharing the servlet service's transaction processing and
+ * pricing.
+ * <p>
+ * Only the transport is replaced: the processing services, journal, sales counters and admin endpoints
+ * are imported from the ticket service, and pricing is scanned from the pricing service. The servlet
+ * controller, idempotency and load shedding are left out. Configuration is read from
+ * {@code reactive-ticket-service.yml} so it cannot be confused with the servlet service's
+ * {@code application.yml} on the same classpath.
+ */
+@SpringBootApplication(scanBasePackages = {"com.ticketing.reactive", "com.ticketing.pricing"})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConfigurationPropertiesScan("com.ticketing.pricing")
+@EnableConfigurationProperties({BatchProcessingProperties.class, JournalProperties.class, ErrorLogProperties.class})
+@Import({
+        TicketProcessingService.class,
+        TicketBatchProcessingService.class,
+        SalesCounters.class,
+        JournalConfiguration.class,
+        QuoteCacheMetricsConfiguration.class,
+        PricingRulesEndpoint.class,
+        SalesEndpoint.class
+})
+public class ReactiveTicketServiceApplication {
+
+    public static final String CONFIG_NAME = "reactive-ticket-service";
+
+    public static void main(String[] args) {
+        application().run(args);
+    }
+
+    /**
+     * The application on Netty with its own configuration name, for starting it from code.
+     */
+    public static SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(ReactiveTicketServiceApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("spring.config.name=" + CONFIG_NAME);
+    }
+}
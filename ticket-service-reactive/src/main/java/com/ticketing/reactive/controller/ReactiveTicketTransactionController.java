@@ -0,0 +1,77 @@
+package com.ticketing.reactive.controller;
+
+import com.ticketing.dto.request.CountedTransactionRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionBatchResponse;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.dto.response.TransactionBatchItemResult;
+import com.ticketing.reactive.service.ReactiveTransactionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The servlet service's {@code /api/v1/tickets} contract on WebFlux. Request bodies are decoded without
+ * blocking: a batch is consumed as a stream of its array elements, and the NDJSON stream endpoint answers
+ * each line as it is priced.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tickets")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTicketTransactionController {
+
+    private final ReactiveTransactionService reactiveTransactionService;
+
+    @PostMapping(
+            path = "/transactions",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<TicketTransactionResponse> processTicketTransaction(
+            @Valid @RequestBody Mono<TicketTransactionRequest> request) {
+        return reactiveTransactionService.processTransaction(request.doOnNext(transaction ->
+                log.info("Received ticket transaction Id : {}, request with {} customers",
+                        transaction.getTransactionId(), transaction.getCustomers().size())));
+    }
+
+    @PostMapping(
+            path = "/transactions/counts",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<TicketTransactionResponse> processCountedTransaction(
+            @Valid @RequestBody Mono<CountedTransactionRequest> request) {
+        return reactiveTransactionService.processCountedTransaction(request.doOnNext(transaction ->
+                log.info("Received counted ticket transaction Id : {}", transaction.getTransactionId())));
+    }
+
+    @PostMapping(
+            path = "/transactions/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<TicketTransactionBatchResponse> processTicketTransactionBatch(
+            @RequestBody(required = false) Flux<TicketTransactionRequest> requests) {
+        // Not required, so an empty array reaches the batch check instead of failing as a missing body
+        return reactiveTransactionService.processBatch(requests)
+                .doOnNext(response -> log.info("Processed ticket transaction batch with {} transactions",
+                        response.getResults().size()));
+    }
+
+    @PostMapping(
+            path = "/transactions/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public Flux<TransactionBatchItemResult> processTicketTransactionStream(@RequestBody Flux<String> lines) {
+        log.info("Received ticket transaction stream");
+        return reactiveTransactionService.processStream(lines);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ticketing.reactive.exception;
+
+import com.ticketing.config.ErrorLogProperties;
+import com.ticketing.dto.response.ErrorResponse;
+import com.ticketing.exception.InvalidTransactionException;
+import com.ticketing.exception.PricingException;
+import com.ticketing.exception.handler.RateLimitedLog;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps failures to the same error bodies, logged at the same rates, as the servlet service's handler,
+ * using the WebFlux binding and decoding exceptions in place of the servlet ones.
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    private final RateLimitedLog invalidTransactions;
+    private final RateLimitedLog pricingErrors;
+    private final RateLimitedLog unreadableRequests;
+    private final RateLimitedLog unexpectedErrors;
+
+    public ReactiveExceptionHandler(ErrorLogProperties errorLogProperties) {
+        this.invalidTransactions = rateLimitedLog(Level.WARN, errorLogProperties);
+        this.pricingErrors = rateLimitedLog(Level.ERROR, errorLogProperties);
+        this.unreadableRequests = rateLimitedLog(Level.WARN, errorLogProperties);
+        this.unexpectedErrors = rateLimitedLog(Level.ERROR, errorLogProperties);
+    }
+
+    @ExceptionHandler(InvalidTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTransaction(InvalidTransactionException ex) {
+        invalidTransactions.log("Invalid transaction: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(PricingException.class)
+    public ResponseEntity<ErrorResponse> handlePricingException(PricingException ex) {
+        pricingErrors.log("Pricing error: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(WebExchangeBindException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorResponse.validationFailed(errors));
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex) {
+        unreadableRequests.log("Request handling error: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Input request validation Failed");
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        unexpectedErrors.log("Unexpected error", ex);
+        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+    }
+
+    private ResponseEntity<ErrorResponse> buildErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(ErrorResponse.of(status, message));
+    }
+
+    private static RateLimitedLog rateLimitedLog(Level level, ErrorLogProperties errorLogProperties) {
+        return new RateLimitedLog(log, level, errorLogProperties.getLimit(), errorLogProperties.getInterval());
+    }
+}
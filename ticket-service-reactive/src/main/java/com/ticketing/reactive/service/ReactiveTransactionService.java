@@ -0,0 +1,146 @@
+package com.ticketing.reactive.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.config.BatchProcessingProperties;
+import com.ticketing.config.JournalProperties;
+import com.ticketing.dto.request.CountedTransactionRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionBatchResponse;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.dto.response.TransactionBatchItemResult;
+import com.ticketing.dto.response.TransactionBatchItemStatus;
+import com.ticketing.exception.InvalidTransactionException;
+import com.ticketing.journal.FsyncPolicy;
+import com.ticketing.service.TicketBatchProcessingService;
+import com.ticketing.service.TicketProcessingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking front end to {@link TicketProcessingService} and {@link TicketBatchProcessingService}.
+ * <p>
+ * Classifying and pricing a transaction is short, CPU-bound work, so it runs on the thread that decoded
+ * the request rather than being handed to another pool. The one step that can block is the transaction
+ * journal with {@link FsyncPolicy#ALWAYS}, which waits for the disk; with that policy processing is moved
+ * onto the bounded elastic scheduler so the event loop is never parked on an fsync.
+ * <p>
+ * Batches are processed as their items are decoded, so a large batch is never held in memory as a request
+ * list. Each subscription starts its own {@link TicketBatchProcessingService.BatchItemProcessor}, so batches
+ * are priced exactly as in the servlet service.
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTransactionService {
+
+    private final TicketProcessingService ticketProcessingService;
+    private final TicketBatchProcessingService ticketBatchProcessingService;
+    private final BatchProcessingProperties batchProcessingProperties;
+    private final ObjectReader requestReader;
+    private final Scheduler processingScheduler;
+
+    public ReactiveTransactionService(TicketProcessingService ticketProcessingService,
+                                      TicketBatchProcessingService ticketBatchProcessingService,
+                                      BatchProcessingProperties batchProcessingProperties,
+                                      JournalProperties journalProperties,
+                                      ObjectMapper objectMapper) {
+        this.ticketProcessingService = ticketProcessingService;
+        this.ticketBatchProcessingService = ticketBatchProcessingService;
+        this.batchProcessingProperties = batchProcessingProperties;
+        this.requestReader = objectMapper.readerFor(TicketTransactionRequest.class);
+        this.processingScheduler = journalProperties.isEnabled() && journalProperties.getFsyncPolicy() == FsyncPolicy.ALWAYS
+                ? Schedulers.boundedElastic()
+                : Schedulers.immediate();
+    }
+
+    public Mono<TicketTransactionResponse> processTransaction(Mono<TicketTransactionRequest> request) {
+        return request
+                .publishOn(processingScheduler)
+                .map(ticketProcessingService::processTransaction);
+    }
+
+    public Mono<TicketTransactionResponse> processCountedTransaction(Mono<CountedTransactionRequest> request) {
+        return request
+                .publishOn(processingScheduler)
+                .map(ticketProcessingService::processCountedTransaction);
+    }
+
+    /**
+     * Prices a batch as its items arrive. An empty batch, or one that grows past the configured maximum,
+     * fails as a whole; every other failure is reported against its item.
+     */
+    public Mono<TicketTransactionBatchResponse> processBatch(Flux<TicketTransactionRequest> requests) {
+        int maxSize = batchProcessingProperties.getMaxSize();
+        return Flux.defer(() -> {
+                    TicketBatchProcessingService.BatchItemProcessor batchItems = ticketBatchProcessingService.startBatch();
+                    return requests
+                            .index()
+                            .publishOn(processingScheduler)
+                            .map(item -> {
+                                int index = item.getT1().intValue();
+                                if (index >= maxSize) {
+                                    throw new InvalidTransactionException("Batch cannot include more than "
+                                            + maxSize + " transactions");
+                                }
+                                return batchItems.process(index, item.getT2());
+                            });
+                })
+                .collect(ArrayList<TransactionBatchItemResult>::new, List::add)
+                .map(this::toBatchResponse);
+    }
+
+    /**
+     * Prices newline-delimited transactions one line at a time, emitting each result as soon as it is
+     * priced. A line that is not a valid transaction is reported against its index without ending the stream.
+     */
+    public Flux<TransactionBatchItemResult> processStream(Flux<String> lines) {
+        return Flux.defer(() -> {
+            TicketCounts ticketCounts = new TicketCounts();
+            return lines
+                    .filter(line -> !line.isBlank())
+                    .index()
+                    .publishOn(processingScheduler)
+                    .map(line -> processLine(line.getT1().intValue(), line.getT2(), ticketCounts));
+        });
+    }
+
+    private TransactionBatchItemResult processLine(int index, String line, TicketCounts ticketCounts) {
+        TicketTransactionRequest request;
+        try {
+            request = requestReader.readValue(line);
+        } catch (JsonProcessingException ex) {
+            return ticketBatchProcessingService.failure(index, null, TransactionBatchItemStatus.INVALID,
+                    Map.of("message", TicketBatchProcessingService.UNREADABLE_ITEM));
+        }
+        return ticketBatchProcessingService.processItem(index, request, ticketCounts);
+    }
+
+    private TicketTransactionBatchResponse toBatchResponse(List<TransactionBatchItemResult> results) {
+        if (results.isEmpty()) {
+            throw new InvalidTransactionException("Batch must include at least one transaction");
+        }
+        int succeeded = 0;
+        for (TransactionBatchItemResult result : results) {
+            if (result.getStatus() == TransactionBatchItemStatus.SUCCESS) {
+                succeeded++;
+            }
+        }
+        return TicketTransactionBatchResponse.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+}
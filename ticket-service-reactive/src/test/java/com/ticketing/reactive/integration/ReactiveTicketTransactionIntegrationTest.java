@@ -0,0 +1,233 @@
+package com.ticketing.reactive.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.dto.request.CountedTransactionRequest;
+import com.ticketing.dto.request.CustomerRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TransactionBatchItemResult;
+import com.ticketing.dto.response.TransactionBatchItemStatus;
+import com.ticketing.reactive.ReactiveTicketServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        classes = ReactiveTicketServiceApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.config.name=" + ReactiveTicketServiceApplication.CONFIG_NAME,
+                "management.endpoints.web.exposure.include=health,pricingrules,sales"
+        }
+)
+@AutoConfigureWebTestClient
+class ReactiveTicketTransactionIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void processTicketsTransactions_withMultipleCustomers_shouldApplyCorrectPricing() {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35), createCustomer("Child Customer", 5),
+                        createCustomer("Senior Customer", 72)))
+                .transactionId(21L)
+                .build();
+
+        // When & Then
+        webTestClient.post().uri("/api/v1/tickets/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.transactionId").isEqualTo(21)
+                .jsonPath("$.totalCost").isEqualTo(47.50)
+                .jsonPath("$.tickets.length()").isEqualTo(3)
+                .jsonPath("$.tickets[0].ticketType").isEqualTo("ADULT")
+                .jsonPath("$.tickets[1].ticketType").isEqualTo("CHILD")
+                .jsonPath("$.tickets[2].ticketType").isEqualTo("SENIOR");
+    }
+
+    @Test
+    void processTicketsTransactions_withInvalidData_shouldReturnValidationErrors() {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("", 21)))
+                .build();
+
+        // When & Then
+        webTestClient.post().uri("/api/v1/tickets/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Failed")
+                .jsonPath("$.errors['customers[0].name']").isEqualTo("Name cannot be blank");
+    }
+
+    @Test
+    void processCountedTransaction_withTicketCounts_shouldPriceLikeCustomerList() {
+        // Given
+        CountedTransactionRequest request = CountedTransactionRequest.builder()
+                .transactionId(22L)
+                .ticketCounts(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 1, TicketType.SENIOR, 1))
+                .build();
+
+        // When & Then
+        webTestClient.post().uri("/api/v1/tickets/transactions/counts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.transactionId").isEqualTo(22)
+                .jsonPath("$.totalCost").isEqualTo(47.50)
+                .jsonPath("$.tickets.length()").isEqualTo(3);
+    }
+
+    @Test
+    void processTicketsTransactions_withMalformedJson_shouldReturnBadRequest() {
+        // When & Then
+        webTestClient.post().uri("/api/v1/tickets/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"transactionId\": ")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Input request validation Failed");
+    }
+
+    @Test
+    void processTicketsTransactionBatch_shouldPriceEachItemIndependently() {
+        // Given
+        TicketTransactionRequest valid = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35)))
+                .transactionId(31L)
+                .build();
+        TicketTransactionRequest invalid = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("", 35)))
+                .transactionId(32L)
+                .build();
+
+        // When & Then
+        webTestClient.post().uri("/api/v1/tickets/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(valid, invalid))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.succeeded").isEqualTo(1)
+                .jsonPath("$.failed").isEqualTo(1)
+                .jsonPath("$.results[0].response.totalCost").isEqualTo(25.00)
+                .jsonPath("$.results[1].status").isEqualTo("INVALID")
+                .jsonPath("$.results[1].errors['customers[0].name']").isEqualTo("Name cannot be blank");
+    }
+
+    @Test
+    void processTicketsTransactionBatch_withNoTransactions_shouldReturnBadRequest() {
+        // When & Then
+        webTestClient.post().uri("/api/v1/tickets/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Collections.emptyList())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Batch must include at least one transaction");
+    }
+
+    @Test
+    void processTicketsTransactionBatch_overMaxSize_shouldReturnBadRequest() {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35)))
+                .transactionId(33L)
+                .build();
+
+        // When & Then
+        webTestClient.post().uri("/api/v1/tickets/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Collections.nCopies(1001, request))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Batch cannot include more than 1000 transactions");
+    }
+
+    @Test
+    void processTicketTransactionStream_shouldEmitOneResultPerLine() throws Exception {
+        // Given
+        TicketTransactionRequest first = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35)))
+                .transactionId(41L)
+                .build();
+        TicketTransactionRequest second = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Child Customer", 8)))
+                .transactionId(42L)
+                .build();
+        String body = objectMapper.writeValueAsString(first) + "\n\nnot json\n" + objectMapper.writeValueAsString(second) + "\n";
+
+        // When
+        Flux<TransactionBatchItemResult> results = webTestClient.post().uri("/api/v1/tickets/transactions/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TransactionBatchItemResult.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(results)
+                .expectNextMatches(result -> result.getIndex() == 0 && result.getTransactionId() == 41L
+                        && result.getStatus() == TransactionBatchItemStatus.SUCCESS)
+                .expectNextMatches(result -> result.getIndex() == 1 && result.getStatus() == TransactionBatchItemStatus.INVALID)
+                .expectNextMatches(result -> result.getIndex() == 2 && result.getTransactionId() == 42L
+                        && result.getStatus() == TransactionBatchItemStatus.SUCCESS)
+                .verifyComplete();
+    }
+
+    @Test
+    void sales_shouldIncludeProcessedTransactions() {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Senior Customer", 70)))
+                .transactionId(91L)
+                .build();
+        webTestClient.post().uri("/api/v1/tickets/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk();
+
+        // When & Then
+        webTestClient.get().uri("/actuator/sales")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.ticketTypes.SENIOR.ticketsSold").value(Integer.class, sold -> assertThat(sold).isPositive());
+    }
+
+    private CustomerRequest createCustomer(String name, int age) {
+        return CustomerRequest.builder()
+                .name(name)
+                .age(age)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ticketing.actuator;
+
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.service.PricingRulesReloadService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Admin endpoint for the pricing rules in effect.
+ * <p>
+ * {@code GET /actuator/pricingrules} describes the current pricing snapshot and
+ * {@code POST /actuator/pricingrules} reloads the rules file. A rejected reload answers
+ * {@code 400 Bad Request} and leaves the current rules in place. The endpoint is unauthenticated and
+ * therefore not in the default web exposure; enable it only on a management port the public cannot reach.
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "pricingrules")
+@RequiredArgsConstructor
+public class PricingRulesEndpoint {
+
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final PricingRulesReloadService pricingRulesReloadService;
+
+    @ReadOperation
+    public PricingRulesDescriptor pricingRules() {
+        return PricingRulesDescriptor.of(pricingSnapshotHolder.current());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> reload() {
+        try {
+            return new WebEndpointResponse<>(PricingRulesDescriptor.of(pricingRulesReloadService.reload()));
+        } catch (PricingRuleException ex) {
+            log.warn("Pricing rules reload rejected: {}", ex.getMessage());
+            return new WebEndpointResponse<>(Map.of("message", ex.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+
+    public record PricingRulesDescriptor(long version, int pricingRules, int discountRules, int activeDiscountRules) {
+
+        static PricingRulesDescriptor of(PricingSnapshot snapshot) {
+            return new PricingRulesDescriptor(snapshot.getVersion(), snapshot.getPricingRuleCount(),
+                    snapshot.getDiscountRuleCount(), snapshot.getDiscountRulePlan().getActiveRuleCount());
+        }
+    }
+}
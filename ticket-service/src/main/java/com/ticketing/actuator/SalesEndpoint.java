@@ -0,0 +1,54 @@
+package com.ticketing.actuator;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.common.util.FixedPointPriceUtil;
+import com.ticketing.service.SalesCounters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/sales} reports the live totals kept by {@link SalesCounters}: tickets sold and
+ * revenue per ticket type, overall, and the discount given under each rule. Like {@link PricingRulesEndpoint}
+ * it is not in the default web exposure.
+ */
+@Component
+@WebEndpoint(id = "sales")
+@RequiredArgsConstructor
+public class SalesEndpoint {
+
+    private final SalesCounters salesCounters;
+
+    @ReadOperation
+    public SalesDescriptor sales() {
+        Map<TicketType, TicketTypeSales> ticketTypes = new EnumMap<>(TicketType.class);
+        long ticketsSold = 0;
+        long revenueMinor = 0;
+        for (TicketType ticketType : TicketType.values()) {
+            long typeTicketsSold = salesCounters.getTicketsSold(ticketType);
+            long typeRevenueMinor = salesCounters.getRevenueMinor(ticketType);
+            ticketTypes.put(ticketType,
+                    new TicketTypeSales(typeTicketsSold, FixedPointPriceUtil.toAmount(typeRevenueMinor)));
+            ticketsSold += typeTicketsSold;
+            revenueMinor += typeRevenueMinor;
+        }
+
+        Map<String, BigDecimal> discounts = new LinkedHashMap<>();
+        salesCounters.getDiscountsMinor().forEach((rule, amount) -> discounts.put(rule, FixedPointPriceUtil.toAmount(amount)));
+
+        return new SalesDescriptor(ticketsSold, FixedPointPriceUtil.toAmount(revenueMinor), ticketTypes, discounts);
+    }
+
+    public record SalesDescriptor(long ticketsSold, BigDecimal revenue, Map<TicketType, TicketTypeSales> ticketTypes,
+                                  Map<String, BigDecimal> discounts) {
+    }
+
+    public record TicketTypeSales(long ticketsSold, BigDecimal revenue) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.ticketing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "ticketing.batch")
+@Data
+public class BatchProcessingProperties {
+    private int maxSize = 1000;
+}
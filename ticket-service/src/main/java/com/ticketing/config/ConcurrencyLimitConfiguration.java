@@ -0,0 +1,29 @@
+package com.ticketing.config;
+
+import com.ticketing.limit.AdaptiveConcurrencyLimiter;
+import com.ticketing.limit.ConcurrencyLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts the adaptive concurrency limit in front of the single and counted transaction endpoints. Batches
+ * and streams are left out: their latency grows with their size and says little about overload.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ConcurrencyLimitConfiguration implements WebMvcConfigurer {
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (concurrencyLimitProperties.isEnabled()) {
+            registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiter,
+                            concurrencyLimitProperties.getRetryAfter()))
+                    .addPathPatterns("/api/v1/tickets/transactions", "/api/v1/tickets/transactions/counts");
+        }
+    }
+}
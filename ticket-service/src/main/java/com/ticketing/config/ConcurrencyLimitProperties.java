@@ -0,0 +1,19 @@
+package com.ticketing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ticketing.concurrency-limit")
+@Data
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private int initialLimit = 200;
+    private int minLimit = 20;
+    private int maxLimit = 2_000;
+    private double tolerance = 1.5;
+    private double smoothing = 0.2;
+    private int longWindow = 600;
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
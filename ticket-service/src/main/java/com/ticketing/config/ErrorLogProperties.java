@@ -0,0 +1,13 @@
+package com.ticketing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ticketing.error-log")
+@Data
+public class ErrorLogProperties {
+    private int limit = 10;
+    private Duration interval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,28 @@
+package com.ticketing.config;
+
+import com.ticketing.journal.MappedTransactionJournal;
+import com.ticketing.journal.TransactionJournal;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Journals every priced transaction to memory-mapped segments under {@code ticketing.journal.directory}
+ * when {@code ticketing.journal.enabled} is set. The journal is forced and closed on shutdown.
+ */
+@Configuration
+public class JournalConfiguration {
+
+    @Bean
+    public TransactionJournal transactionJournal(JournalProperties journalProperties) throws IOException {
+        if (!journalProperties.isEnabled()) {
+            return TransactionJournal.DISABLED;
+        }
+        return MappedTransactionJournal.open(
+                journalProperties.getDirectory(),
+                journalProperties.getSegmentSize().toBytes(),
+                journalProperties.getFsyncPolicy(),
+                journalProperties.getFsyncInterval());
+    }
+}
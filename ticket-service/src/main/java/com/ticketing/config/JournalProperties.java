@@ -0,0 +1,19 @@
+package com.ticketing.config;
+
+import com.ticketing.journal.FsyncPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ticketing.journal")
+@Data
+public class JournalProperties {
+    private boolean enabled = false;
+    private Path directory = Path.of("journal");
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.INTERVAL;
+    private Duration fsyncInterval = Duration.ofMillis(100);
+}
@@ -0,0 +1,20 @@
+package com.ticketing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "pricing.client")
+@Data
+public class PricingClientProperties {
+    private boolean enabled = false;
+    private String host = "localhost";
+    private int port = 9090;
+    private int connections = 2;
+    private int maxBatchSize = 256;
+    private int maxInFlightBatches = 8;
+    private int maxQueuedCalls = 10_000;
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration timeout = Duration.ofSeconds(2);
+}
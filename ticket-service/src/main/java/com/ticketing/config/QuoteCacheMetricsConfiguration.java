@@ -0,0 +1,22 @@
+package com.ticketing.config;
+
+import com.ticketing.pricing.service.CachingPricingService;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes quote cache hit, miss, eviction and size metrics under the {@code cache.*} meters,
+ * tagged with {@code cache=pricing.quotes}. Nothing is registered when the quote cache is disabled.
+ */
+@Configuration
+public class QuoteCacheMetricsConfiguration {
+
+    @Bean
+    public MeterBinder quoteCacheMetrics(ObjectProvider<CachingPricingService> cachingPricingService) {
+        return registry -> cachingPricingService.ifAvailable(service ->
+                CaffeineCacheMetrics.monitor(registry, service.getCache(), "pricing.quotes"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.ticketing.config;
+
+import com.ticketing.remote.RemotePricingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Prices transactions on the standalone pricing server at {@code pricing.client.host} and
+ * {@code pricing.client.port} when {@code pricing.client.enabled} is set. Customers are still classified
+ * into age bands against the local pricing rules. The client is closed on shutdown.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "pricing.client", name = "enabled", havingValue = "true")
+public class RemotePricingConfiguration {
+
+    @Bean
+    @Primary
+    public RemotePricingService remotePricingService(PricingClientProperties pricingClientProperties,
+                                                     MeterRegistry meterRegistry) {
+        return new RemotePricingService(pricingClientProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ticketing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "ticketing.stream")
+@Data
+public class StreamProcessingProperties {
+    private int maxLineLength = 1_048_576;
+}
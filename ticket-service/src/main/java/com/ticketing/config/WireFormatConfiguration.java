@@ -0,0 +1,68 @@
+package com.ticketing.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.ticketing.ingest.TalliedTransactionHttpMessageConverter;
+import com.ticketing.ingest.TransactionBatchHttpMessageConverter;
+import com.ticketing.json.ErrorResponseHttpMessageConverter;
+import com.ticketing.json.ErrorResponseWriter;
+import com.ticketing.json.TicketTransactionResponseHttpMessageConverter;
+import com.ticketing.json.TicketTransactionResponseWriter;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary alternatives to JSON for high-volume clients, selected with the {@code Content-Type} and
+ * {@code Accept} headers. Both converters are built from the application's {@link Jackson2ObjectMapperBuilder},
+ * so requests bind, validate and serialize exactly as they do in JSON.
+ * <p>
+ * JSON transaction responses, the hottest body, are written by a dedicated pre-encoded writer that
+ * produces the same bytes as Jackson, and so are JSON error bodies. Single transaction requests, in every
+ * format, are read by a streaming parser that tallies customers into ticket counts instead of binding the
+ * customer list. Batch requests are read one item at a time, so the batch size limit bounds the work done
+ * on them.
+ */
+@Configuration
+public class WireFormatConfiguration {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    @Bean
+    public TicketTransactionResponseHttpMessageConverter ticketTransactionResponseHttpMessageConverter() {
+        return new TicketTransactionResponseHttpMessageConverter(new TicketTransactionResponseWriter());
+    }
+
+    @Bean
+    public ErrorResponseHttpMessageConverter errorResponseHttpMessageConverter() {
+        return new ErrorResponseHttpMessageConverter(new ErrorResponseWriter());
+    }
+
+    @Bean
+    public TalliedTransactionHttpMessageConverter talliedTransactionHttpMessageConverter(
+            PricingSnapshotHolder pricingSnapshotHolder, ObjectMapper objectMapper) {
+        return new TalliedTransactionHttpMessageConverter(pricingSnapshotHolder, objectMapper);
+    }
+
+    @Bean
+    public TransactionBatchHttpMessageConverter transactionBatchHttpMessageConverter(
+            BatchProcessingProperties batchProcessingProperties, ObjectMapper objectMapper) {
+        return new TransactionBatchHttpMessageConverter(batchProcessingProperties, objectMapper);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -1,8 +1,19 @@
 package com.ticketing.controller;
 
+import com.ticketing.dto.request.CountedTransactionRequest;
 import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionBatchResponse;
 import com.ticketing.dto.response.TicketTransactionResponse;
-import com.ticketing.service.TicketProcessingService;
+import com.ticketing.ingest.TalliedTransaction;
+import com.ticketing.ingest.TransactionBatch;
+import com.ticketing.service.IdempotentTransactionService;
+import com.ticketing.service.TicketBatchProcessingService;
+import com.ticketing.service.TicketStreamProcessingService;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,26 +22,79 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
+import static com.ticketing.config.WireFormatConfiguration.APPLICATION_SMILE_VALUE;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/tickets")
 @RequiredArgsConstructor
 public class TicketTransactionController {
 
-    private final TicketProcessingService ticketProcessingService;
+    private final IdempotentTransactionService idempotentTransactionService;
+    private final TicketBatchProcessingService ticketBatchProcessingService;
+    private final TicketStreamProcessingService ticketStreamProcessingService;
 
     @PostMapping(
             path = "/transactions",
-            consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}
     )
     public ResponseEntity<TicketTransactionResponse> processTicketTransaction(
-            @Valid @RequestBody TicketTransactionRequest request) {
+            // Documented as the request it is parsed from
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(schema = @Schema(implementation = TicketTransactionRequest.class)))
+            @RequestBody TalliedTransaction transaction) {
         log.info("Received ticket transaction Id : {}, request with {} customers",
-                request.getTransactionId(), request.getCustomers().size());
+                transaction.getTransactionId(), transaction.getCustomerCount());
 
-        TicketTransactionResponse response = ticketProcessingService.processTransaction(request);
+        TicketTransactionResponse response = idempotentTransactionService.processTalliedTransaction(transaction);
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
+
+    @PostMapping(
+            path = "/transactions/counts",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<TicketTransactionResponse> processCountedTransaction(
+            @Valid @RequestBody CountedTransactionRequest request) {
+        log.info("Received counted ticket transaction Id : {}", request.getTransactionId());
+
+        TicketTransactionResponse response = idempotentTransactionService.processCountedTransaction(request);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PostMapping(
+            path = "/transactions/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<TicketTransactionBatchResponse> processTicketTransactionBatch(
+            // Documented as the array it is read from
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TicketTransactionRequest.class))))
+            @RequestBody TransactionBatch batch) {
+        log.info("Received ticket transaction batch with {} transactions", batch.getRequests().size());
+
+        TicketTransactionBatchResponse response = ticketBatchProcessingService.processBatch(batch);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PostMapping(
+            path = "/transactions/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void processTicketTransactionStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("Received ticket transaction stream");
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ticketStreamProcessingService.processStream(request.getInputStream(), response.getOutputStream());
+    }
 }
@@ -0,0 +1,24 @@
+package com.ticketing.dto.request;
+
+import com.ticketing.common.model.TicketType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * A transaction given by how many customers it has rather than who they are: either a count per ticket
+ * type, or a count of customers per age to be classified against the age bands. Exactly one of the two
+ * must be present.
+ */
+@Data
+@Builder
+public class CountedTransactionRequest {
+    @NotNull(message = "Transaction ID cannot be null")
+    @Min(value = 1, message = "Transaction ID cannot be zero or negative")
+    private Long transactionId;
+    private Map<TicketType, @NotNull(message = "Count cannot be empty") @Min(value = 0, message = "Count cannot be negative") Integer> ticketCounts;
+    private Map<@Min(value = 0, message = "Age cannot be negative") Integer, @NotNull(message = "Count cannot be empty") @Min(value = 0, message = "Count cannot be negative") Integer> customersByAge;
+}
@@ -0,0 +1,66 @@
+package com.ticketing.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ErrorResponse {
+
+    private static volatile CachedTimestamp lastTimestamp;
+
+    private LocalDateTime timestamp;
+    private int status;
+    private String error;
+    private String message;
+    private Map<String, String> errors;
+
+    public static ErrorResponse of(HttpStatus status, String message) {
+        return ErrorResponse.builder()
+                .timestamp(now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .build();
+    }
+
+    public static ErrorResponse validationFailed(Map<String, String> errors) {
+        return ErrorResponse.builder()
+                .timestamp(now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Validation Failed")
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Millisecond precision, so the errors of a burst share timestamps and their encoding can be reused.
+     * The timestamp of the current millisecond is kept, so a flood of rejections reads the clock without
+     * converting it to a date and time for each one.
+     */
+    private static LocalDateTime now() {
+        long millis = System.currentTimeMillis();
+        CachedTimestamp last = lastTimestamp;
+        if (last != null && last.millis() == millis) {
+            return last.timestamp();
+        }
+        LocalDateTime timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        lastTimestamp = new CachedTimestamp(millis, timestamp);
+        return timestamp;
+    }
+
+    private record CachedTimestamp(long millis, LocalDateTime timestamp) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.ticketing.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketTransactionBatchResponse {
+
+    private int succeeded;
+    private int failed;
+    private List<TransactionBatchItemResult> results;
+}
@@ -0,0 +1,23 @@
+package com.ticketing.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionBatchItemResult {
+
+    private int index;
+    private Long transactionId;
+    private TransactionBatchItemStatus status;
+    private TicketTransactionResponse response;
+    private Map<String, String> errors;
+}
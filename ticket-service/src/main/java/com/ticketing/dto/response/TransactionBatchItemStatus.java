@@ -0,0 +1,7 @@
+package com.ticketing.dto.response;
+
+public enum TransactionBatchItemStatus {
+    SUCCESS,
+    INVALID,
+    FAILED
+}
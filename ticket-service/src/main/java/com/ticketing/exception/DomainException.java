@@ -0,0 +1,19 @@
+package com.ticketing.exception;
+
+/**
+ * Base for the expected ways a request can fail: invalid input, a reused transaction id, shed load, a
+ * pricing gap. These are answered with a status code, never with a stack trace, and under a flood of bad
+ * requests they are thrown thousands of times a second, so they are created without capturing one. The
+ * message, and the cause when there is one, carry everything the handler reports; a cause keeps its own
+ * stack trace.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    protected DomainException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ticketing.exception;
+
+public class DuplicateTransactionException extends DomainException {
+    public DuplicateTransactionException(String message) {
+        super(message);
+    }
+}
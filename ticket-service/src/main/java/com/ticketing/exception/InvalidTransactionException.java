@@ -1,6 +1,6 @@
 package com.ticketing.exception;
 
-public class InvalidTransactionException extends RuntimeException {
+public class InvalidTransactionException extends DomainException {
     public InvalidTransactionException(String message) {
         super(message);
     }
@@ -1,8 +1,12 @@
 package com.ticketing.exception;
 
-public class PricingException extends RuntimeException {
+public class PricingException extends DomainException {
     public PricingException(String message) {
         super(message);
     }
 
+    public PricingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
 }
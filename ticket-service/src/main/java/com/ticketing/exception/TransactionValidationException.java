@@ -0,0 +1,21 @@
+package com.ticketing.exception;
+
+import java.util.Map;
+
+/**
+ * A transaction request that violates its field constraints, with one message per offending field path,
+ * such as {@code customers[3].age}. Answered exactly like a failed bean validation.
+ */
+public class TransactionValidationException extends DomainException {
+
+    private final Map<String, String> errors;
+
+    public TransactionValidationException(Map<String, String> errors) {
+        super("Transaction failed validation on " + errors.keySet());
+        this.errors = errors;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
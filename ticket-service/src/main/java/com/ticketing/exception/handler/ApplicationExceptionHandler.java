@@ -1,8 +1,15 @@
 package com.ticketing.exception.handler;
 
+import com.ticketing.config.ErrorLogProperties;
+import com.ticketing.dto.response.ErrorResponse;
+import com.ticketing.exception.DuplicateTransactionException;
 import com.ticketing.exception.InvalidTransactionException;
 import com.ticketing.exception.PricingException;
+import com.ticketing.exception.ServiceOverloadedException;
+import com.ticketing.exception.TransactionValidationException;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -11,40 +18,68 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Maps exceptions to {@link ErrorResponse} bodies. Each kind of error is logged through its own
+ * {@link RateLimitedLog}, so a flood of bad requests cannot turn into a flood of log lines; client errors
+ * are logged at WARN and server errors at ERROR.
+ */
 @Slf4j
 @RestControllerAdvice
 public class ApplicationExceptionHandler {
 
+    private final RateLimitedLog invalidTransactions;
+    private final RateLimitedLog duplicateTransactions;
+    private final RateLimitedLog pricingErrors;
+    private final RateLimitedLog unreadableRequests;
+    private final RateLimitedLog unexpectedErrors;
+
+    public ApplicationExceptionHandler(ErrorLogProperties errorLogProperties) {
+        this.invalidTransactions = rateLimitedLog(Level.WARN, errorLogProperties);
+        this.duplicateTransactions = rateLimitedLog(Level.WARN, errorLogProperties);
+        this.pricingErrors = rateLimitedLog(Level.ERROR, errorLogProperties);
+        this.unreadableRequests = rateLimitedLog(Level.WARN, errorLogProperties);
+        this.unexpectedErrors = rateLimitedLog(Level.ERROR, errorLogProperties);
+    }
+
     @ExceptionHandler(InvalidTransactionException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidTransaction(InvalidTransactionException ex) {
-        log.error("Invalid transaction: {}", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleInvalidTransaction(InvalidTransactionException ex) {
+        invalidTransactions.log("Invalid transaction: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(DuplicateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateTransaction(DuplicateTransactionException ex) {
+        duplicateTransactions.log("Duplicate transaction: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(ServiceOverloadedException ex) {
+        // Debug only: under overload this fires for every shed request
+        log.debug("Request shed: {}", ex.getMessage());
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
     @ExceptionHandler(PricingException.class)
-    public ResponseEntity<Map<String, Object>> handlePricingException(PricingException ex) {
-        log.error("Pricing error: {}", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handlePricingException(PricingException ex) {
+        pricingErrors.log("Pricing error: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<Map<String, Object>> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
-        log.error("Request handling error: {}", ex.getMessage());
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.BAD_REQUEST.value());
-        response.put("error", HttpStatus.BAD_REQUEST.getReasonPhrase());
-        response.put("message", "Input request validation Failed");
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
+        unreadableRequests.log("Request handling error: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Input request validation Failed");
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
@@ -52,28 +87,25 @@ public class ApplicationExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.BAD_REQUEST.value());
-        response.put("error", "Validation Failed");
-        response.put("errors", errors);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorResponse.validationFailed(errors));
+    }
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    @ExceptionHandler(TransactionValidationException.class)
+    public ResponseEntity<ErrorResponse> handleTransactionValidation(TransactionValidationException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorResponse.validationFailed(ex.getErrors()));
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
-        log.error("Unexpected error", ex);
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        unexpectedErrors.log("Unexpected error", ex);
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
     }
 
-    private ResponseEntity<Map<String, Object>> buildErrorResponse(HttpStatus status, String message) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", status.value());
-        response.put("error", status.getReasonPhrase());
-        response.put("message", message);
+    private ResponseEntity<ErrorResponse> buildErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(ErrorResponse.of(status, message));
+    }
 
-        return ResponseEntity.status(status).body(response);
+    private static RateLimitedLog rateLimitedLog(Level level, ErrorLogProperties errorLogProperties) {
+        return new RateLimitedLog(log, level, errorLogProperties.getLimit(), errorLogProperties.getInterval());
     }
 }
@@ -0,0 +1,90 @@
+package com.ticketing.exception.handler;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs at most {@code limit} lines per {@code interval} for one kind of error and counts the rest, so a
+ * flood of identical rejections costs a counter increment per request instead of a log line. The first
+ * line logged after some were dropped says how many.
+ * <p>
+ * Once the window's permits are spent, callers only read the permit count and add to the suppressed
+ * count, neither of which contends. Window rollover is a compare-and-set, so at most one caller refills it.
+ */
+public class RateLimitedLog {
+
+    private final Logger log;
+    private final Level level;
+    private final int limit;
+    private final long intervalNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger permits;
+    private final LongAdder suppressed = new LongAdder();
+
+    public RateLimitedLog(Logger log, Level level, int limit, Duration interval) {
+        this.log = log;
+        this.level = level;
+        this.limit = limit;
+        this.intervalNanos = interval.toNanos();
+        this.permits = new AtomicInteger(limit);
+    }
+
+    public void log(String message, Object argument) {
+        LoggingEventBuilder event = start(message);
+        if (event != null) {
+            event.addArgument(argument).log();
+        }
+    }
+
+    public void log(String message, Object first, Object second) {
+        LoggingEventBuilder event = start(message);
+        if (event != null) {
+            event.addArgument(first).addArgument(second).log();
+        }
+    }
+
+    public void log(String message, Throwable cause) {
+        LoggingEventBuilder event = start(message);
+        if (event != null) {
+            event.setCause(cause).log();
+        }
+    }
+
+    /**
+     * Lines dropped since one was last logged.
+     */
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    private LoggingEventBuilder start(String message) {
+        if (!log.isEnabledForLevel(level)) {
+            return null;
+        }
+        if (!tryAcquire()) {
+            suppressed.increment();
+            return null;
+        }
+        long dropped = suppressed.sumThenReset();
+        LoggingEventBuilder event = log.atLevel(level);
+        if (dropped > 0) {
+            return event.setMessage(message + " (" + dropped + " similar suppressed)");
+        }
+        return event.setMessage(message);
+    }
+
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            permits.set(limit);
+        }
+        return permits.get() > 0 && permits.getAndDecrement() > 0;
+    }
+}
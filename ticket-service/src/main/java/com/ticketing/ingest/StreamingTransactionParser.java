@@ -0,0 +1,246 @@
+package com.ticketing.ingest;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.exception.TransactionValidationException;
+import com.ticketing.pricing.service.AgeBandTable;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.service.TransactionFingerprint;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads a single transaction request token by token, classifying each customer as soon as its object
+ * closes, so the customer list is never built: memory per request is the ticket counts, a scratch buffer
+ * for the longest name and the violations found.
+ * <p>
+ * Binds like Jackson would bind {@code TicketTransactionRequest}: unknown fields are skipped, the last of
+ * repeated fields wins, numbers and numeric strings are accepted for numeric fields (fractions truncated,
+ * empty strings as null), and scalars are accepted for names. Validates like its bean constraints, with
+ * the same messages under the same field paths, such as {@code customers[3].age}, and reports every
+ * violation at once with {@link TransactionValidationException}. The one difference is that a null
+ * customer is reported as a violation, where bean validation skips it.
+ * <p>
+ * Instances hold the state of one parse and are not reusable.
+ */
+public final class StreamingTransactionParser {
+
+    static final String TRANSACTION_ID_NULL = "Transaction ID cannot be null";
+    static final String TRANSACTION_ID_NOT_POSITIVE = "Transaction ID cannot be zero or negative";
+    static final String CUSTOMERS_EMPTY = "Customer list cannot be empty";
+    static final String CUSTOMER_NULL = "Customer cannot be null";
+    static final String NAME_BLANK = "Name cannot be blank";
+    static final String AGE_NULL = "Age cannot be empty";
+    static final String AGE_NEGATIVE = "Age cannot be negative";
+
+    private final JsonParser parser;
+    private final PricingSnapshot snapshot;
+    private final AgeBandTable ageBands;
+    private final TicketCounts ticketCounts = new TicketCounts();
+    private final Map<String, String> customerViolations = new LinkedHashMap<>();
+
+    private TransactionFingerprint.Builder fingerprint = TransactionFingerprint.builder();
+    private int customerCount;
+    private char[] name = new char[32];
+    private int nameLength;
+
+    private StreamingTransactionParser(JsonParser parser, PricingSnapshot snapshot) {
+        this.parser = parser;
+        this.snapshot = snapshot;
+        this.ageBands = snapshot.getAgeBandTable();
+    }
+
+    /**
+     * Parses the transaction at the parser's current token, or at its next token if it has not started.
+     *
+     * @param snapshot classifies every customer of the transaction and is carried with it to price against
+     * @throws IOException                     if the body is malformed or a field cannot be bound
+     * @throws TransactionValidationException if the request binds but breaks a constraint
+     */
+    public static TalliedTransaction parse(JsonParser parser, PricingSnapshot snapshot) throws IOException {
+        return new StreamingTransactionParser(parser, snapshot).parseTransaction();
+    }
+
+    private TalliedTransaction parseTransaction() throws IOException {
+        JsonToken start = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        expect(start, JsonToken.START_OBJECT, "transaction");
+        Long transactionId = null;
+        boolean customersPresent = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "transactionId" -> transactionId = readLong(token);
+                case "customers" -> customersPresent = readCustomers(token);
+                default -> parser.skipChildren();
+            }
+        }
+
+        Map<String, String> violations = new LinkedHashMap<>();
+        if (transactionId == null) {
+            violations.put("transactionId", TRANSACTION_ID_NULL);
+        } else if (transactionId < 1) {
+            violations.put("transactionId", TRANSACTION_ID_NOT_POSITIVE);
+        }
+        if (!customersPresent || customerCount == 0) {
+            violations.put("customers", CUSTOMERS_EMPTY);
+        }
+        violations.putAll(customerViolations);
+        if (!violations.isEmpty()) {
+            throw new TransactionValidationException(violations);
+        }
+
+        return TalliedTransaction.builder()
+                .transactionId(transactionId)
+                .customerCount(customerCount)
+                .ticketCounts(ticketCounts)
+                .fingerprint(fingerprint.build())
+                .snapshot(snapshot)
+                .build();
+    }
+
+    /**
+     * Tallies the customer array, starting over if the field is repeated. Returns whether it was non-null.
+     */
+    private boolean readCustomers(JsonToken token) throws IOException {
+        ticketCounts.clear();
+        customerViolations.clear();
+        fingerprint = TransactionFingerprint.builder();
+        customerCount = 0;
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        expect(token, JsonToken.START_ARRAY, "customers");
+
+        for (JsonToken element; (element = parser.nextToken()) != JsonToken.END_ARRAY; customerCount++) {
+            if (element == JsonToken.VALUE_NULL) {
+                customerViolations.put("customers[" + customerCount + "]", CUSTOMER_NULL);
+                continue;
+            }
+            expect(element, JsonToken.START_OBJECT, "customer");
+            readCustomer();
+        }
+        return true;
+    }
+
+    private void readCustomer() throws IOException {
+        nameLength = -1;
+        Integer age = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "name" -> readName(token);
+                case "age" -> age = readInt(token);
+                default -> parser.skipChildren();
+            }
+        }
+
+        boolean valid = true;
+        if (isBlankName()) {
+            customerViolations.put("customers[" + customerCount + "].name", NAME_BLANK);
+            valid = false;
+        }
+        if (age == null) {
+            customerViolations.put("customers[" + customerCount + "].age", AGE_NULL);
+            valid = false;
+        } else if (age < 0) {
+            customerViolations.put("customers[" + customerCount + "].age", AGE_NEGATIVE);
+            valid = false;
+        }
+        if (valid) {
+            ticketCounts.increment(ageBands.classify(age));
+        }
+        fingerprint.addCustomer(nameLength < 0 ? null : name, 0, nameLength, age);
+    }
+
+    /**
+     * Copies the name out of the parser's buffer, which the next token overwrites, into the scratch buffer.
+     */
+    private void readName(JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            nameLength = -1;
+            return;
+        }
+        if (!token.isScalarValue() || token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            throw new JsonParseException(parser, "Expected a name but found " + token);
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            int length = parser.getTextLength();
+            ensureNameCapacity(length);
+            System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), name, 0, length);
+            nameLength = length;
+        } else {
+            // Numbers and booleans are bound by their text, as Jackson coerces scalars to String
+            String text = parser.getText();
+            ensureNameCapacity(text.length());
+            text.getChars(0, text.length(), name, 0);
+            nameLength = text.length();
+        }
+    }
+
+    private void ensureNameCapacity(int length) {
+        if (length > name.length) {
+            name = new char[Math.max(length, name.length * 2)];
+        }
+    }
+
+    /**
+     * Blank as {@code @NotBlank} defines it: null, or nothing left once characters up to space are trimmed.
+     */
+    private boolean isBlankName() {
+        for (int i = 0; i < nameLength; i++) {
+            if (name[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Integer readInt(JsonToken token) throws IOException {
+        Long value = readLong(token);
+        if (value != null && (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)) {
+            throw new JsonParseException(parser, "Numeric value " + value + " out of range of int");
+        }
+        return value == null ? null : value.intValue();
+    }
+
+    private Long readLong(JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getLongValue();
+            case VALUE_NUMBER_FLOAT -> truncate(parser.getDoubleValue());
+            case VALUE_STRING -> parseLong(parser.getText().trim());
+            default -> throw new JsonParseException(parser, "Expected a number but found " + token);
+        };
+    }
+
+    private Long parseLong(String text) throws JsonParseException {
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException ex) {
+            throw new JsonParseException(parser, "Expected a number but found \"" + text + "\"");
+        }
+    }
+
+    private long truncate(double value) throws JsonParseException {
+        if (value < Long.MIN_VALUE || value > Long.MAX_VALUE) {
+            throw new JsonParseException(parser, "Numeric value " + value + " out of range of long");
+        }
+        return (long) value;
+    }
+
+    private void expect(JsonToken actual, JsonToken expected, String what) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + what + " to start with " + expected
+                    + " but found " + actual);
+        }
+    }
+}
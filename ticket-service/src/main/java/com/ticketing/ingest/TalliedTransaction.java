@@ -0,0 +1,24 @@
+package com.ticketing.ingest;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.service.TransactionFingerprint;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A validated single transaction request reduced to what pricing needs: its id, the number of customers,
+ * how many of them fall into each ticket type and the snapshot whose age bands classified them, which is
+ * the one to price them against. Produced by {@link StreamingTransactionParser} without ever holding the
+ * customer list.
+ */
+@Data
+@Builder
+public class TalliedTransaction {
+
+    private Long transactionId;
+    private int customerCount;
+    private TicketCounts ticketCounts;
+    private TransactionFingerprint fingerprint;
+    private PricingSnapshot snapshot;
+}
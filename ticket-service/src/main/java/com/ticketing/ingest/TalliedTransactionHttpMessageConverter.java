@@ -0,0 +1,80 @@
+package com.ticketing.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+import static com.ticketing.config.WireFormatConfiguration.APPLICATION_SMILE;
+
+/**
+ * Reads single transaction requests with {@link StreamingTransactionParser} in JSON, CBOR and Smile,
+ * classifying customers against the current snapshot's age bands while the body is read. Read-only.
+ * <p>
+ * Malformed bodies are rejected with {@link HttpMessageNotReadableException}, as the Jackson converters
+ * reject them; bodies that bind but break a constraint propagate the parser's
+ * {@link com.ticketing.exception.TransactionValidationException}.
+ */
+public class TalliedTransactionHttpMessageConverter extends AbstractHttpMessageConverter<TalliedTransaction> {
+
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final JsonFactory jsonFactory;
+    private final JsonFactory cborFactory = new CBORFactory();
+    private final JsonFactory smileFactory = new SmileFactory();
+
+    public TalliedTransactionHttpMessageConverter(PricingSnapshotHolder pricingSnapshotHolder, ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TalliedTransaction.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TalliedTransaction readInternal(Class<? extends TalliedTransaction> clazz,
+                                              HttpInputMessage inputMessage) throws IOException {
+        JsonFactory factory = factoryFor(inputMessage.getHeaders().getContentType());
+        try (JsonParser parser = factory.createParser(inputMessage.getBody())) {
+            if (parser.nextToken() == null) {
+                throw new HttpMessageNotReadableException("Required request body is missing", inputMessage);
+            }
+            return StreamingTransactionParser.parse(parser, pricingSnapshotHolder.current());
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(TalliedTransaction transaction, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("Tallied transactions are never written");
+    }
+
+    private JsonFactory factoryFor(MediaType contentType) {
+        if (contentType != null && MediaType.APPLICATION_CBOR.isCompatibleWith(contentType)) {
+            return cborFactory;
+        }
+        if (contentType != null && APPLICATION_SMILE.isCompatibleWith(contentType)) {
+            return smileFactory;
+        }
+        return jsonFactory;
+    }
+}
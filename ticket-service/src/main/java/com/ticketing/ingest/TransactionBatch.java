@@ -0,0 +1,32 @@
+package com.ticketing.ingest;
+
+import com.ticketing.dto.request.TicketTransactionRequest;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A batch request body as read by {@link TransactionBatchHttpMessageConverter}: the items in order, and the
+ * indexes of those that could not be bound to a {@link TicketTransactionRequest}, such as an item with a
+ * string for an age, so that each can be reported on its own instead of failing the whole batch.
+ */
+@Data
+@Builder
+public class TransactionBatch {
+
+    /**
+     * The items in order, {@code null} where an item is null or could not be bound.
+     */
+    private List<TicketTransactionRequest> requests;
+    private Set<Integer> unreadableIndexes;
+
+    public static TransactionBatch of(List<TicketTransactionRequest> requests) {
+        return new TransactionBatch(requests, Set.of());
+    }
+
+    public boolean isUnreadable(int index) {
+        return unreadableIndexes.contains(index);
+    }
+}
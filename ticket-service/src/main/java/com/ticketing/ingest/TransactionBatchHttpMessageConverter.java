@@ -0,0 +1,124 @@
+package com.ticketing.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.ticketing.config.BatchProcessingProperties;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.exception.InvalidTransactionException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.ticketing.config.WireFormatConfiguration.APPLICATION_SMILE;
+
+/**
+ * Reads batch request bodies in JSON, CBOR and Smile one array element at a time. Read-only.
+ * <p>
+ * Only the current element is held as a tree while it is bound, and the batch size limit is enforced as
+ * elements are read, so an oversized batch is rejected with {@link InvalidTransactionException} before the
+ * rest of it is parsed. An element that is well-formed but cannot be bound is recorded in the
+ * {@link TransactionBatch} instead of failing the batch. Malformed bodies are rejected with
+ * {@link HttpMessageNotReadableException}, as the Jackson converters reject them.
+ */
+public class TransactionBatchHttpMessageConverter extends AbstractHttpMessageConverter<TransactionBatch> {
+
+    private final BatchProcessingProperties batchProcessingProperties;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final JsonFactory cborFactory = new CBORFactory();
+    private final JsonFactory smileFactory = new SmileFactory();
+
+    public TransactionBatchHttpMessageConverter(BatchProcessingProperties batchProcessingProperties,
+                                                ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+        this.batchProcessingProperties = batchProcessingProperties;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(TicketTransactionRequest.class);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TransactionBatch.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TransactionBatch readInternal(Class<? extends TransactionBatch> clazz,
+                                            HttpInputMessage inputMessage) throws IOException {
+        JsonFactory factory = factoryFor(inputMessage.getHeaders().getContentType());
+        try (JsonParser parser = factory.createParser(inputMessage.getBody())) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new HttpMessageNotReadableException("Required request body is missing", inputMessage);
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new HttpMessageNotReadableException("Batch must be an array of transactions", inputMessage);
+            }
+            return readItems(parser, inputMessage);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, inputMessage);
+        }
+    }
+
+    private TransactionBatch readItems(JsonParser parser, HttpInputMessage inputMessage) throws IOException {
+        int maxSize = batchProcessingProperties.getMaxSize();
+        List<TicketTransactionRequest> requests = new ArrayList<>();
+        Set<Integer> unreadableIndexes = new HashSet<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new HttpMessageNotReadableException("Unexpected end of batch", inputMessage);
+            }
+            if (requests.size() == maxSize) {
+                throw new InvalidTransactionException("Batch cannot include more than " + maxSize + " transactions");
+            }
+            JsonNode item = objectMapper.readTree(parser);
+            try {
+                requests.add(requestReader.readValue(item));
+            } catch (DatabindException ex) {
+                unreadableIndexes.add(requests.size());
+                requests.add(null);
+            }
+        }
+        return TransactionBatch.builder()
+                .requests(requests)
+                .unreadableIndexes(unreadableIndexes)
+                .build();
+    }
+
+    @Override
+    protected void writeInternal(TransactionBatch batch, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("Transaction batches are never written");
+    }
+
+    private JsonFactory factoryFor(MediaType contentType) {
+        if (contentType != null && MediaType.APPLICATION_CBOR.isCompatibleWith(contentType)) {
+            return cborFactory;
+        }
+        if (contentType != null && APPLICATION_SMILE.isCompatibleWith(contentType)) {
+            return smileFactory;
+        }
+        return objectMapper.getFactory();
+    }
+}
@@ -0,0 +1,23 @@
+package com.ticketing.journal;
+
+/**
+ * When journal writes are forced to stable storage. Records are always visible to readers of the segment
+ * files as soon as they are appended; the policy only decides what survives a power loss.
+ */
+public enum FsyncPolicy {
+
+    /**
+     * Leave write-back to the operating system; records survive a process crash but not a power loss.
+     */
+    NEVER,
+
+    /**
+     * Force outstanding records every {@code fsync-interval}, bounding what a power loss can take.
+     */
+    INTERVAL,
+
+    /**
+     * Acknowledge each record only once it has been forced. Concurrent appends share a single force.
+     */
+    ALWAYS
+}
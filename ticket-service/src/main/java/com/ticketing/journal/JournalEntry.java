@@ -0,0 +1,25 @@
+package com.ticketing.journal;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A transaction read back from the journal. Each ticket price carries its type, quantity, unit price
+ * and total cost.
+ */
+@Data
+@Builder
+public class JournalEntry {
+    private Long transactionId;
+    private long pricingVersion;
+    private Instant recordedAt;
+    private TicketCounts ticketCounts;
+    private List<PriceCalculationResult> ticketPrices;
+    private BigDecimal totalCost;
+}
@@ -0,0 +1,167 @@
+package com.ticketing.journal;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.common.util.FixedPointPriceUtil;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of journal segments, shared by the writer and the reader.
+ * <p>
+ * A segment starts with an 8-byte header (magic, format version) followed by records:
+ * <pre>
+ * int   length            bytes from transactionId through the last line; 0 marks the end of the segment
+ * long  transactionId     {@link #NO_TRANSACTION_ID} when the client sent none
+ * long  pricingVersion
+ * long  recordedAt        epoch milliseconds
+ * long  totalCostMinor
+ * byte  lineCount
+ *       per line: byte ticketType ordinal, int quantity, long finalPriceMinor, long totalCostMinor
+ * int   CRC32C of the length-covered bytes
+ * </pre>
+ * Segments are preallocated and zero-filled, so a reader stops at the first zero length, and a record
+ * torn by a crash fails its checksum.
+ */
+final class JournalFormat {
+
+    static final int MAGIC = 0x544A524E;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final long NO_TRANSACTION_ID = Long.MIN_VALUE;
+    static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int FIXED_BODY_SIZE = 4 * Long.BYTES + 1;
+    private static final int LINE_SIZE = 1 + Integer.BYTES + 2 * Long.BYTES;
+
+    private JournalFormat() {
+    }
+
+    static int recordSize(int lineCount) {
+        return LENGTH_SIZE + FIXED_BODY_SIZE + lineCount * LINE_SIZE + CHECKSUM_SIZE;
+    }
+
+    static void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(Integer.BYTES, FORMAT_VERSION);
+    }
+
+    static boolean hasValidHeader(ByteBuffer buffer) {
+        return buffer.capacity() >= HEADER_SIZE
+                && buffer.getInt(0) == MAGIC
+                && buffer.getInt(Integer.BYTES) == FORMAT_VERSION;
+    }
+
+    /**
+     * Writes a record at {@code offset} with absolute puts and returns the offset after it.
+     */
+    static int write(ByteBuffer buffer, int offset, Long transactionId, long recordedAtMillis,
+                     TransactionPriceResult transactionPrice) {
+        List<PriceCalculationResult> ticketPrices = transactionPrice.getTicketPrices();
+        int bodyLength = recordSize(ticketPrices.size()) - LENGTH_SIZE - CHECKSUM_SIZE;
+
+        int position = offset + LENGTH_SIZE;
+        buffer.putLong(position, transactionId == null ? NO_TRANSACTION_ID : transactionId);
+        buffer.putLong(position += Long.BYTES, transactionPrice.getPricingVersion());
+        buffer.putLong(position += Long.BYTES, recordedAtMillis);
+        buffer.putLong(position += Long.BYTES, transactionPrice.getTotalCostMinor());
+        buffer.put(position += Long.BYTES, (byte) ticketPrices.size());
+        position += 1;
+        for (PriceCalculationResult ticketPrice : ticketPrices) {
+            buffer.put(position, (byte) ticketPrice.getTicketType().ordinal());
+            buffer.putInt(position + 1, ticketPrice.getQuantity());
+            buffer.putLong(position + 1 + Integer.BYTES, ticketPrice.getFinalPriceMinor());
+            buffer.putLong(position + 1 + Integer.BYTES + Long.BYTES, ticketPrice.getTotalCostMinor());
+            position += LINE_SIZE;
+        }
+        buffer.putInt(position, checksum(buffer, offset + LENGTH_SIZE, bodyLength));
+        buffer.putInt(offset, bodyLength);
+        return position + CHECKSUM_SIZE;
+    }
+
+    /**
+     * Returns the size of the intact record at {@code offset}, or 0 at the end of the written records:
+     * an unwritten slot, a record that would overrun the segment, or one whose checksum does not match.
+     */
+    static int intactRecordSize(ByteBuffer buffer, int offset) {
+        if (offset + LENGTH_SIZE > buffer.limit()) {
+            return 0;
+        }
+        int bodyLength = buffer.getInt(offset);
+        if (bodyLength < FIXED_BODY_SIZE || (bodyLength - FIXED_BODY_SIZE) % LINE_SIZE != 0
+                || (long) offset + LENGTH_SIZE + bodyLength + CHECKSUM_SIZE > buffer.limit()) {
+            return 0;
+        }
+        int checksumOffset = offset + LENGTH_SIZE + bodyLength;
+        if (buffer.getInt(checksumOffset) != checksum(buffer, offset + LENGTH_SIZE, bodyLength)) {
+            return 0;
+        }
+        return LENGTH_SIZE + bodyLength + CHECKSUM_SIZE;
+    }
+
+    /**
+     * Decodes the record at {@code offset}, which must have passed {@link #intactRecordSize}.
+     */
+    static JournalEntry read(ByteBuffer buffer, int offset) {
+        int position = offset + LENGTH_SIZE;
+        long transactionId = buffer.getLong(position);
+        long pricingVersion = buffer.getLong(position += Long.BYTES);
+        long recordedAtMillis = buffer.getLong(position += Long.BYTES);
+        long totalCostMinor = buffer.getLong(position += Long.BYTES);
+        int lineCount = buffer.get(position += Long.BYTES);
+        position += 1;
+
+        TicketCounts ticketCounts = new TicketCounts();
+        List<PriceCalculationResult> ticketPrices = new ArrayList<>(lineCount);
+        for (int line = 0; line < lineCount; line++) {
+            TicketType ticketType = TICKET_TYPES[buffer.get(position)];
+            int quantity = buffer.getInt(position + 1);
+            long finalPriceMinor = buffer.getLong(position + 1 + Integer.BYTES);
+            long lineTotalMinor = buffer.getLong(position + 1 + Integer.BYTES + Long.BYTES);
+            ticketCounts.add(ticketType, quantity);
+            ticketPrices.add(PriceCalculationResult.builder()
+                    .ticketType(ticketType)
+                    .quantity(quantity)
+                    .finalPrice(FixedPointPriceUtil.toAmount(finalPriceMinor))
+                    .finalPriceMinor(finalPriceMinor)
+                    .totalCost(FixedPointPriceUtil.toAmount(lineTotalMinor))
+                    .totalCostMinor(lineTotalMinor)
+                    .build());
+            position += LINE_SIZE;
+        }
+
+        return JournalEntry.builder()
+                .transactionId(transactionId == NO_TRANSACTION_ID ? null : transactionId)
+                .pricingVersion(pricingVersion)
+                .recordedAt(Instant.ofEpochMilli(recordedAtMillis))
+                .ticketCounts(ticketCounts)
+                .ticketPrices(ticketPrices)
+                .totalCost(FixedPointPriceUtil.toAmount(totalCostMinor))
+                .build();
+    }
+
+    static String segmentFileName(long segmentIndex) {
+        return String.format("%020d%s", segmentIndex, SEGMENT_SUFFIX);
+    }
+
+    static long segmentIndex(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
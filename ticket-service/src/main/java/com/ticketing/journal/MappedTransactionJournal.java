@@ -0,0 +1,319 @@
+package com.ticketing.journal;
+
+import com.ticketing.pricing.model.TransactionPriceResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only {@link TransactionJournal} over memory-mapped segment files.
+ * <p>
+ * An append encodes the record straight into the mapped segment under a short lock, so with
+ * {@link FsyncPolicy#NEVER} or {@link FsyncPolicy#INTERVAL} it costs a few memory writes and never waits
+ * for the disk. Forcing is left to a single flusher thread, which forces everything appended since its
+ * last pass in one go: periodically for {@code INTERVAL}, and as soon as appends are waiting for
+ * {@code ALWAYS}, so concurrent requests share each fsync. A full segment is sealed and a new one
+ * started; each run of the journal starts a new segment, so a tail torn by a crash is never appended to.
+ * <p>
+ * The lock is a {@link ReentrantLock} rather than {@code synchronized} so that waiting appenders do not
+ * pin virtual threads.
+ */
+@Slf4j
+public class MappedTransactionJournal implements TransactionJournal, Closeable {
+
+    static final int MIN_SEGMENT_SIZE = 4096;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final List<Segment> sealedSegments = new ArrayList<>();
+    private final Thread flusher;
+
+    private Segment activeSegment;
+    private long nextSegmentIndex;
+    private long appendedRecords;
+    private long flushedRecords;
+    private long failedRecords;
+    private IOException flushFailure;
+    private boolean closed;
+
+    private MappedTransactionJournal(Path directory, int segmentSize, FsyncPolicy fsyncPolicy,
+                                     Duration fsyncInterval) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+
+        Files.createDirectories(directory);
+        List<Path> existing = TransactionJournalReader.segments(directory);
+        this.nextSegmentIndex = existing.isEmpty() ? 1 : JournalFormat.segmentIndex(existing.getLast()) + 1;
+        this.activeSegment = openSegment();
+        this.flusher = fsyncPolicy == FsyncPolicy.NEVER ? null
+                : Thread.ofPlatform().name("transaction-journal-flusher").daemon().start(this::runFlusher);
+        log.info("Opened transaction journal in {} at segment {} with fsync policy {}.",
+                directory, activeSegment.path.getFileName(), fsyncPolicy);
+    }
+
+    public static MappedTransactionJournal open(Path directory, long segmentSize, FsyncPolicy fsyncPolicy,
+                                                Duration fsyncInterval) throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal segment size must be between " + MIN_SEGMENT_SIZE
+                    + " and " + Integer.MAX_VALUE + " bytes, was " + segmentSize);
+        }
+        return new MappedTransactionJournal(directory, (int) segmentSize, fsyncPolicy, fsyncInterval);
+    }
+
+    @Override
+    public void append(Long transactionId, TransactionPriceResult transactionPrice) {
+        int recordSize = JournalFormat.recordSize(transactionPrice.getTicketPrices().size());
+        long recordedAt = System.currentTimeMillis();
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Transaction journal is closed");
+            }
+            if (activeSegment.remaining() < recordSize) {
+                roll();
+            }
+            activeSegment.position = JournalFormat.write(activeSegment.buffer, activeSegment.position,
+                    transactionId, recordedAt, transactionPrice);
+            long sequence = ++appendedRecords;
+
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                flushRequested.signal();
+                while (flushedRecords < sequence) {
+                    flushed.awaitUninterruptibly();
+                }
+                if (sequence <= failedRecords) {
+                    throw new UncheckedIOException("Failed to force transaction journal", flushFailure);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces every appended record and releases the segments. Further appends are rejected.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushRequested.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (flusher != null) {
+            try {
+                flusher.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // The flusher has exited, so the segments are no longer shared
+        for (Segment segment : sealedSegments) {
+            segment.forceAndClose();
+        }
+        sealedSegments.clear();
+        activeSegment.forceAndClose();
+        log.info("Closed transaction journal in {} after {} records.", directory, appendedRecords);
+    }
+
+    private void roll() {
+        Segment sealed = activeSegment;
+        try {
+            activeSegment = openSegment();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to start transaction journal segment in " + directory, ex);
+        }
+        if (fsyncPolicy == FsyncPolicy.NEVER) {
+            sealed.close();
+        } else {
+            sealedSegments.add(sealed);
+        }
+        log.debug("Sealed journal segment {}, now appending to {}", sealed.path.getFileName(),
+                activeSegment.path.getFileName());
+    }
+
+    private Segment openSegment() throws IOException {
+        Path path = directory.resolve(JournalFormat.segmentFileName(nextSegmentIndex++));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            JournalFormat.writeHeader(buffer);
+            return new Segment(path, channel, buffer);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    private void runFlusher() {
+        try {
+            flushUntilClosed();
+        } catch (RuntimeException | Error ex) {
+            log.error("Transaction journal flusher in {} stopped", directory, ex);
+            lock.lock();
+            try {
+                // Nothing forces the journal any more, so every waiting and later ALWAYS append fails
+                flushFailure = new IOException("Transaction journal flusher stopped", ex);
+                failedRecords = Long.MAX_VALUE;
+                flushedRecords = Long.MAX_VALUE;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void flushUntilClosed() {
+        while (true) {
+            List<Segment> sealed;
+            Segment active;
+            int activeEnd;
+            long target;
+
+            lock.lock();
+            try {
+                awaitFlushDue();
+                if (appendedRecords == flushedRecords && sealedSegments.isEmpty()) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                target = appendedRecords;
+                sealed = new ArrayList<>(sealedSegments);
+                active = activeSegment;
+                activeEnd = active.position;
+            } finally {
+                lock.unlock();
+            }
+
+            // Forced without the lock, so appends carry on while the disk catches up. Each segment is
+            // forced on its own, so one failing file does not keep the others from reaching the disk.
+            List<Segment> forced = new ArrayList<>(sealed.size());
+            IOException failure = null;
+            for (Segment segment : sealed) {
+                try {
+                    segment.force(segment.position);
+                    segment.close();
+                    forced.add(segment);
+                } catch (UncheckedIOException ex) {
+                    failure = ex.getCause();
+                    log.error("Failed to force journal segment {}", segment.path, failure);
+                }
+            }
+            try {
+                active.force(activeEnd);
+            } catch (UncheckedIOException ex) {
+                failure = ex.getCause();
+                log.error("Failed to force journal segment {}", active.path, failure);
+            }
+
+            lock.lock();
+            try {
+                sealedSegments.removeAll(forced);
+                // Segments that failed stay queued and an active range that failed stays unforced, so the
+                // next pass forces them again; the appenders waiting on this pass are told of the failure now
+                if (failure != null) {
+                    flushFailure = failure;
+                    failedRecords = target;
+                }
+                flushedRecords = target;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void awaitFlushDue() {
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            while (!closed && appendedRecords == flushedRecords) {
+                flushRequested.awaitUninterruptibly();
+            }
+            return;
+        }
+        long remainingNanos = fsyncIntervalNanos;
+        while (!closed && remainingNanos > 0) {
+            try {
+                remainingNanos = flushRequested.awaitNanos(remainingNanos);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * A mapped segment file. {@code position} is guarded by the journal lock; {@code forcedPosition} is
+     * only touched by the flusher, or by {@link #close()} once the flusher has exited.
+     */
+    private static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position = JournalFormat.HEADER_SIZE;
+        private int forcedPosition;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        private void force(int end) {
+            if (end > forcedPosition) {
+                buffer.force(forcedPosition, end - forcedPosition);
+                forcedPosition = end;
+            }
+        }
+
+        private void forceAndClose() {
+            try {
+                force(position);
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                log.warn("Failed to close journal segment {}", path, ex);
+            }
+        }
+    }
+}
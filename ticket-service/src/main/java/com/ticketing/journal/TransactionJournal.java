@@ -0,0 +1,21 @@
+package com.ticketing.journal;
+
+import com.ticketing.pricing.model.TransactionPriceResult;
+
+/**
+ * Durable record of every priced transaction, for audits and reconciliation.
+ */
+public interface TransactionJournal {
+
+    TransactionJournal DISABLED = (transactionId, transactionPrice) -> {
+    };
+
+    /**
+     * Records a priced transaction. Returns once the record is as durable as the configured
+     * {@link FsyncPolicy} requires.
+     *
+     * @param transactionId    the client's transaction id, or {@code null} if it sent none
+     * @param transactionPrice the priced counts and the pricing version they were priced against
+     */
+    void append(Long transactionId, TransactionPriceResult transactionPrice);
+}
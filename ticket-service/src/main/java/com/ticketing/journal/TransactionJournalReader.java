@@ -0,0 +1,75 @@
+package com.ticketing.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Scans journal segments sequentially, oldest first.
+ * <p>
+ * Segments may be read while the journal is appending to them; a scan sees every record that was
+ * complete when it reached that point in the segment.
+ */
+@Slf4j
+public class TransactionJournalReader {
+
+    private final Path directory;
+
+    public TransactionJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Passes every intact record to {@code consumer} in append order and returns how many were read.
+     */
+    public long scan(Consumer<JournalEntry> consumer) throws IOException {
+        long records = 0;
+        for (Path segment : segments(directory)) {
+            records += scanSegment(segment, consumer);
+        }
+        return records;
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(TransactionJournalReader::isSegment)
+                    .sorted(Comparator.comparingLong(JournalFormat::segmentIndex))
+                    .toList();
+        }
+    }
+
+    private static long scanSegment(Path segment, Consumer<JournalEntry> consumer) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (!JournalFormat.hasValidHeader(buffer)) {
+            log.warn("Skipping journal segment {} with an unrecognised header", segment);
+            return 0;
+        }
+
+        long records = 0;
+        int offset = JournalFormat.HEADER_SIZE;
+        for (int size; (size = JournalFormat.intactRecordSize(buffer, offset)) > 0; offset += size) {
+            consumer.accept(JournalFormat.read(buffer, offset));
+            records++;
+        }
+        return records;
+    }
+
+    private static boolean isSegment(Path path) {
+        return path.getFileName().toString().matches("\\d{20}" + JournalFormat.SEGMENT_SUFFIX.replace(".", "\\."));
+    }
+}
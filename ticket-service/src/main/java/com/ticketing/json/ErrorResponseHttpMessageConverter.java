@@ -0,0 +1,45 @@
+package com.ticketing.json;
+
+import com.ticketing.dto.response.ErrorResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes JSON error responses with {@link ErrorResponseWriter} instead of Jackson.
+ * Write-only: requests, other bodies and the binary formats are still handled by the Jackson converters.
+ */
+public class ErrorResponseHttpMessageConverter extends AbstractHttpMessageConverter<ErrorResponse> {
+
+    private final ErrorResponseWriter writer;
+
+    public ErrorResponseHttpMessageConverter(ErrorResponseWriter writer) {
+        super(MediaType.APPLICATION_JSON);
+        this.writer = writer;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ErrorResponse.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ErrorResponse readInternal(Class<? extends ErrorResponse> clazz,
+                                         HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Error responses are never read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ErrorResponse response, HttpOutputMessage outputMessage) throws IOException {
+        writer.write(response, outputMessage.getBody());
+    }
+}
@@ -0,0 +1,144 @@
+package com.ticketing.json;
+
+import com.ticketing.dto.response.ErrorResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Writes {@link ErrorResponse} as compact JSON, byte for byte as the application's Jackson
+ * {@code ObjectMapper} does, so a flood of rejected requests costs about as much to answer as a quote.
+ * <p>
+ * Field names are pre-encoded fragments, and so is each distinct {@code error} phrase once seen; there are
+ * only a handful. The encoded timestamp is reused while it does not change, which at millisecond precision
+ * covers most of a burst. Only the message and field errors are escaped per response.
+ */
+public class ErrorResponseWriter {
+
+    static final int MAX_CACHED_ERRORS = 64;
+
+    private static final byte[] TIMESTAMP = ascii("\"timestamp\":");
+    private static final byte[] STATUS = ascii("\"status\":");
+    private static final byte[] ERROR = ascii("\"error\":");
+    private static final byte[] MESSAGE = ascii("\"message\":");
+    private static final byte[] ERRORS = ascii("\"errors\":");
+    private static final byte OBJECT_START = '{';
+    private static final byte OBJECT_END = '}';
+    private static final byte COLON = ':';
+    private static final byte COMMA = ',';
+
+    private final JsonOutputBufferPool pool = new JsonOutputBufferPool();
+    private final ConcurrentMap<String, byte[]> encodedErrors = new ConcurrentHashMap<>();
+    private volatile EncodedTimestamp lastTimestamp = new EncodedTimestamp(LocalDateTime.MIN, new byte[0]);
+
+    /**
+     * Encodes {@code response} and writes it to {@code output}, returning the number of bytes written.
+     */
+    public int write(ErrorResponse response, OutputStream output) throws IOException {
+        JsonOutputBuffer buffer = pool.borrow();
+        try {
+            encode(response, buffer);
+            buffer.writeTo(output);
+            return buffer.size();
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    public byte[] toBytes(ErrorResponse response) {
+        JsonOutputBuffer buffer = pool.borrow();
+        try {
+            encode(response, buffer);
+            return buffer.toByteArray();
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    private void encode(ErrorResponse response, JsonOutputBuffer buffer) {
+        buffer.writeByte(OBJECT_START);
+        if (response.getTimestamp() != null) {
+            buffer.writeRaw(TIMESTAMP);
+            buffer.writeRaw(encodedTimestamp(response.getTimestamp()));
+            buffer.writeByte(COMMA);
+        }
+        buffer.writeRaw(STATUS);
+        buffer.writeLong(response.getStatus());
+        if (response.getError() != null) {
+            buffer.writeByte(COMMA);
+            buffer.writeRaw(ERROR);
+            buffer.writeRaw(encodedError(response.getError()));
+        }
+        if (response.getMessage() != null) {
+            buffer.writeByte(COMMA);
+            buffer.writeRaw(MESSAGE);
+            buffer.writeString(response.getMessage());
+        }
+        if (response.getErrors() != null) {
+            buffer.writeByte(COMMA);
+            buffer.writeRaw(ERRORS);
+            writeErrors(response.getErrors(), buffer);
+        }
+        buffer.writeByte(OBJECT_END);
+    }
+
+    private static void writeErrors(Map<String, String> errors, JsonOutputBuffer buffer) {
+        buffer.writeByte(OBJECT_START);
+        boolean first = true;
+        for (Map.Entry<String, String> error : errors.entrySet()) {
+            if (!first) {
+                buffer.writeByte(COMMA);
+            }
+            first = false;
+            buffer.writeString(error.getKey());
+            buffer.writeByte(COLON);
+            if (error.getValue() == null) {
+                buffer.writeNull();
+            } else {
+                buffer.writeString(error.getValue());
+            }
+        }
+        buffer.writeByte(OBJECT_END);
+    }
+
+    private byte[] encodedTimestamp(LocalDateTime timestamp) {
+        EncodedTimestamp last = lastTimestamp;
+        if (last.timestamp().equals(timestamp)) {
+            return last.encoded();
+        }
+        byte[] encoded = ascii("\"" + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp) + "\"");
+        lastTimestamp = new EncodedTimestamp(timestamp, encoded);
+        return encoded;
+    }
+
+    private byte[] encodedError(String error) {
+        byte[] encoded = encodedErrors.get(error);
+        if (encoded != null) {
+            return encoded;
+        }
+        encoded = encodeString(error);
+        if (encodedErrors.size() < MAX_CACHED_ERRORS) {
+            encodedErrors.putIfAbsent(error, encoded);
+        }
+        return encoded;
+    }
+
+    private static byte[] encodeString(String value) {
+        JsonOutputBuffer buffer = new JsonOutputBuffer(value.length() + 2);
+        buffer.writeString(value);
+        return buffer.toByteArray();
+    }
+
+    private static byte[] ascii(String fragment) {
+        return fragment.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record EncodedTimestamp(LocalDateTime timestamp, byte[] encoded) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.ticketing.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Growable byte buffer with the handful of JSON primitives the writers need. Numbers are formatted
+ * straight into the buffer, digit by digit, without going through a {@code String}, and strings are
+ * escaped and UTF-8 encoded as Jackson does.
+ */
+final class JsonOutputBuffer {
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    /** BigDecimal.toString switches to exponent notation below this adjusted exponent. */
+    private static final int MIN_PLAIN_ADJUSTED_EXPONENT = -6;
+    private static final int MAX_LONG_DIGITS = 19;
+    private static final byte[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+    /** Short escape for each ASCII character that has one, or 0: quote, backslash and five control characters. */
+    private static final byte[] SHORT_ESCAPES = shortEscapes();
+
+    private byte[] bytes;
+    private int position;
+
+    JsonOutputBuffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    void reset() {
+        position = 0;
+    }
+
+    int size() {
+        return position;
+    }
+
+    int capacity() {
+        return bytes.length;
+    }
+
+    void writeRaw(byte[] fragment) {
+        ensureCapacity(fragment.length);
+        System.arraycopy(fragment, 0, bytes, position, fragment.length);
+        position += fragment.length;
+    }
+
+    void writeByte(byte value) {
+        ensureCapacity(1);
+        bytes[position++] = value;
+    }
+
+    void writeNull() {
+        writeRaw(NULL);
+    }
+
+    void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeRaw(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        ensureCapacity(MAX_LONG_DIGITS + 1);
+        if (value < 0) {
+            bytes[position++] = '-';
+            value = -value;
+        }
+        position += writeDigits(value, digitCount(value), 0);
+    }
+
+    /**
+     * Writes {@code value} exactly as {@link BigDecimal#toString()}, and so as Jackson does by default.
+     * Values in plain notation whose unscaled value fits in a long, which covers every price, are
+     * formatted in place; anything else falls back to {@code toString()}.
+     */
+    void writeDecimal(BigDecimal value) {
+        int scale = value.scale();
+        BigInteger unscaledValue = value.unscaledValue();
+        // Fewer than 63 bits, so negating cannot overflow
+        if (scale < 0 || unscaledValue.bitLength() >= Long.SIZE - 1) {
+            writeRaw(value.toString().getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        long unscaled = unscaledValue.longValue();
+        long magnitude = Math.abs(unscaled);
+        int digits = digitCount(magnitude);
+        if (digits - 1 - scale < MIN_PLAIN_ADJUSTED_EXPONENT) {
+            writeRaw(value.toString().getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+
+        // Sign, leading "0." and zeros when there are no integer digits, the digits and the point
+        ensureCapacity(3 + Math.max(scale, digits));
+        if (unscaled < 0) {
+            bytes[position++] = '-';
+        }
+        if (scale == 0) {
+            position += writeDigits(magnitude, digits, 0);
+        } else if (digits > scale) {
+            position += writeDigits(magnitude, digits, digits - scale);
+        } else {
+            bytes[position++] = '0';
+            bytes[position++] = '.';
+            for (int i = digits; i < scale; i++) {
+                bytes[position++] = '0';
+            }
+            position += writeDigits(magnitude, digits, 0);
+        }
+    }
+
+    /**
+     * Writes {@code value} as a quoted JSON string. Quotes, backslashes, control characters and surrogates
+     * are escaped, as Jackson escapes them; everything else is written as UTF-8.
+     */
+    void writeString(CharSequence value) {
+        int length = value.length();
+        // Worst case: every character becomes a six byte escape, plus the quotes
+        ensureCapacity(6 * length + 2);
+        bytes[position++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                writeAscii(c);
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | c >> 6);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (!Character.isSurrogate(c)) {
+                bytes[position++] = (byte) (0xE0 | c >> 12);
+                bytes[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            } else {
+                writeUnicodeEscape(c);
+            }
+        }
+        bytes[position++] = '"';
+    }
+
+    void writeTo(OutputStream output) throws IOException {
+        output.write(bytes, 0, position);
+    }
+
+    byte[] toByteArray() {
+        byte[] copy = new byte[position];
+        System.arraycopy(bytes, 0, copy, 0, position);
+        return copy;
+    }
+
+    /**
+     * Writes the {@code digits} digits of non-negative {@code value} at the current position, with a
+     * decimal point after the first {@code pointAfter} of them when it is positive, and returns the
+     * number of bytes written. Capacity must already be ensured.
+     */
+    private int writeDigits(long value, int digits, int pointAfter) {
+        int length = pointAfter > 0 ? digits + 1 : digits;
+        int index = position + length;
+        int fractionDigits = pointAfter > 0 ? digits - pointAfter : -1;
+        do {
+            if (fractionDigits-- == 0) {
+                bytes[--index] = '.';
+            }
+            bytes[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (index > position);
+        return length;
+    }
+
+    private void writeAscii(char c) {
+        byte shortEscape = SHORT_ESCAPES[c];
+        if (shortEscape != 0) {
+            bytes[position++] = '\\';
+            bytes[position++] = shortEscape;
+        } else if (c < 0x20) {
+            writeUnicodeEscape(c);
+        } else {
+            bytes[position++] = (byte) c;
+        }
+    }
+
+    private void writeUnicodeEscape(char c) {
+        bytes[position++] = '\\';
+        bytes[position++] = 'u';
+        bytes[position++] = HEX_DIGITS[c >> 12];
+        bytes[position++] = HEX_DIGITS[c >> 8 & 0xF];
+        bytes[position++] = HEX_DIGITS[c >> 4 & 0xF];
+        bytes[position++] = HEX_DIGITS[c & 0xF];
+    }
+
+    private static byte[] shortEscapes() {
+        byte[] escapes = new byte[0x80];
+        escapes['"'] = '"';
+        escapes['\\'] = '\\';
+        escapes['\b'] = 'b';
+        escapes['\t'] = 't';
+        escapes['\n'] = 'n';
+        escapes['\f'] = 'f';
+        escapes['\r'] = 'r';
+        return escapes;
+    }
+
+    private static int digitCount(long value) {
+        long bound = 10;
+        for (int digits = 1; digits < MAX_LONG_DIGITS; digits++) {
+            if (value < bound) {
+                return digits;
+            }
+            bound *= 10;
+        }
+        return MAX_LONG_DIGITS;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > bytes.length) {
+            byte[] grown = new byte[Math.max(bytes.length * 2, position + additional)];
+            System.arraycopy(bytes, 0, grown, 0, position);
+            bytes = grown;
+        }
+    }
+}
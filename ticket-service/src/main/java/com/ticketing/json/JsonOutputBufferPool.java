@@ -0,0 +1,30 @@
+package com.ticketing.json;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Small pool of {@link JsonOutputBuffer}s shared by the writers in this package. Buffers that grew past
+ * {@link #MAX_RETAINED_CAPACITY} are dropped rather than returned, so one unusually large body cannot pin
+ * memory, and a borrow from an empty pool allocates.
+ */
+final class JsonOutputBufferPool {
+
+    static final int POOL_SIZE = 64;
+    static final int INITIAL_CAPACITY = 512;
+    static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private final BlockingQueue<JsonOutputBuffer> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    JsonOutputBuffer borrow() {
+        JsonOutputBuffer buffer = pool.poll();
+        return buffer != null ? buffer : new JsonOutputBuffer(INITIAL_CAPACITY);
+    }
+
+    void release(JsonOutputBuffer buffer) {
+        if (buffer.capacity() <= MAX_RETAINED_CAPACITY) {
+            buffer.reset();
+            pool.offer(buffer);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ticketing.json;
+
+import com.ticketing.dto.response.TicketTransactionResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes JSON transaction responses with {@link TicketTransactionResponseWriter} instead of Jackson.
+ * Write-only: requests, other bodies and the binary formats are still handled by the Jackson converters.
+ */
+public class TicketTransactionResponseHttpMessageConverter extends AbstractHttpMessageConverter<TicketTransactionResponse> {
+
+    private final TicketTransactionResponseWriter writer;
+
+    public TicketTransactionResponseHttpMessageConverter(TicketTransactionResponseWriter writer) {
+        super(MediaType.APPLICATION_JSON);
+        this.writer = writer;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TicketTransactionResponse.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TicketTransactionResponse readInternal(Class<? extends TicketTransactionResponse> clazz,
+                                                     HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Transaction responses are never read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(TicketTransactionResponse response, HttpOutputMessage outputMessage) throws IOException {
+        writer.write(response, outputMessage.getBody());
+    }
+}
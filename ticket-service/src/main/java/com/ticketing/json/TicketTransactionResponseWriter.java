@@ -0,0 +1,120 @@
+package com.ticketing.json;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.dto.response.TicketSegment;
+import com.ticketing.dto.response.TicketTransactionResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes {@link TicketTransactionResponse} as compact JSON, byte for byte as the application's Jackson
+ * {@code ObjectMapper} does, without reflection.
+ * <p>
+ * Field names and punctuation are pre-encoded fragments, and each ticket type's segment opening, up to its
+ * quantity, is a single fragment indexed by ordinal. Quantities and amounts are formatted as digits
+ * straight into a buffer borrowed from a small pool, which is then written to the output stream in one
+ * call.
+ */
+public class TicketTransactionResponseWriter {
+
+    private static final byte[] TRANSACTION_ID = ascii("{\"transactionId\":");
+    private static final byte[] TOTAL_COST = ascii(",\"totalCost\":");
+    private static final byte[] TICKETS = ascii(",\"tickets\":");
+    private static final byte[] SEGMENT_WITHOUT_TYPE = ascii("{\"ticketType\":null,\"quantity\":");
+    private static final byte[][] SEGMENT_BY_TYPE = segmentOpenings();
+    private static final byte ARRAY_START = '[';
+    private static final byte ARRAY_END = ']';
+    private static final byte OBJECT_END = '}';
+    private static final byte COMMA = ',';
+
+    private final JsonOutputBufferPool pool = new JsonOutputBufferPool();
+
+    /**
+     * Encodes {@code response} and writes it to {@code output}, returning the number of bytes written.
+     */
+    public int write(TicketTransactionResponse response, OutputStream output) throws IOException {
+        JsonOutputBuffer buffer = pool.borrow();
+        try {
+            encode(response, buffer);
+            buffer.writeTo(output);
+            return buffer.size();
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    public byte[] toBytes(TicketTransactionResponse response) {
+        JsonOutputBuffer buffer = pool.borrow();
+        try {
+            encode(response, buffer);
+            return buffer.toByteArray();
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    private static void encode(TicketTransactionResponse response, JsonOutputBuffer buffer) {
+        buffer.writeRaw(TRANSACTION_ID);
+        if (response.getTransactionId() == null) {
+            buffer.writeNull();
+        } else {
+            buffer.writeLong(response.getTransactionId());
+        }
+        buffer.writeRaw(TOTAL_COST);
+        writeDecimal(response.getTotalCost(), buffer);
+        buffer.writeRaw(TICKETS);
+
+        List<TicketSegment> tickets = response.getTickets();
+        if (tickets == null) {
+            buffer.writeNull();
+        } else {
+            buffer.writeByte(ARRAY_START);
+            for (int i = 0; i < tickets.size(); i++) {
+                if (i > 0) {
+                    buffer.writeByte(COMMA);
+                }
+                writeSegment(tickets.get(i), buffer);
+            }
+            buffer.writeByte(ARRAY_END);
+        }
+        buffer.writeByte(OBJECT_END);
+    }
+
+    private static void writeSegment(TicketSegment segment, JsonOutputBuffer buffer) {
+        if (segment == null) {
+            buffer.writeNull();
+            return;
+        }
+        TicketType ticketType = segment.getTicketType();
+        buffer.writeRaw(ticketType == null ? SEGMENT_WITHOUT_TYPE : SEGMENT_BY_TYPE[ticketType.ordinal()]);
+        buffer.writeLong(segment.getQuantity());
+        buffer.writeRaw(TOTAL_COST);
+        writeDecimal(segment.getTotalCost(), buffer);
+        buffer.writeByte(OBJECT_END);
+    }
+
+    private static void writeDecimal(BigDecimal value, JsonOutputBuffer buffer) {
+        if (value == null) {
+            buffer.writeNull();
+        } else {
+            buffer.writeDecimal(value);
+        }
+    }
+
+    private static byte[][] segmentOpenings() {
+        TicketType[] ticketTypes = TicketType.values();
+        byte[][] openings = new byte[ticketTypes.length][];
+        for (TicketType ticketType : ticketTypes) {
+            openings[ticketType.ordinal()] = ascii("{\"ticketType\":\"" + ticketType.name() + "\",\"quantity\":");
+        }
+        return openings;
+    }
+
+    private static byte[] ascii(String fragment) {
+        return fragment.getBytes(StandardCharsets.US_ASCII);
+    }
+}
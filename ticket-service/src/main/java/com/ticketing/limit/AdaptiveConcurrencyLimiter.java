@@ -0,0 +1,121 @@
+package com.ticketing.limit;
+
+import com.ticketing.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latency-driven limit on concurrently processed transactions, in the style of a gradient limiter.
+ * <p>
+ * Each successful request reports its latency. A long-run average of those latencies is the baseline;
+ * the gradient {@code tolerance * baseline / latency}, clamped to {@code [0.5, 1]}, stays at 1 while
+ * latency is within tolerance and falls as requests start to queue. The new limit is
+ * {@code limit * gradient + sqrt(limit)}, so the limit grows by the square-root headroom while latency
+ * is healthy and shrinks multiplicatively once it is not, smoothed to avoid oscillation and kept within
+ * {@code [minLimit, maxLimit]}. The limit only grows while at least half of it is in use, so an idle
+ * service does not drift to {@code maxLimit}.
+ * <p>
+ * Admission is a compare-and-set on the in-flight count. Limit updates take a lock, but only with
+ * {@code tryLock}: a sample that arrives during another update is dropped rather than waited for.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double MAX_GRADIENT = 1.0;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final Counter rejections;
+
+    private volatile int limit;
+
+    // Guarded by updateLock
+    private double estimatedLimit;
+    private double baselineLatencyNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.estimatedLimit = Math.clamp(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit());
+        this.limit = (int) estimatedLimit;
+        Gauge.builder("ticketing.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current limit on concurrently processed transactions")
+                .register(meterRegistry);
+        Gauge.builder("ticketing.concurrency.in.flight", inFlight, AtomicInteger::get)
+                .description("Transactions currently being processed")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("ticketing.concurrency.rejections")
+                .description("Transactions rejected because the concurrency limit was reached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admits a request if the limit allows it. Every admitted request must be {@link #release released}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejections.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Adjusts the limit for a request that completed successfully.
+     *
+     * @param latencyNanos        how long the request took
+     * @param inFlightAtAdmission requests in flight, including this one, when it was admitted
+     */
+    public void onSample(long latencyNanos, int inFlightAtAdmission) {
+        if (latencyNanos <= 0 || !updateLock.tryLock()) {
+            return;
+        }
+        try {
+            if (baselineLatencyNanos == 0) {
+                baselineLatencyNanos = latencyNanos;
+            } else {
+                baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) / properties.getLongWindow();
+            }
+            // Once latency has recovered well below the baseline, let the baseline follow it down quickly
+            if (baselineLatencyNanos > 2 * latencyNanos) {
+                baselineLatencyNanos *= 0.95;
+            }
+
+            double gradient = Math.clamp(properties.getTolerance() * baselineLatencyNanos / latencyNanos,
+                    MIN_GRADIENT, MAX_GRADIENT);
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            if (newLimit > estimatedLimit && inFlightAtAdmission < estimatedLimit / 2) {
+                return;
+            }
+            double smoothing = properties.getSmoothing();
+            estimatedLimit = Math.clamp(estimatedLimit * (1 - smoothing) + newLimit * smoothing,
+                    properties.getMinLimit(), properties.getMaxLimit());
+            limit = (int) estimatedLimit;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ticketing.limit;
+
+import com.ticketing.exception.ServiceOverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Admits requests through the {@link AdaptiveConcurrencyLimiter} and rejects the rest straight away with
+ * {@link ServiceOverloadedException}, before the body is read. Only successful responses feed latency back
+ * to the limiter, since rejected and invalid requests finish early and would skew it low.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED_AT = ConcurrencyLimitInterceptor.class.getName() + ".admittedAt";
+    private static final String IN_FLIGHT_AT_ADMISSION = ConcurrencyLimitInterceptor.class.getName() + ".inFlight";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter, Duration retryAfter) {
+        this.limiter = limiter;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException("Service is at capacity, retry later", retryAfter);
+        }
+        request.setAttribute(IN_FLIGHT_AT_ADMISSION, limiter.getInFlight());
+        request.setAttribute(ADMITTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        limiter.release();
+        if (ex == null && response.getStatus() < 400) {
+            long latencyNanos = System.nanoTime() - (long) request.getAttribute(ADMITTED_AT);
+            limiter.onSample(latencyNanos, (int) request.getAttribute(IN_FLIGHT_AT_ADMISSION));
+        }
+    }
+}
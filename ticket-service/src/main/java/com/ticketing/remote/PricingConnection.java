@@ -0,0 +1,246 @@
+package com.ticketing.remote;
+
+import com.ticketing.exception.PricingException;
+import com.ticketing.pricing.rpc.PricingProtocol;
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One pipelined TCP connection to the pricing server, fed from the queue it shares with the client's
+ * other connections.
+ * <p>
+ * The writer thread waits for a free pipeline slot, then takes every call that has queued up, up to
+ * {@code maxBatchSize}, and writes them as one batch; the reader thread completes the calls of each
+ * answered batch in order and frees its slot. Calls the caller has given up on are dropped before they
+ * are sent.
+ * <p>
+ * A connection that fails is reopened with exponential backoff. Pricing has no side effects, so the calls
+ * that were in flight on it are put back on the queue for any connection to retry; they are bounded by
+ * their caller's timeout like any other call.
+ */
+@Slf4j
+final class PricingConnection {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MIN_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 2_000;
+
+    private final String name;
+    private final String host;
+    private final int port;
+    private final int connectTimeoutMillis;
+    private final BlockingQueue<RemoteCall> queue;
+    private final int maxBatchSize;
+    private final int maxInFlightBatches;
+    private final DistributionSummary batchSizes;
+
+    private volatile Thread writer;
+    private volatile Session session;
+    private volatile boolean closed;
+
+    PricingConnection(String name, String host, int port, Duration connectTimeout, BlockingQueue<RemoteCall> queue,
+                      int maxBatchSize, int maxInFlightBatches, DistributionSummary batchSizes) {
+        this.name = name;
+        this.host = host;
+        this.port = port;
+        this.connectTimeoutMillis = Math.toIntExact(connectTimeout.toMillis());
+        this.queue = queue;
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.batchSizes = batchSizes;
+    }
+
+    void start() {
+        writer = Thread.ofPlatform().daemon().name(name + "-writer").start(this::run);
+    }
+
+    /**
+     * Whether the connection is currently open, for health reporting and tests.
+     */
+    boolean isConnected() {
+        Session current = session;
+        return current != null && !current.failed;
+    }
+
+    void close() {
+        closed = true;
+        Thread current = writer;
+        if (current != null) {
+            current.interrupt();
+        }
+        Session open = session;
+        if (open != null) {
+            open.close();
+        }
+    }
+
+    private void run() {
+        long backoffMillis = MIN_BACKOFF_MILLIS;
+        while (!closed) {
+            Session current = null;
+            try {
+                current = connect();
+                backoffMillis = MIN_BACKOFF_MILLIS;
+                writeBatches(current);
+            } catch (IOException ex) {
+                if (!closed) {
+                    log.warn("Pricing connection {} to {}:{} failed: {}", name, host, port, ex.getMessage());
+                }
+            } catch (InterruptedException ex) {
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Pricing connection {} failed", name, ex);
+            } finally {
+                if (current != null) {
+                    current.close();
+                }
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    private Session connect() throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            // Resolved on every attempt, so a restarted server may come back at a new address
+            socket.connect(new InetSocketAddress(host, port), connectTimeoutMillis);
+            Session connected = new Session(socket);
+            connected.out.writeInt(PricingProtocol.MAGIC);
+            connected.out.flush();
+            session = connected;
+            Thread.ofPlatform().daemon().name(name + "-reader").start(connected::readAnswers);
+            log.info("Pricing connection {} opened to {}:{}", name, host, port);
+            return connected;
+        } catch (IOException | RuntimeException ex) {
+            socket.close();
+            throw ex;
+        }
+    }
+
+    private void writeBatches(Session current) throws IOException, InterruptedException {
+        while (!closed) {
+            current.permits.acquire();
+            if (current.failed) {
+                throw new IOException("Connection lost");
+            }
+            List<RemoteCall> batch = new ArrayList<>();
+            batch.add(queue.take());
+            queue.drainTo(batch, maxBatchSize - 1);
+            batch.removeIf(RemoteCall::isDone);
+            if (batch.isEmpty()) {
+                current.permits.release();
+                continue;
+            }
+
+            // In flight before it is written, so the reader can never see an answer it does not expect
+            current.inFlight.add(batch);
+            current.out.writeInt(batch.size());
+            for (RemoteCall call : batch) {
+                call.write(current.out);
+            }
+            current.out.flush();
+            batchSizes.record(batch.size());
+        }
+    }
+
+    /**
+     * Puts a call that could not be answered back on the queue, or fails it if that is not possible.
+     */
+    private void retry(RemoteCall call) {
+        if (call.isDone()) {
+            return;
+        }
+        if (closed) {
+            call.result().completeExceptionally(new PricingException("Pricing client is closed"));
+        } else if (!queue.offer(call)) {
+            call.result().completeExceptionally(new PricingException("Too many pricing calls waiting for the pricing server"));
+        }
+    }
+
+    /**
+     * One open socket with its pipeline of batches awaiting answers.
+     */
+    private final class Session {
+
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private final Semaphore permits = new Semaphore(maxInFlightBatches);
+        private final Queue<List<RemoteCall>> inFlight = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean socketClosed = new AtomicBoolean();
+
+        private volatile boolean failed;
+
+        private Session(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+        }
+
+        private void readAnswers() {
+            try {
+                while (true) {
+                    int callCount = in.readInt();
+                    List<RemoteCall> batch = inFlight.peek();
+                    if (batch == null || batch.size() != callCount) {
+                        throw new ProtocolException("Unexpected answer to " + callCount + " calls");
+                    }
+                    for (RemoteCall call : batch) {
+                        call.readAnswer(in);
+                    }
+                    inFlight.poll();
+                    permits.release();
+                }
+            } catch (IOException ex) {
+                if (!failed && !closed) {
+                    log.warn("Pricing connection {} lost: {}", name, ex.getMessage());
+                }
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Closes the socket, wakes the writer and retries every call still in flight. Safe to call from
+         * both threads, and more than once: a batch the writer adds while the reader is closing is retried
+         * by the writer's own call.
+         */
+        private void close() {
+            failed = true;
+            if (socketClosed.compareAndSet(false, true)) {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                    // Already failed
+                }
+                permits.release(maxInFlightBatches);
+            }
+            for (List<RemoteCall> batch; (batch = inFlight.poll()) != null; ) {
+                batch.forEach(PricingConnection.this::retry);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ticketing.remote;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.exception.PricingException;
+import com.ticketing.pricing.exception.PricingRuleException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.ticketing.pricing.rpc.PricingProtocol.*;
+
+/**
+ * One pricing call waiting to be sent or answered. Its arguments are captured when it is created, so the
+ * caller's objects may change as soon as the call is queued.
+ */
+final class RemoteCall {
+
+    private final byte operation;
+    private final TicketType ticketType;
+    private final TicketCounts ticketCounts;
+    private final Map<Integer, Integer> customersByAge;
+    private final long ageBands;
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+    private RemoteCall(byte operation, TicketType ticketType, TicketCounts ticketCounts,
+                       Map<Integer, Integer> customersByAge) {
+        this(operation, ticketType, ticketCounts, customersByAge, 0);
+    }
+
+    private RemoteCall(byte operation, TicketType ticketType, TicketCounts ticketCounts,
+                       Map<Integer, Integer> customersByAge, long ageBands) {
+        this.operation = operation;
+        this.ticketType = ticketType;
+        this.ticketCounts = ticketCounts;
+        this.customersByAge = customersByAge;
+        this.ageBands = ageBands;
+    }
+
+    static RemoteCall calculateTransaction(TicketCounts counts) {
+        return new RemoteCall(CALCULATE_TRANSACTION, null, counts.copy(), null);
+    }
+
+    /**
+     * @param ageBands fingerprint of the age bands the customers were classified against
+     */
+    static RemoteCall calculateClassifiedTransaction(long ageBands, TicketCounts counts) {
+        return new RemoteCall(CALCULATE_CLASSIFIED_TRANSACTION, null, counts.copy(), null, ageBands);
+    }
+
+    static RemoteCall calculateTransactionByAge(Map<Integer, Integer> customersByAge) {
+        if (customersByAge.size() > MAX_AGE_HISTOGRAM_SIZE) {
+            throw new IllegalArgumentException("Age histogram cannot have more than " + MAX_AGE_HISTOGRAM_SIZE
+                    + " ages");
+        }
+        Map<Integer, Integer> copy = HashMap.newHashMap(customersByAge.size());
+        customersByAge.forEach((age, count) -> {
+            if (age == null || count == null) {
+                throw new IllegalArgumentException("Invalid age histogram entry: " + age + "=" + count);
+            }
+            copy.put(age, count);
+        });
+        return new RemoteCall(CALCULATE_TRANSACTION_BY_AGE, null, null, copy);
+    }
+
+    static RemoteCall calculateTicketPrice(TicketType ticketType, Map<TicketType, Integer> counts) {
+        return new RemoteCall(CALCULATE_TICKET_PRICE, ticketType, TicketCounts.of(counts), null);
+    }
+
+    static RemoteCall getTicketBasePrice(TicketType ticketType) {
+        return new RemoteCall(GET_TICKET_BASE_PRICE, ticketType, null, null);
+    }
+
+    CompletableFuture<Object> result() {
+        return result;
+    }
+
+    /**
+     * Whether the call has been answered, failed or given up on, so it need not be sent.
+     */
+    boolean isDone() {
+        return result.isDone();
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeByte(operation);
+        switch (operation) {
+            case CALCULATE_TRANSACTION -> writeTicketCounts(out, ticketCounts);
+            case CALCULATE_CLASSIFIED_TRANSACTION -> {
+                out.writeLong(ageBands);
+                writeTicketCounts(out, ticketCounts);
+            }
+            case CALCULATE_TRANSACTION_BY_AGE -> writeCustomersByAge(out, customersByAge);
+            case CALCULATE_TICKET_PRICE -> {
+                writeTicketType(out, ticketType);
+                writeTicketCounts(out, ticketCounts);
+            }
+            default -> writeTicketType(out, ticketType);
+        }
+    }
+
+    /**
+     * Reads this call's answer and completes it. The answer is always read in full, even if the caller has
+     * stopped waiting, so that the next answer starts where expected.
+     */
+    void readAnswer(DataInput in) throws IOException {
+        byte status = in.readByte();
+        if (status != OK) {
+            String message = readNullableString(in);
+            result.completeExceptionally(switch (status) {
+                case PRICING_RULE_ERROR -> new PricingRuleException(message);
+                case INVALID_ARGUMENT -> new IllegalArgumentException(message);
+                case AGE_BANDS_MISMATCH -> new PricingException(message);
+                default -> new PricingException("Pricing server failed: " + message);
+            });
+            return;
+        }
+        result.complete(switch (operation) {
+            case CALCULATE_TRANSACTION, CALCULATE_CLASSIFIED_TRANSACTION, CALCULATE_TRANSACTION_BY_AGE ->
+                    readTransactionPrice(in);
+            case CALCULATE_TICKET_PRICE -> readTicketPrice(in);
+            default -> readDecimal(in);
+        });
+    }
+}
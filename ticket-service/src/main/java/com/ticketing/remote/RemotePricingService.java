@@ -0,0 +1,171 @@
+package com.ticketing.remote;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.config.PricingClientProperties;
+import com.ticketing.exception.PricingException;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Prices on a standalone pricing server, see {@link com.ticketing.pricing.rpc.PricingRpcServer}.
+ * <p>
+ * Callers block as they would on in-process pricing, but their calls go through one bounded queue to a
+ * few pipelined connections. A connection sends whatever has queued up while it waited for a free
+ * pipeline slot as a single batch, so batches stay small under light load and grow with it, without a
+ * timer delaying any call. Each connection keeps up to {@code maxInFlightBatches} batches outstanding.
+ * <p>
+ * Pricing rule violations and invalid arguments are rethrown as the server raised them. A call that
+ * cannot be queued, is not answered within {@code timeout}, fails on the server or carries customers
+ * classified against other age bands than the server's throws {@link PricingException}. Connections are opened in the background and reopened after failures, so
+ * the client starts without the server and rides out its restarts.
+ */
+public class RemotePricingService implements PricingService, Closeable {
+
+    private final BlockingQueue<RemoteCall> queue;
+    private final List<PricingConnection> connections;
+    private final Duration timeout;
+
+    private volatile boolean closed;
+
+    public RemotePricingService(PricingClientProperties properties, MeterRegistry meterRegistry) {
+        this.queue = new LinkedBlockingQueue<>(properties.getMaxQueuedCalls());
+        this.timeout = properties.getTimeout();
+
+        DistributionSummary batchSizes = DistributionSummary.builder("ticketing.pricing.client.batch.size")
+                .description("Calls sent to the pricing server in one batch")
+                .baseUnit("calls")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) properties.getMaxBatchSize())
+                .register(meterRegistry);
+        Gauge.builder("ticketing.pricing.client.queued", queue, BlockingQueue::size)
+                .description("Pricing calls waiting to be sent")
+                .register(meterRegistry);
+
+        this.connections = new ArrayList<>(properties.getConnections());
+        for (int i = 0; i < properties.getConnections(); i++) {
+            PricingConnection connection = new PricingConnection("pricing-client-" + i,
+                    properties.getHost(), properties.getPort(),
+                    properties.getConnectTimeout(), queue, properties.getMaxBatchSize(),
+                    properties.getMaxInFlightBatches(), batchSizes);
+            connections.add(connection);
+            connection.start();
+        }
+    }
+
+    @Override
+    public PriceCalculationResult calculateTicketPrice(TicketType ticketType, Map<TicketType, Integer> counts) {
+        return (PriceCalculationResult) call(RemoteCall.calculateTicketPrice(ticketType, counts));
+    }
+
+    @Override
+    public BigDecimal getTicketBasePrice(TicketType ticketType) {
+        return (BigDecimal) call(RemoteCall.getTicketBasePrice(ticketType));
+    }
+
+    @Override
+    public TransactionPriceResult calculateTransaction(TicketCounts counts) {
+        return (TransactionPriceResult) call(RemoteCall.calculateTransaction(counts));
+    }
+
+    /**
+     * Prices against the server's rules, which are reloaded separately from {@code snapshot}. The fingerprint
+     * of the age bands that classified {@code counts} travels with the call, and the server refuses to price
+     * counts classified against bands other than its own, so a transaction never pairs one rule set's
+     * classification with another's prices.
+     *
+     * @throws PricingException if the server's age bands differ from {@code snapshot}'s
+     */
+    @Override
+    public TransactionPriceResult calculateTransaction(PricingSnapshot snapshot, TicketCounts counts) {
+        long ageBands = snapshot.getAgeBandTable().getFingerprint();
+        return (TransactionPriceResult) call(RemoteCall.calculateClassifiedTransaction(ageBands, counts));
+    }
+
+    @Override
+    public TransactionPriceResult calculateTransactionByAge(Map<Integer, Integer> customersByAge) {
+        return (TransactionPriceResult) call(RemoteCall.calculateTransactionByAge(customersByAge));
+    }
+
+    /**
+     * Whether any connection to the server is open.
+     */
+    public boolean isConnected() {
+        return connections.stream().anyMatch(PricingConnection::isConnected);
+    }
+
+    /**
+     * Closes every connection. Calls still queued or in flight fail with {@link PricingException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        connections.forEach(PricingConnection::close);
+        for (RemoteCall call; (call = queue.poll()) != null; ) {
+            call.result().completeExceptionally(new PricingException("Pricing client is closed"));
+        }
+    }
+
+    private Object call(RemoteCall call) {
+        if (closed) {
+            throw new PricingException("Pricing client is closed");
+        }
+        if (!queue.offer(call)) {
+            throw new PricingException("Too many pricing calls waiting for the pricing server");
+        }
+        CompletableFuture<Object> result = call.result();
+        try {
+            return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            // Marks the call done so it is not sent, unless its answer arrived in the meantime
+            PricingException timedOut = new PricingException("Pricing server did not answer within " + timeout);
+            if (result.completeExceptionally(timedOut)) {
+                throw timedOut;
+            }
+            return answer(result);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            result.cancel(false);
+            throw new PricingException("Interrupted while waiting for the pricing server");
+        } catch (ExecutionException ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    private static Object answer(CompletableFuture<Object> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PricingException("Interrupted while waiting for the pricing server");
+        } catch (ExecutionException ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    private static RuntimeException rethrow(ExecutionException ex) {
+        if (ex.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new PricingException("Pricing call failed: " + ex.getCause(), ex.getCause());
+    }
+}
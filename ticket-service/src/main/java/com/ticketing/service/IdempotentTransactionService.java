@@ -0,0 +1,106 @@
+package com.ticketing.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ticketing.config.IdempotencyProperties;
+import com.ticketing.dto.request.CountedTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.exception.DuplicateTransactionException;
+import com.ticketing.ingest.TalliedTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Makes single transaction processing idempotent on {@code transactionId}.
+ * <p>
+ * The first request for an id registers an in-flight result and processes the transaction. Retries with
+ * an identical payload receive the same response, waiting for it if it is still being computed, so a
+ * retry storm prices each transaction once. A retry with a different payload is rejected with
+ * {@link DuplicateTransactionException}; payloads are compared by {@link TransactionFingerprint}, so only
+ * a digest of each remembered request is kept. Failed transactions are not remembered and may be retried.
+ * Entries are bounded in number and expire after {@code ticketing.idempotency.ttl}.
+ */
+@Slf4j
+@Service
+public class IdempotentTransactionService {
+
+    private final TicketProcessingService ticketProcessingService;
+    private final IdempotencyProperties idempotencyProperties;
+    private final Cache<Long, InFlightTransaction> transactions;
+
+    public IdempotentTransactionService(TicketProcessingService ticketProcessingService,
+                                        IdempotencyProperties idempotencyProperties) {
+        this.ticketProcessingService = ticketProcessingService;
+        this.idempotencyProperties = idempotencyProperties;
+        this.transactions = Caffeine.newBuilder()
+                .maximumSize(idempotencyProperties.getMaximumSize())
+                .expireAfterWrite(idempotencyProperties.getTtl())
+                .build();
+    }
+
+    public TicketTransactionResponse processTalliedTransaction(TalliedTransaction transaction) {
+        Long transactionId = transaction.getTransactionId();
+        if (!idempotencyProperties.isEnabled() || transactionId == null) {
+            return ticketProcessingService.processTalliedTransaction(transaction);
+        }
+        return process(transactionId, transaction.getFingerprint(),
+                () -> ticketProcessingService.processTalliedTransaction(transaction));
+    }
+
+    public TicketTransactionResponse processCountedTransaction(CountedTransactionRequest request) {
+        Long transactionId = request.getTransactionId();
+        if (!idempotencyProperties.isEnabled() || transactionId == null) {
+            return ticketProcessingService.processCountedTransaction(request);
+        }
+        return process(transactionId, TransactionFingerprint.of(request),
+                () -> ticketProcessingService.processCountedTransaction(request));
+    }
+
+    private TicketTransactionResponse process(Long transactionId, TransactionFingerprint fingerprint,
+                                              Supplier<TicketTransactionResponse> processor) {
+        InFlightTransaction candidate = new InFlightTransaction(fingerprint, new CompletableFuture<>());
+        InFlightTransaction existing = transactions.asMap().putIfAbsent(transactionId, candidate);
+        if (existing != null) {
+            return replay(transactionId, fingerprint, existing);
+        }
+
+        // Computed on the caller's thread without holding any cache lock; duplicates wait on the future
+        try {
+            TicketTransactionResponse response = processor.get();
+            candidate.response().complete(response);
+            return response;
+        } catch (RuntimeException | Error ex) {
+            transactions.asMap().remove(transactionId, candidate);
+            candidate.response().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private TicketTransactionResponse replay(Long transactionId, TransactionFingerprint fingerprint,
+                                             InFlightTransaction existing) {
+        if (!existing.fingerprint().equals(fingerprint)) {
+            throw new DuplicateTransactionException("Transaction " + transactionId
+                    + " was already submitted with a different payload");
+        }
+        log.debug("Replaying response for transaction {}", transactionId);
+        try {
+            return existing.response().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * The fingerprint of the first request seen for a transaction id and its eventual response.
+     */
+    private record InFlightTransaction(TransactionFingerprint fingerprint,
+                                       CompletableFuture<TicketTransactionResponse> response) {
+    }
+}
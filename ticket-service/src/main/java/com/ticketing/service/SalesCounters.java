@@ -0,0 +1,133 @@
+package com.ticketing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.common.util.FixedPointPriceUtil;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live sales totals since startup: tickets sold and revenue per ticket type, and the discount given
+ * under each rule, all accumulated in minor units.
+ * <p>
+ * Every total is a {@link LongAdder}, which moves contended updates onto padded per-thread cells, so
+ * request threads recording sales never write to a shared cache line; only readers sum the cells. The
+ * per type adders are held in arrays indexed by ordinal, and the per rule adders are found with a
+ * lock-free map read once the rule has been seen. Published as {@code ticketing.tickets.sold},
+ * {@code ticketing.revenue} and {@code ticketing.discounts}.
+ */
+@Component
+public class SalesCounters implements MeterBinder {
+
+    private static final TicketType[] TICKET_TYPES = TicketType.values();
+    private static final String UNNAMED_RULE = "unnamed";
+
+    private final LongAdder[] ticketsSold = new LongAdder[TICKET_TYPES.length];
+    private final LongAdder[] revenueMinor = new LongAdder[TICKET_TYPES.length];
+    private final ConcurrentMap<String, LongAdder> discountsMinor = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry meterRegistry;
+
+    public SalesCounters() {
+        for (TicketType ticketType : TICKET_TYPES) {
+            ticketsSold[ticketType.ordinal()] = new LongAdder();
+            revenueMinor[ticketType.ordinal()] = new LongAdder();
+        }
+    }
+
+    public void record(TransactionPriceResult transactionPrice) {
+        for (PriceCalculationResult ticketPrice : transactionPrice.getTicketPrices()) {
+            int ordinal = ticketPrice.getTicketType().ordinal();
+            ticketsSold[ordinal].add(ticketPrice.getQuantity());
+            revenueMinor[ordinal].add(ticketPrice.getTotalCostMinor());
+            recordDiscounts(ticketPrice);
+        }
+    }
+
+    public long getTicketsSold(TicketType ticketType) {
+        return ticketsSold[ticketType.ordinal()].sum();
+    }
+
+    public long getRevenueMinor(TicketType ticketType) {
+        return revenueMinor[ticketType.ordinal()].sum();
+    }
+
+    /**
+     * Discount given under each rule seen so far, in minor units, by rule name.
+     */
+    public Map<String, Long> getDiscountsMinor() {
+        Map<String, Long> discounts = new TreeMap<>();
+        discountsMinor.forEach((rule, amount) -> discounts.put(rule, amount.sum()));
+        return discounts;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TicketType ticketType : TICKET_TYPES) {
+            FunctionCounter.builder("ticketing.tickets.sold", ticketsSold[ticketType.ordinal()], LongAdder::sum)
+                    .description("Tickets sold")
+                    .baseUnit("tickets")
+                    .tag("ticket.type", ticketType.name())
+                    .register(registry);
+            FunctionCounter.builder("ticketing.revenue", revenueMinor[ticketType.ordinal()], SalesCounters::toAmount)
+                    .description("Revenue from tickets sold")
+                    .tag("ticket.type", ticketType.name())
+                    .register(registry);
+        }
+        meterRegistry = registry;
+        discountsMinor.forEach((rule, amount) -> registerDiscount(registry, rule, amount));
+    }
+
+    /**
+     * Adds the discount each applied rule gave per ticket, times the quantity, to that rule's total.
+     */
+    private void recordDiscounts(PriceCalculationResult ticketPrice) {
+        List<String> rules = ticketPrice.getAppliedDiscounts();
+        List<Long> amountsMinor = ticketPrice.getAppliedDiscountAmountsMinor();
+        if (rules == null || amountsMinor == null) {
+            return;
+        }
+        for (int i = 0; i < amountsMinor.size(); i++) {
+            discountCounter(rules.get(i)).add(amountsMinor.get(i) * ticketPrice.getQuantity());
+        }
+    }
+
+    private LongAdder discountCounter(String rule) {
+        String name = rule == null ? UNNAMED_RULE : rule;
+        LongAdder amount = discountsMinor.get(name);
+        if (amount != null) {
+            return amount;
+        }
+        LongAdder created = new LongAdder();
+        amount = discountsMinor.putIfAbsent(name, created);
+        if (amount != null) {
+            return amount;
+        }
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            registerDiscount(registry, name, created);
+        }
+        return created;
+    }
+
+    private static void registerDiscount(MeterRegistry registry, String rule, LongAdder amount) {
+        FunctionCounter.builder("ticketing.discounts", amount, SalesCounters::toAmount)
+                .description("Discount given under the rule")
+                .tag("rule", rule)
+                .register(registry);
+    }
+
+    private static double toAmount(LongAdder minorUnits) {
+        return FixedPointPriceUtil.toAmount(minorUnits.sum()).doubleValue();
+    }
+}
@@ -0,0 +1,216 @@
+package com.ticketing.service;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.config.BatchProcessingProperties;
+import com.ticketing.config.ErrorLogProperties;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionBatchResponse;
+import com.ticketing.dto.response.TransactionBatchItemResult;
+import com.ticketing.dto.response.TransactionBatchItemStatus;
+import com.ticketing.exception.InvalidTransactionException;
+import com.ticketing.exception.PricingException;
+import com.ticketing.exception.handler.RateLimitedLog;
+import com.ticketing.ingest.TransactionBatch;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Processes many transactions in one call.
+ * <p>
+ * Every item is validated with the same bean validation constraints as the single transaction endpoint,
+ * and failures are reported per item instead of failing the whole batch, including items that could not
+ * be bound at all. A batch is priced against one pricing snapshot, items are tallied into one reused
+ * {@link TicketCounts}, and transactions with the same ticket count vector are priced only once per batch.
+ * Item failures are logged through a {@link RateLimitedLog}, so one bad batch cannot flood the log.
+ */
+@Slf4j
+@Service
+public class TicketBatchProcessingService {
+
+    /**
+     * Reported for an item that could not be bound, as the single transaction endpoint reports such a body.
+     */
+    public static final String UNREADABLE_ITEM = "Input request validation Failed";
+
+    private final TicketProcessingService ticketProcessingService;
+    private final PricingService pricingService;
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final Validator validator;
+    private final BatchProcessingProperties batchProcessingProperties;
+    private final RateLimitedLog pricingErrors;
+    private final RateLimitedLog unexpectedErrors;
+
+    public TicketBatchProcessingService(TicketProcessingService ticketProcessingService,
+                                        PricingService pricingService,
+                                        PricingSnapshotHolder pricingSnapshotHolder,
+                                        Validator validator,
+                                        BatchProcessingProperties batchProcessingProperties,
+                                        ErrorLogProperties errorLogProperties) {
+        this.ticketProcessingService = ticketProcessingService;
+        this.pricingService = pricingService;
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
+        this.validator = validator;
+        this.batchProcessingProperties = batchProcessingProperties;
+        this.pricingErrors = new RateLimitedLog(log, Level.ERROR,
+                errorLogProperties.getLimit(), errorLogProperties.getInterval());
+        this.unexpectedErrors = new RateLimitedLog(log, Level.ERROR,
+                errorLogProperties.getLimit(), errorLogProperties.getInterval());
+    }
+
+    public TicketTransactionBatchResponse processBatch(List<TicketTransactionRequest> requests) {
+        return processBatch(TransactionBatch.of(requests));
+    }
+
+    /**
+     * Processes a batch read item by item, reporting the items that could not be bound as invalid.
+     */
+    public TicketTransactionBatchResponse processBatch(TransactionBatch batch) {
+        List<TicketTransactionRequest> requests = batch.getRequests();
+        validateBatch(requests);
+
+        BatchItemProcessor batchItems = startBatch();
+        List<TransactionBatchItemResult> results = new ArrayList<>(requests.size());
+        int succeeded = 0;
+
+        for (int index = 0; index < requests.size(); index++) {
+            TransactionBatchItemResult result = batch.isUnreadable(index)
+                    ? failure(index, null, TransactionBatchItemStatus.INVALID, Map.of("message", UNREADABLE_ITEM))
+                    : batchItems.process(index, requests.get(index));
+            if (result.getStatus() == TransactionBatchItemStatus.SUCCESS) {
+                succeeded++;
+            }
+            results.add(result);
+        }
+
+        return TicketTransactionBatchResponse.builder()
+                .succeeded(succeeded)
+                .failed(requests.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Starts a batch against the current rules. Both the servlet and the reactive stack process batches
+     * through it, so they price alike.
+     */
+    public BatchItemProcessor startBatch() {
+        return new BatchItemProcessor(pricingSnapshotHolder.current());
+    }
+
+    /**
+     * Validates and prices a single item against the current rules, reporting failures in the result
+     * instead of throwing.
+     *
+     * @param ticketCounts reusable scratch counts for the transaction
+     */
+    public TransactionBatchItemResult processItem(int index, TicketTransactionRequest request,
+                                                  TicketCounts ticketCounts) {
+        return processItem(index, request, pricingSnapshotHolder.current(), ticketCounts,
+                pricingService::calculateTransaction);
+    }
+
+    /**
+     * Validates and prices a single item, reporting failures in the result instead of throwing.
+     *
+     * @param snapshot     the rules to classify and price the item against
+     * @param ticketCounts reusable scratch counts for the transaction
+     * @param pricer       prices the tallied counts against {@code snapshot}; must not retain the counts it is given
+     */
+    private TransactionBatchItemResult processItem(int index, TicketTransactionRequest request,
+                                                   PricingSnapshot snapshot,
+                                                   TicketCounts ticketCounts,
+                                                   BiFunction<PricingSnapshot, TicketCounts, TransactionPriceResult> pricer) {
+        if (request == null) {
+            return failure(index, null, TransactionBatchItemStatus.INVALID, Map.of("transaction", "Transaction cannot be null"));
+        }
+
+        Set<ConstraintViolation<TicketTransactionRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            Map<String, String> errors = new HashMap<>();
+            for (ConstraintViolation<TicketTransactionRequest> violation : violations) {
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            return failure(index, request.getTransactionId(), TransactionBatchItemStatus.INVALID, errors);
+        }
+
+        try {
+            var response = ticketProcessingService.processTransaction(request, snapshot, ticketCounts, pricer);
+            return TransactionBatchItemResult.builder()
+                    .index(index)
+                    .transactionId(request.getTransactionId())
+                    .status(TransactionBatchItemStatus.SUCCESS)
+                    .response(response)
+                    .build();
+        } catch (InvalidTransactionException ex) {
+            return failure(index, request.getTransactionId(), TransactionBatchItemStatus.INVALID, Map.of("message", ex.getMessage()));
+        } catch (PricingRuleException | PricingException ex) {
+            pricingErrors.log("Pricing error for batch item {}: {}", index, ex.getMessage());
+            return failure(index, request.getTransactionId(), TransactionBatchItemStatus.FAILED, Map.of("message", ex.getMessage()));
+        } catch (RuntimeException ex) {
+            unexpectedErrors.log("Unexpected error for batch item", ex);
+            return failure(index, request.getTransactionId(), TransactionBatchItemStatus.FAILED,
+                    Map.of("message", "An unexpected error occurred"));
+        }
+    }
+
+    private void validateBatch(List<TicketTransactionRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidTransactionException("Batch must include at least one transaction");
+        }
+        if (requests.size() > batchProcessingProperties.getMaxSize()) {
+            throw new InvalidTransactionException("Batch cannot include more than "
+                    + batchProcessingProperties.getMaxSize() + " transactions");
+        }
+    }
+
+    public TransactionBatchItemResult failure(int index, Long transactionId, TransactionBatchItemStatus status,
+                                              Map<String, String> errors) {
+        return TransactionBatchItemResult.builder()
+                .index(index)
+                .transactionId(transactionId)
+                .status(status)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Processes the items of one batch against one pricing snapshot, which the shared quotes are only valid
+     * for. Items are tallied into one reused {@link TicketCounts}, and items with the same ticket count vector
+     * are priced only once. Not thread-safe: items must be processed one at a time.
+     */
+    public final class BatchItemProcessor {
+
+        private final PricingSnapshot snapshot;
+        private final TicketCounts ticketCounts = new TicketCounts();
+        private final Map<TicketCounts, TransactionPriceResult> quotes = new HashMap<>();
+
+        private BatchItemProcessor(PricingSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        public TransactionBatchItemResult process(int index, TicketTransactionRequest request) {
+            return processItem(index, request, snapshot, ticketCounts, this::priceOnce);
+        }
+
+        private TransactionPriceResult priceOnce(PricingSnapshot snapshot, TicketCounts counts) {
+            TransactionPriceResult quote = quotes.get(counts);
+            if (quote == null) {
+                quote = pricingService.calculateTransaction(snapshot, counts);
+                // counts is the reused scratch instance, so the key has to be a copy
+                quotes.put(counts.copy(), quote);
+            }
+            return quote;
+        }
+    }
+}
@@ -1,75 +1,216 @@
 package com.ticketing.service;
 
-import com.ticketing.common.util.TicketClassificationUtil;
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.dto.request.CountedTransactionRequest;
 import com.ticketing.dto.request.CustomerRequest;
 import com.ticketing.dto.request.TicketTransactionRequest;
 import com.ticketing.dto.response.TicketSegment;
 import com.ticketing.dto.response.TicketTransactionResponse;
 import com.ticketing.exception.InvalidTransactionException;
+import com.ticketing.ingest.TalliedTransaction;
+import com.ticketing.journal.TransactionJournal;
 import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import com.ticketing.pricing.service.AgeBandTable;
 import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 @Service
 public class TicketProcessingService {
 
+    /**
+     * Position of each ticket type, by ordinal, in the alphabetical order in which segments are returned.
+     */
+    private static final int[] SEGMENT_POSITIONS = segmentPositions();
+
     private final PricingService pricingService;
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final TransactionJournal transactionJournal;
+    private final SalesCounters salesCounters;
+    private final Timer transactionTimer;
+    private final DistributionSummary customersPerTransaction;
 
     public TicketProcessingService(
-            PricingService pricingService) {
+            PricingService pricingService,
+            PricingSnapshotHolder pricingSnapshotHolder,
+            TransactionJournal transactionJournal,
+            SalesCounters salesCounters,
+            MeterRegistry meterRegistry) {
         this.pricingService = pricingService;
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
+        this.transactionJournal = transactionJournal;
+        this.salesCounters = salesCounters;
+        this.transactionTimer = Timer.builder("ticketing.transactions")
+                .description("Time to classify and price a successful transaction")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(500))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(meterRegistry);
+        this.customersPerTransaction = DistributionSummary.builder("ticketing.transaction.customers")
+                .description("Customers in a successful transaction")
+                .baseUnit("customers")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(100_000.0)
+                .register(meterRegistry);
     }
 
     public TicketTransactionResponse processTransaction(TicketTransactionRequest request) {
-        validateRequest(request);
-
-        var ticketTransactionResponse = TicketTransactionResponse.builder()
-                .transactionId(request.getTransactionId())
-                .tickets(new ArrayList<>())
-                .build();
+        return processTransaction(request, pricingSnapshotHolder.current(), new TicketCounts(),
+                pricingService::calculateTransaction);
+    }
 
-        Map<TicketType, Integer> ticketCounts = new HashMap<>();
+    /**
+     * Processes a transaction using caller-provided scratch state.
+     *
+     * @param snapshot     the rules to classify and price against, so a concurrent reload cannot pair one
+     *                     version's age bands with another's prices
+     * @param ticketCounts scratch counts for the transaction; cleared before use so they can be reused across calls
+     * @param pricer       prices the tallied counts against {@code snapshot}; must not retain {@code ticketCounts}
+     */
+    TicketTransactionResponse processTransaction(TicketTransactionRequest request,
+                                                 PricingSnapshot snapshot,
+                                                 TicketCounts ticketCounts,
+                                                 BiFunction<PricingSnapshot, TicketCounts, TransactionPriceResult> pricer) {
+        long start = System.nanoTime();
+        validateRequest(request);
 
+        AgeBandTable ageBands = snapshot.getAgeBandTable();
+        ticketCounts.clear();
         for (CustomerRequest customer : request.getCustomers()) {
             if (customer.getAge() == null || customer.getAge() < 0) {
                 throw new InvalidTransactionException("Invalid age for customer: " + customer.getName());
             }
 
-            TicketType ticketType = TicketClassificationUtil.classifyByAge(customer.getAge());
-            ticketCounts.merge(ticketType, 1, Integer::sum);
+            ticketCounts.increment(ageBands.classify(customer.getAge()));
+        }
+
+        return complete(request.getTransactionId(), request.getCustomers().size(),
+                pricer.apply(snapshot, ticketCounts), start);
+    }
+
+    /**
+     * Prices a transaction whose customers were validated and classified while its request was parsed,
+     * against the snapshot they were classified with.
+     */
+    public TicketTransactionResponse processTalliedTransaction(TalliedTransaction transaction) {
+        long start = System.nanoTime();
+        if (transaction.getCustomerCount() == 0) {
+            throw new InvalidTransactionException("Transaction must include at least one customer");
+        }
+        return complete(transaction.getTransactionId(), transaction.getCustomerCount(),
+                pricingService.calculateTransaction(transaction.getSnapshot(), transaction.getTicketCounts()), start);
+    }
+
+    /**
+     * Prices a transaction given as a count per ticket type, or as a count of customers per age, which the
+     * pricing service classifies against the age bands in effect. No per-customer data is involved.
+     */
+    public TicketTransactionResponse processCountedTransaction(CountedTransactionRequest request) {
+        long start = System.nanoTime();
+        Map<TicketType, Integer> ticketCounts = request.getTicketCounts();
+        Map<Integer, Integer> customersByAge = request.getCustomersByAge();
+        if ((ticketCounts == null) == (customersByAge == null)) {
+            throw new InvalidTransactionException("Transaction must include exactly one of ticketCounts and customersByAge");
+        }
+
+        TransactionPriceResult transactionPrice;
+        int customerCount;
+        if (ticketCounts != null) {
+            customerCount = countCustomers(ticketCounts.values());
+            transactionPrice = pricingService.calculateTransaction(TicketCounts.of(ticketCounts));
+        } else {
+            for (Integer age : customersByAge.keySet()) {
+                if (age == null || age < 0) {
+                    throw new InvalidTransactionException("Invalid age: " + age);
+                }
+            }
+            customerCount = countCustomers(customersByAge.values());
+            transactionPrice = pricingService.calculateTransactionByAge(customersByAge);
         }
+        return complete(request.getTransactionId(), customerCount, transactionPrice, start);
+    }
 
-        BigDecimal totalCost = BigDecimal.ZERO;
-        List<TicketSegment> ticketSegments = new ArrayList<>();
+    /**
+     * Journals and records a priced transaction and builds its response.
+     */
+    private TicketTransactionResponse complete(Long transactionId, int customerCount,
+                                               TransactionPriceResult transactionPrice, long start) {
+        var ticketTransactionResponse = TicketTransactionResponse.builder()
+                .transactionId(transactionId)
+                .tickets(new ArrayList<>())
+                .build();
 
-        for (Map.Entry<TicketType, Integer> entry : ticketCounts.entrySet()) {
-            var ticketTypePrice = pricingService.calculateTicketPrice(entry.getKey(), ticketCounts);
+        transactionJournal.append(transactionId, transactionPrice);
+        salesCounters.record(transactionPrice);
+
+        // Place each segment at its precomputed alphabetical position instead of sorting
+        TicketSegment[] orderedSegments = new TicketSegment[SEGMENT_POSITIONS.length];
+        for (PriceCalculationResult ticketTypePrice : transactionPrice.getTicketPrices()) {
             var ticketSegment = TicketSegment.builder()
-                    .ticketType(entry.getKey())
-                    .quantity(entry.getValue())
-                    .totalCost(
-                            ticketTypePrice.getFinalPrice()
-                                    .multiply(
-                                            BigDecimal.valueOf(entry.getValue())
-                                    ).setScale(2, RoundingMode.HALF_UP)
-                    )
+                    .ticketType(ticketTypePrice.getTicketType())
+                    .quantity(ticketTypePrice.getQuantity())
+                    .totalCost(ticketTypePrice.getTotalCost())
                     .build();
-            ticketSegments.add(ticketSegment);
-            totalCost = totalCost.add(ticketSegment.getTotalCost());
+            orderedSegments[SEGMENT_POSITIONS[ticketTypePrice.getTicketType().ordinal()]] = ticketSegment;
         }
 
-        // Sort tickets by ticket type alphabetically
-        ticketSegments.sort(Comparator.comparing(segment -> segment.getTicketType().name()));
+        List<TicketSegment> ticketSegments = new ArrayList<>(transactionPrice.getTicketPrices().size());
+        for (TicketSegment ticketSegment : orderedSegments) {
+            if (ticketSegment != null) {
+                ticketSegments.add(ticketSegment);
+            }
+        }
         ticketTransactionResponse.setTickets(ticketSegments);
-        ticketTransactionResponse.setTotalCost(totalCost);
+        ticketTransactionResponse.setTotalCost(transactionPrice.getTotalCost());
 
+        transactionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        customersPerTransaction.record(customerCount);
         return ticketTransactionResponse;
     }
 
+    private static int[] segmentPositions() {
+        TicketType[] alphabetical = TicketType.values();
+        Arrays.sort(alphabetical, Comparator.comparing(TicketType::name));
+        int[] positions = new int[alphabetical.length];
+        for (int position = 0; position < alphabetical.length; position++) {
+            positions[alphabetical[position].ordinal()] = position;
+        }
+        return positions;
+    }
+
+    /**
+     * Sums the counts of a counted transaction, which must be non-negative, add up to at least one
+     * customer and fit in an {@code int}.
+     */
+    private static int countCustomers(Collection<Integer> counts) {
+        int customerCount = 0;
+        for (Integer count : counts) {
+            if (count == null || count < 0) {
+                throw new InvalidTransactionException("Invalid customer count: " + count);
+            }
+            if (count > Integer.MAX_VALUE - customerCount) {
+                throw new InvalidTransactionException("Transaction has too many customers");
+            }
+            customerCount += count;
+        }
+        if (customerCount == 0) {
+            throw new InvalidTransactionException("Transaction must include at least one customer");
+        }
+        return customerCount;
+    }
+
     private void validateRequest(TicketTransactionRequest request) {
         if (request.getCustomers() == null || request.getCustomers().isEmpty()) {
             throw new InvalidTransactionException("Transaction must include at least one customer");
@@ -0,0 +1,188 @@
+package com.ticketing.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.config.StreamProcessingProperties;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TransactionBatchItemResult;
+import com.ticketing.dto.response.TransactionBatchItemStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Prices newline-delimited JSON transactions as they are read.
+ * <p>
+ * Each input line holds one {@link TicketTransactionRequest}, and each output line holds the matching
+ * {@link TransactionBatchItemResult}, in input order. Only one line is held in memory at a time and
+ * processing is fully blocking, so a client that stops reading results also stops its input from being
+ * consumed. Output is flushed whenever no further input is buffered, which keeps latency low for
+ * interactive clients without flushing after every line for bulk uploads.
+ */
+@Slf4j
+@Service
+public class TicketStreamProcessingService {
+
+    private static final int NEWLINE = '\n';
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final TicketBatchProcessingService ticketBatchProcessingService;
+    private final StreamProcessingProperties streamProcessingProperties;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+
+    public TicketStreamProcessingService(TicketBatchProcessingService ticketBatchProcessingService,
+                                         StreamProcessingProperties streamProcessingProperties,
+                                         ObjectMapper objectMapper) {
+        this.ticketBatchProcessingService = ticketBatchProcessingService;
+        this.streamProcessingProperties = streamProcessingProperties;
+        this.requestReader = objectMapper.readerFor(TicketTransactionRequest.class);
+        // Flushing is driven by processStream, not by every written value
+        this.resultWriter = objectMapper.writerFor(TransactionBatchItemResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    /**
+     * Reads transactions from {@code input} until end of stream, writing one result line per non-blank input line.
+     *
+     * @return the number of transactions processed
+     */
+    public long processStream(InputStream input, OutputStream output) throws IOException {
+        LineReader reader = new LineReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        TicketCounts ticketCounts = new TicketCounts();
+        StringBuilder line = new StringBuilder();
+        int index = 0;
+
+        while (true) {
+            if (!reader.ready()) {
+                // About to block on the client, so hand over everything priced so far
+                output.flush();
+            }
+            LineStatus status = reader.readLine(line, streamProcessingProperties.getMaxLineLength());
+            if (status == LineStatus.END_OF_STREAM && line.isEmpty()) {
+                break;
+            }
+            if (status != LineStatus.TOO_LONG && isBlank(line)) {
+                continue;
+            }
+
+            TransactionBatchItemResult result = status == LineStatus.TOO_LONG
+                    ? invalid(index, "Line exceeds maximum length of " + streamProcessingProperties.getMaxLineLength() + " characters")
+                    : processLine(index, line, ticketCounts);
+            resultWriter.writeValue(output, result);
+            output.write(NEWLINE);
+            index++;
+
+            if (status == LineStatus.END_OF_STREAM) {
+                break;
+            }
+        }
+
+        output.flush();
+        log.info("Processed transaction stream with {} transactions", index);
+        return index;
+    }
+
+    private TransactionBatchItemResult processLine(int index, CharSequence line, TicketCounts ticketCounts) {
+        TicketTransactionRequest request;
+        try {
+            request = requestReader.readValue(line.toString());
+        } catch (JsonProcessingException ex) {
+            return invalid(index, TicketBatchProcessingService.UNREADABLE_ITEM);
+        }
+        return ticketBatchProcessingService.processItem(index, request, ticketCounts);
+    }
+
+    private TransactionBatchItemResult invalid(int index, String message) {
+        return ticketBatchProcessingService.failure(index, null, TransactionBatchItemStatus.INVALID, Map.of("message", message));
+    }
+
+    private static boolean isBlank(CharSequence line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits a character stream into lines, scanning a buffer filled in bulk rather than reading one
+     * character at a time.
+     */
+    private static final class LineReader {
+
+        private final Reader in;
+        private final char[] buffer = new char[READ_BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+        private LineReader(Reader in) {
+            this.in = in;
+        }
+
+        /**
+         * Whether more input can be read without blocking.
+         */
+        private boolean ready() throws IOException {
+            return position < limit || in.ready();
+        }
+
+        /**
+         * Reads one line into {@code line} without the terminator. Lines longer than {@code maxLineLength}
+         * are skipped to their end and reported as {@link LineStatus#TOO_LONG}, so a single oversized line
+         * cannot exhaust memory.
+         */
+        private LineStatus readLine(StringBuilder line, int maxLineLength) throws IOException {
+            line.setLength(0);
+            boolean tooLong = false;
+            while (true) {
+                if (position == limit) {
+                    int read = in.read(buffer);
+                    if (read == -1) {
+                        return tooLong ? LineStatus.TOO_LONG : LineStatus.END_OF_STREAM;
+                    }
+                    position = 0;
+                    limit = read;
+                }
+                int end = position;
+                while (end < limit && buffer[end] != NEWLINE) {
+                    end++;
+                }
+                if (!tooLong) {
+                    if (line.length() + end - position > maxLineLength) {
+                        tooLong = true;
+                        line.setLength(0);
+                    } else {
+                        line.append(buffer, position, end - position);
+                    }
+                }
+                if (end < limit) {
+                    position = end + 1;
+                    return tooLong ? LineStatus.TOO_LONG : LineStatus.COMPLETE;
+                }
+                position = limit;
+            }
+        }
+    }
+
+    private enum LineStatus {
+        COMPLETE,
+        TOO_LONG,
+        END_OF_STREAM
+    }
+}
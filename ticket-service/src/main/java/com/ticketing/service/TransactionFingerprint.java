@@ -0,0 +1,175 @@
+package com.ticketing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.dto.request.CountedTransactionRequest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * SHA-256 digest of a transaction's customers, in order, standing in for the payload when retries are
+ * compared.
+ * <p>
+ * Two payloads have the same fingerprint exactly when their customer lists are equal, however the JSON was
+ * laid out; customer payloads are only ever fingerprinted through {@link #builder()} while the request body
+ * is streamed. Keeping 32 bytes per remembered transaction instead of its customer list keeps the
+ * idempotency cache small for large bookings.
+ * <p>
+ * Counted transactions are digested as their non-zero counts in a fixed order, each entry tagged so that
+ * it can never be mistaken for a customer, so a counted payload never matches a customer list.
+ */
+public final class TransactionFingerprint {
+
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+    private static final byte TICKET_COUNT = 2;
+    private static final byte AGE_COUNT = 3;
+
+    private final byte[] digest;
+
+    private TransactionFingerprint(byte[] digest) {
+        this.digest = digest;
+    }
+
+    public static TransactionFingerprint of(CountedTransactionRequest request) {
+        Builder builder = builder();
+        Map<TicketType, Integer> ticketCounts = request.getTicketCounts();
+        if (ticketCounts != null) {
+            for (TicketType ticketType : TicketType.values()) {
+                Integer count = ticketCounts.get(ticketType);
+                if (count != null && count != 0) {
+                    builder.addTicketCount(ticketType, count);
+                }
+            }
+        }
+        Map<Integer, Integer> customersByAge = request.getCustomersByAge();
+        if (customersByAge != null) {
+            new TreeMap<>(customersByAge).forEach((age, count) -> {
+                if (count != null && count != 0) {
+                    builder.addAgeCount(age, count);
+                }
+            });
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof TransactionFingerprint other && Arrays.equals(digest, other.digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(digest);
+    }
+
+    /**
+     * Accumulates customers one at a time. Names are hashed as UTF-16 code units through a small scratch
+     * buffer, so adding a customer allocates nothing.
+     */
+    public static final class Builder {
+
+        private final MessageDigest sha256;
+        private final byte[] scratch = new byte[256];
+        private int position;
+
+        private Builder() {
+            try {
+                this.sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 is not available", ex);
+            }
+        }
+
+        public Builder addCustomer(CharSequence name, Integer age) {
+            if (name == null) {
+                putByte(ABSENT);
+            } else {
+                putByte(PRESENT);
+                putInt(name.length());
+                for (int i = 0; i < name.length(); i++) {
+                    putChar(name.charAt(i));
+                }
+            }
+            putAge(age);
+            return this;
+        }
+
+        /**
+         * Adds a customer whose name is {@code nameLength} characters of {@code name} from {@code nameOffset},
+         * or absent when {@code name} is null.
+         */
+        public Builder addCustomer(char[] name, int nameOffset, int nameLength, Integer age) {
+            if (name == null) {
+                putByte(ABSENT);
+            } else {
+                putByte(PRESENT);
+                putInt(nameLength);
+                for (int i = nameOffset; i < nameOffset + nameLength; i++) {
+                    putChar(name[i]);
+                }
+            }
+            putAge(age);
+            return this;
+        }
+
+        public Builder addTicketCount(TicketType ticketType, int count) {
+            putByte(TICKET_COUNT);
+            putInt(ticketType.ordinal());
+            putInt(count);
+            return this;
+        }
+
+        public Builder addAgeCount(int age, int count) {
+            putByte(AGE_COUNT);
+            putInt(age);
+            putInt(count);
+            return this;
+        }
+
+        public TransactionFingerprint build() {
+            flush();
+            return new TransactionFingerprint(sha256.digest());
+        }
+
+        private void putAge(Integer age) {
+            if (age == null) {
+                putByte(ABSENT);
+            } else {
+                putByte(PRESENT);
+                putInt(age);
+            }
+        }
+
+        private void putByte(byte value) {
+            if (position == scratch.length) {
+                flush();
+            }
+            scratch[position++] = value;
+        }
+
+        private void putChar(char value) {
+            putByte((byte) (value >>> 8));
+            putByte((byte) value);
+        }
+
+        private void putInt(int value) {
+            putByte((byte) (value >>> 24));
+            putByte((byte) (value >>> 16));
+            putByte((byte) (value >>> 8));
+            putByte((byte) value);
+        }
+
+        private void flush() {
+            sha256.update(scratch, 0, position);
+            position = 0;
+        }
+    }
+}
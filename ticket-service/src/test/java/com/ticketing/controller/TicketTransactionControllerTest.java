@@ -2,12 +2,27 @@ package com.ticketing.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ticketing.common.model.TicketType;
+import com.ticketing.config.BatchProcessingProperties;
+import com.ticketing.config.ErrorLogProperties;
+import com.ticketing.dto.request.CountedTransactionRequest;
 import com.ticketing.dto.request.CustomerRequest;
 import com.ticketing.dto.request.TicketTransactionRequest;
 import com.ticketing.dto.response.TicketSegment;
+import com.ticketing.dto.response.TicketTransactionBatchResponse;
+import com.ticketing.dto.response.TransactionBatchItemResult;
+import com.ticketing.dto.response.TransactionBatchItemStatus;
 import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.exception.DuplicateTransactionException;
 import com.ticketing.exception.handler.ApplicationExceptionHandler;
-import com.ticketing.service.TicketProcessingService;
+import com.ticketing.ingest.TalliedTransaction;
+import com.ticketing.ingest.TalliedTransactionHttpMessageConverter;
+import com.ticketing.ingest.TransactionBatch;
+import com.ticketing.ingest.TransactionBatchHttpMessageConverter;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import com.ticketing.service.IdempotentTransactionService;
+import com.ticketing.service.TicketBatchProcessingService;
+import com.ticketing.service.TicketStreamProcessingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,12 +30,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -33,7 +50,13 @@ class TicketTransactionControllerTest {
     private MockMvc mockMvc;
 
     @Mock
-    private TicketProcessingService ticketProcessingService;
+    private IdempotentTransactionService idempotentTransactionService;
+
+    @Mock
+    private TicketBatchProcessingService ticketBatchProcessingService;
+
+    @Mock
+    private TicketStreamProcessingService ticketStreamProcessingService;
 
     @InjectMocks
     private TicketTransactionController ticketTransactionController;
@@ -46,7 +69,12 @@ class TicketTransactionControllerTest {
         objectMapper.findAndRegisterModules();
 
         mockMvc = MockMvcBuilders.standaloneSetup(ticketTransactionController)
-                .setControllerAdvice(new ApplicationExceptionHandler())
+                .setMessageConverters(
+                        new TalliedTransactionHttpMessageConverter(
+                                new PricingSnapshotHolder(new PricingConfiguration()), objectMapper),
+                        new TransactionBatchHttpMessageConverter(new BatchProcessingProperties(), objectMapper),
+                        new MappingJackson2HttpMessageConverter(objectMapper))
+                .setControllerAdvice(new ApplicationExceptionHandler(new ErrorLogProperties()))
                 .build();
     }
 
@@ -69,7 +97,7 @@ class TicketTransactionControllerTest {
                 .tickets(new ArrayList<>())
                 .build();
 
-        when(ticketProcessingService.processTransaction(any(TicketTransactionRequest.class)))
+        when(idempotentTransactionService.processTalliedTransaction(any(TalliedTransaction.class)))
                 .thenReturn(response);
 
         // When & Then
@@ -80,7 +108,7 @@ class TicketTransactionControllerTest {
                 .andExpect(jsonPath("$.transactionId").value(1234L))
                 .andExpect(jsonPath("$.totalCost").value(25.00));
 
-        verify(ticketProcessingService).processTransaction(any(TicketTransactionRequest.class));
+        verify(idempotentTransactionService).processTalliedTransaction(any(TalliedTransaction.class));
     }
 
     @Test
@@ -94,9 +122,72 @@ class TicketTransactionControllerTest {
         mockMvc.perform(post("/api/v1/tickets/transactions")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.transactionId").value("Transaction ID cannot be null"))
+                .andExpect(jsonPath("$.errors.customers").value("Customer list cannot be empty"));
+
+        verify(idempotentTransactionService, never()).processTalliedTransaction(any());
+    }
+
+    @Test
+    void processCountedTransaction_withTicketCounts_shouldReturnOk() throws Exception {
+        // Given
+        CountedTransactionRequest request = CountedTransactionRequest.builder()
+                .transactionId(1234L)
+                .ticketCounts(Map.of(TicketType.ADULT, 3, TicketType.CHILD, 2))
+                .build();
+
+        TicketTransactionResponse response = TicketTransactionResponse.builder()
+                .transactionId(1234L)
+                .totalCost(new BigDecimal("85.00"))
+                .tickets(new ArrayList<>())
+                .build();
 
-        verify(ticketProcessingService, never()).processTransaction(any());
+        when(idempotentTransactionService.processCountedTransaction(request)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tickets/transactions/counts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactionId").value(1234L))
+                .andExpect(jsonPath("$.totalCost").value(85.00));
+    }
+
+    @Test
+    void processCountedTransaction_withNegativeCount_shouldReturnBadRequest() throws Exception {
+        // Given
+        String request = """
+                {"transactionId": 1234, "customersByAge": {"35": -2}}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tickets/transactions/counts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"))
+                .andExpect(jsonPath("$.errors['customersByAge[35]']").value("Count cannot be negative"));
+
+        verify(idempotentTransactionService, never()).processCountedTransaction(any());
+    }
+
+    @Test
+    void processTicket_withReusedTransactionId_shouldReturnConflict() throws Exception {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(CustomerRequest.builder().name("John Doe").age(25).build()))
+                .transactionId(1234L)
+                .build();
+        when(idempotentTransactionService.processTalliedTransaction(any(TalliedTransaction.class)))
+                .thenThrow(new DuplicateTransactionException("Transaction 1234 was already submitted with a different payload"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Transaction 1234 was already submitted with a different payload"));
     }
 
     @Test
@@ -116,7 +207,20 @@ class TicketTransactionControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.error").value("Validation Failed"));
+                .andExpect(jsonPath("$.error").value("Validation Failed"))
+                .andExpect(jsonPath("$.errors['customers[0].name']").value("Name cannot be blank"));
+    }
+
+    @Test
+    void processTicket_withMalformedBody_shouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transactionId\": 1234, \"customers\": [{\"name\": \"John Doe\", \"age\": tw"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Input request validation Failed"));
+
+        verify(idempotentTransactionService, never()).processTalliedTransaction(any());
     }
 
     @Test
@@ -176,7 +280,7 @@ class TicketTransactionControllerTest {
                         TicketSegment.builder().ticketType(TicketType.CHILD).totalCost(new BigDecimal("10.00")).quantity(1).build()))
                 .build();
 
-        when(ticketProcessingService.processTransaction(any(TicketTransactionRequest.class)))
+        when(idempotentTransactionService.processTalliedTransaction(any(TalliedTransaction.class)))
                 .thenReturn(response);
 
         // When & Then
@@ -192,4 +296,57 @@ class TicketTransactionControllerTest {
                 .andExpect(jsonPath("$.tickets[?(@.ticketType=='CHILD')].totalCost").value(10.00));
 
     }
+
+    @Test
+    void processTicketBatch_withMixedItems_shouldReturnPerItemResults() throws Exception {
+        // Given
+        List<TicketTransactionRequest> requests = List.of(
+                TicketTransactionRequest.builder()
+                        .transactionId(1L)
+                        .customers(List.of(CustomerRequest.builder().name("John Doe").age(25).build()))
+                        .build(),
+                TicketTransactionRequest.builder()
+                        .transactionId(2L)
+                        .customers(List.of(CustomerRequest.builder().name("").age(25).build()))
+                        .build()
+        );
+
+        TicketTransactionBatchResponse response = TicketTransactionBatchResponse.builder()
+                .succeeded(1)
+                .failed(1)
+                .results(List.of(
+                        TransactionBatchItemResult.builder()
+                                .index(0)
+                                .transactionId(1L)
+                                .status(TransactionBatchItemStatus.SUCCESS)
+                                .response(TicketTransactionResponse.builder()
+                                        .transactionId(1L)
+                                        .totalCost(new BigDecimal("25.00"))
+                                        .tickets(new ArrayList<>())
+                                        .build())
+                                .build(),
+                        TransactionBatchItemResult.builder()
+                                .index(1)
+                                .transactionId(2L)
+                                .status(TransactionBatchItemStatus.INVALID)
+                                .errors(Map.of("customers[0].name", "Name cannot be blank"))
+                                .build()))
+                .build();
+
+        when(ticketBatchProcessingService.processBatch(any(TransactionBatch.class))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tickets/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("SUCCESS"))
+                .andExpect(jsonPath("$.results[0].response.totalCost").value(25.00))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors['customers[0].name']").value("Name cannot be blank"));
+
+        verify(idempotentTransactionService, never()).processTalliedTransaction(any());
+    }
 }
@@ -1,9 +1,14 @@
 package com.ticketing.exception.handler;
 
+import com.ticketing.config.ErrorLogProperties;
+import com.ticketing.dto.response.ErrorResponse;
 import com.ticketing.exception.InvalidTransactionException;
 import com.ticketing.exception.PricingException;
+import com.ticketing.exception.ServiceOverloadedException;
+import com.ticketing.exception.TransactionValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -13,6 +18,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -26,7 +32,7 @@ class ApplicationExceptionHandlerTest {
 
     @BeforeEach
     void setUp() {
-        exceptionHandler = new ApplicationExceptionHandler();
+        exceptionHandler = new ApplicationExceptionHandler(new ErrorLogProperties());
     }
 
     @Test
@@ -36,14 +42,31 @@ class ApplicationExceptionHandlerTest {
                 new InvalidTransactionException("Invalid transaction data");
 
         // When
-        ResponseEntity<Map<String, Object>> response =
+        ResponseEntity<ErrorResponse> response =
                 exceptionHandler.handleInvalidTransaction(exception);
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("Invalid transaction data", response.getBody().get("message"));
-        assertEquals(400, response.getBody().get("status"));
+        assertEquals("Invalid transaction data", response.getBody().getMessage());
+        assertEquals(400, response.getBody().getStatus());
+    }
+
+    @Test
+    void handleServiceOverloaded_shouldReturnServiceUnavailableWithRetryAfter() {
+        // Given
+        ServiceOverloadedException exception =
+                new ServiceOverloadedException("Service is at capacity, retry later", Duration.ofMillis(1500));
+
+        // When
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleServiceOverloaded(exception);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals(503, response.getBody().getStatus());
     }
 
     @Test
@@ -53,14 +76,14 @@ class ApplicationExceptionHandlerTest {
                 new HttpMessageNotReadableException("Input request validation Failed", new MockHttpInputMessage("".getBytes(StandardCharsets.UTF_8)));
 
         // When
-        ResponseEntity<Map<String, Object>> response =
+        ResponseEntity<ErrorResponse> response =
                 exceptionHandler.handleHttpMessageNotReadableException(exception);
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals( "Input request validation Failed", response.getBody().get("message"));
-        assertEquals(400, response.getBody().get("status"));
+        assertEquals( "Input request validation Failed", response.getBody().getMessage());
+        assertEquals(400, response.getBody().getStatus());
     }
 
 
@@ -70,14 +93,14 @@ class ApplicationExceptionHandlerTest {
         PricingException exception = new PricingException("Pricing calculation failed");
 
         // When
-        ResponseEntity<Map<String, Object>> response =
+        ResponseEntity<ErrorResponse> response =
                 exceptionHandler.handlePricingException(exception);
 
         // Then
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("Pricing calculation failed", response.getBody().get("message"));
-        assertEquals(500, response.getBody().get("status"));
+        assertEquals("Pricing calculation failed", response.getBody().getMessage());
+        assertEquals(500, response.getBody().getStatus());
     }
 
     @Test
@@ -92,33 +115,58 @@ class ApplicationExceptionHandlerTest {
                 new MethodArgumentNotValidException(null, bindingResult);
 
         // When
-        ResponseEntity<Map<String, Object>> response =
+        ResponseEntity<ErrorResponse> response =
                 exceptionHandler.handleValidationExceptions(exception);
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("Validation Failed", response.getBody().get("error"));
+        assertEquals("Validation Failed", response.getBody().getError());
 
-        @SuppressWarnings("unchecked")
-        Map<String, String> errors = (Map<String, String>) response.getBody().get("errors");
+        Map<String, String> errors = response.getBody().getErrors();
         assertNotNull(errors);
         assertEquals("Field is required", errors.get("fieldName"));
     }
 
+    @Test
+    void handleTransactionValidation_shouldReturnBadRequestWithErrors() {
+        // Given
+        TransactionValidationException exception =
+                new TransactionValidationException(Map.of("customers[0].age", "Age cannot be negative"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleTransactionValidation(exception);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Validation Failed", response.getBody().getError());
+        assertEquals(Map.of("customers[0].age", "Age cannot be negative"), response.getBody().getErrors());
+        assertNull(response.getBody().getMessage());
+    }
+
+    @Test
+    void domainExceptions_shouldNotCaptureStackTraces() {
+        // When & Then
+        assertEquals(0, new InvalidTransactionException("Invalid age for customer: Nobody").getStackTrace().length);
+        assertEquals(0, new TransactionValidationException(Map.of()).getStackTrace().length);
+        assertEquals(0, new ServiceOverloadedException("Service is at capacity", Duration.ofSeconds(1)).getStackTrace().length);
+    }
+
     @Test
     void handleGenericException_shouldReturnInternalServerError() {
         // Given
         Exception exception = new RuntimeException("Unexpected error");
 
         // When
-        ResponseEntity<Map<String, Object>> response =
+        ResponseEntity<ErrorResponse> response =
                 exceptionHandler.handleGenericException(exception);
 
         // Then
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("An unexpected error occurred", response.getBody().get("message"));
-        assertNotNull(response.getBody().get("timestamp"));
+        assertEquals("An unexpected error occurred", response.getBody().getMessage());
+        assertNotNull(response.getBody().getTimestamp());
+        assertEquals(0, response.getBody().getTimestamp().getNano() % 1_000_000);
     }
 }
@@ -0,0 +1,114 @@
+package com.ticketing.exception.handler;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitedLogTest {
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(RateLimitedLogTest.class);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+        logger.setAdditive(true);
+    }
+
+    @Test
+    void log_withinLimit_shouldLogEveryLine() {
+        // Given
+        RateLimitedLog log = new RateLimitedLog(logger, Level.WARN, 3, Duration.ofHours(1));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            log.log("Invalid transaction: {}", i);
+        }
+
+        // Then
+        assertEquals(3, appender.list.size());
+        assertEquals("Invalid transaction: 2", appender.list.get(2).getFormattedMessage());
+        assertEquals(ch.qos.logback.classic.Level.WARN, appender.list.get(2).getLevel());
+        assertEquals(0, log.getSuppressed());
+    }
+
+    @Test
+    void log_overLimit_shouldSuppressExtraLines() {
+        // Given
+        RateLimitedLog log = new RateLimitedLog(logger, Level.WARN, 2, Duration.ofHours(1));
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            log.log("Invalid transaction: {}", i);
+        }
+
+        // Then
+        assertEquals(2, appender.list.size());
+        assertEquals(998, log.getSuppressed());
+    }
+
+    @Test
+    void log_inNextInterval_shouldReportSuppressedCount() throws InterruptedException {
+        // Given
+        RateLimitedLog log = new RateLimitedLog(logger, Level.ERROR, 1, Duration.ofMillis(500));
+        log.log("Pricing error: {}", "first");
+        log.log("Pricing error: {}", "second");
+        log.log("Pricing error: {}", "third");
+
+        // When
+        Thread.sleep(600);
+        log.log("Pricing error: {}", "fourth");
+
+        // Then
+        assertEquals(2, appender.list.size());
+        assertEquals("Pricing error: fourth (2 similar suppressed)", appender.list.get(1).getFormattedMessage());
+        assertEquals(0, log.getSuppressed());
+    }
+
+    @Test
+    void log_withCause_shouldAttachThrowable() {
+        // Given
+        RateLimitedLog log = new RateLimitedLog(logger, Level.ERROR, 1, Duration.ofHours(1));
+
+        // When
+        log.log("Unexpected error", new IllegalStateException("boom"));
+
+        // Then
+        assertEquals(1, appender.list.size());
+        assertEquals("boom", appender.list.getFirst().getThrowableProxy().getMessage());
+    }
+
+    @Test
+    void log_withLevelDisabled_shouldNotCountSuppressed() {
+        // Given
+        RateLimitedLog log = new RateLimitedLog(logger, Level.DEBUG, 1, Duration.ofHours(1));
+
+        // When
+        log.log("Request shed: {}", "first");
+        log.log("Request shed: {}", "second");
+
+        // Then
+        assertTrue(appender.list.isEmpty());
+        assertEquals(0, log.getSuppressed());
+    }
+}
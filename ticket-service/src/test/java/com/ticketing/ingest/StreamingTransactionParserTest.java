@@ -0,0 +1,255 @@
+package com.ticketing.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.dto.request.CustomerRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.exception.TransactionValidationException;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import com.ticketing.service.TransactionFingerprint;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingTransactionParserTest {
+
+    private static final PricingSnapshot SNAPSHOT = new PricingSnapshotHolder(new PricingConfiguration()).current();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void parse_withValidRequest_shouldTallyCustomersByTicketType() throws IOException {
+        // Given
+        TicketTransactionRequest request = request(42L,
+                customer("Adult", 30), customer("Child", 8), customer("Other Adult", 45));
+
+        // When
+        TalliedTransaction transaction = parse(objectMapper.writeValueAsString(request));
+
+        // Then
+        assertEquals(42L, transaction.getTransactionId());
+        assertEquals(3, transaction.getCustomerCount());
+        assertEquals(TicketCounts.of(Map.of(TicketType.ADULT, 2, TicketType.CHILD, 1)), transaction.getTicketCounts());
+        assertEquals(fingerprint(request.getCustomers()), transaction.getFingerprint());
+        assertSame(SNAPSHOT, transaction.getSnapshot());
+    }
+
+    @Test
+    void parse_withReorderedAndUnknownFields_shouldMatchBoundRequest() throws IOException {
+        // Given
+        String json = """
+                {"channel": {"name": "kiosk", "tags": [1, 2]},
+                 "customers": [{"age": 30, "loyalty": null, "name": "Adult"}, {"name": "Child", "age": 8}],
+                 "transactionId": 42}
+                """;
+
+        // When
+        TalliedTransaction transaction = parse(json);
+
+        // Then
+        assertEquals(objectMapper.readValue(json, TicketTransactionRequest.class),
+                request(42L, customer("Adult", 30), customer("Child", 8)));
+        assertEquals(fingerprint(List.of(customer("Adult", 30), customer("Child", 8))), transaction.getFingerprint());
+    }
+
+    @Test
+    void parse_withDifferentCustomers_shouldHaveDifferentFingerprint() throws IOException {
+        // When
+        TalliedTransaction first = parse(objectMapper.writeValueAsString(request(42L, customer("Adult", 30))));
+        TalliedTransaction second = parse(objectMapper.writeValueAsString(request(42L, customer("Adult", 31))));
+
+        // Then
+        assertEquals(first.getTicketCounts(), second.getTicketCounts());
+        assertNotEquals(first.getFingerprint(), second.getFingerprint());
+    }
+
+    @Test
+    void parse_withInvalidRequest_shouldReportSameViolationsAsBeanValidation() throws IOException {
+        // Given
+        TicketTransactionRequest request = request(0L,
+                customer("Adult", 30), customer(" \t", 8), customer(null, null), customer("Nobody", -1));
+
+        // When
+        TransactionValidationException ex = assertThrows(TransactionValidationException.class,
+                () -> parse(objectMapper.writeValueAsString(request)));
+
+        // Then
+        assertEquals(beanViolations(request), ex.getErrors());
+        assertEquals("Name cannot be blank", ex.getErrors().get("customers[1].name"));
+        assertEquals("Age cannot be negative", ex.getErrors().get("customers[3].age"));
+    }
+
+    @Test
+    void parse_withMissingFields_shouldReportSameViolationsAsBeanValidation() throws IOException {
+        // Given
+        TicketTransactionRequest request = request(null);
+
+        // When
+        TransactionValidationException ex = assertThrows(TransactionValidationException.class,
+                () -> parse("{\"customers\": []}"));
+
+        // Then
+        assertEquals(beanViolations(request), ex.getErrors());
+        assertEquals(Map.of("transactionId", "Transaction ID cannot be null",
+                "customers", "Customer list cannot be empty"), ex.getErrors());
+    }
+
+    @Test
+    void parse_withNullCustomer_shouldReportViolation() {
+        // When
+        TransactionValidationException ex = assertThrows(TransactionValidationException.class,
+                () -> parse("{\"transactionId\": 42, \"customers\": [{\"name\": \"Adult\", \"age\": 30}, null]}"));
+
+        // Then
+        assertEquals(Map.of("customers[1]", "Customer cannot be null"), ex.getErrors());
+    }
+
+    @Test
+    void parse_withRepeatedCustomers_shouldKeepLastList() throws IOException {
+        // When
+        TalliedTransaction transaction = parse("""
+                {"transactionId": 42,
+                 "customers": [{"name": "", "age": 30}, {"name": "Adult", "age": 40}],
+                 "customers": [{"name": "Child", "age": 8}]}
+                """);
+
+        // Then
+        assertEquals(1, transaction.getCustomerCount());
+        assertEquals(TicketCounts.of(Map.of(TicketType.CHILD, 1)), transaction.getTicketCounts());
+        assertEquals(fingerprint(List.of(customer("Child", 8))), transaction.getFingerprint());
+    }
+
+    @Test
+    void parse_withCoercibleScalars_shouldBindLikeJackson() throws IOException {
+        // Given
+        String json = """
+                {"transactionId": "42", "customers": [{"name": 7, "age": "30"}, {"name": "Child", "age": 8.9}]}
+                """;
+
+        // When
+        TalliedTransaction transaction = parse(json);
+
+        // Then
+        assertEquals(42L, transaction.getTransactionId());
+        assertEquals(TicketCounts.of(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 1)), transaction.getTicketCounts());
+        assertEquals(fingerprint(objectMapper.readValue(json, TicketTransactionRequest.class).getCustomers()),
+                transaction.getFingerprint());
+    }
+
+    @Test
+    void parse_withEmptyAgeString_shouldReportMissingAge() {
+        // When
+        TransactionValidationException ex = assertThrows(TransactionValidationException.class,
+                () -> parse("{\"transactionId\": 42, \"customers\": [{\"name\": \"Adult\", \"age\": \"\"}]}"));
+
+        // Then
+        assertEquals(Map.of("customers[0].age", "Age cannot be empty"), ex.getErrors());
+    }
+
+    @Test
+    void parse_withUnbindableValues_shouldThrowException() {
+        // When & Then
+        assertThrows(JsonProcessingException.class,
+                () -> parse("{\"transactionId\": 42, \"customers\": [{\"name\": \"Adult\", \"age\": true}]}"));
+        assertThrows(JsonProcessingException.class,
+                () -> parse("{\"transactionId\": 42, \"customers\": [{\"name\": \"Adult\", \"age\": \"thirty\"}]}"));
+        assertThrows(JsonProcessingException.class,
+                () -> parse("{\"transactionId\": 42, \"customers\": [{\"name\": \"Adult\", \"age\": 3000000000}]}"));
+        assertThrows(JsonProcessingException.class,
+                () -> parse("{\"transactionId\": 42, \"customers\": [{\"name\": {\"first\": \"A\"}, \"age\": 30}]}"));
+        assertThrows(JsonProcessingException.class,
+                () -> parse("{\"transactionId\": 42, \"customers\": {\"name\": \"Adult\", \"age\": 30}}"));
+        assertThrows(JsonProcessingException.class, () -> parse("[42]"));
+    }
+
+    @Test
+    void parse_withTruncatedBody_shouldThrowException() {
+        // When & Then
+        assertThrows(JsonProcessingException.class,
+                () -> parse("{\"transactionId\": 42, \"customers\": [{\"name\": \"Adult\", \"age\": 30}"));
+    }
+
+    @Test
+    void parse_withCborBody_shouldTallyCustomers() throws IOException {
+        // Given
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        TicketTransactionRequest request = request(42L, customer("Adult", 30), customer("Senior", 70));
+
+        // When
+        TalliedTransaction transaction;
+        try (JsonParser parser = cborMapper.getFactory().createParser(cborMapper.writeValueAsBytes(request))) {
+            transaction = StreamingTransactionParser.parse(parser, SNAPSHOT);
+        }
+
+        // Then
+        assertEquals(TicketCounts.of(Map.of(TicketType.ADULT, 1, TicketType.SENIOR, 1)), transaction.getTicketCounts());
+        assertEquals(fingerprint(request.getCustomers()), transaction.getFingerprint());
+    }
+
+    private TalliedTransaction parse(String json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return StreamingTransactionParser.parse(parser, SNAPSHOT);
+        }
+    }
+
+    private Map<String, String> beanViolations(TicketTransactionRequest request) {
+        Map<String, String> violations = new HashMap<>();
+        for (ConstraintViolation<TicketTransactionRequest> violation : validator.validate(request)) {
+            violations.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return violations;
+    }
+
+    private TransactionFingerprint fingerprint(List<CustomerRequest> customers) {
+        TransactionFingerprint.Builder builder = TransactionFingerprint.builder();
+        for (CustomerRequest customer : customers) {
+            builder.addCustomer(customer.getName(), customer.getAge());
+        }
+        return builder.build();
+    }
+
+    private TicketTransactionRequest request(Long transactionId, CustomerRequest... customers) {
+        return TicketTransactionRequest.builder()
+                .transactionId(transactionId)
+                .customers(new ArrayList<>(List.of(customers)))
+                .build();
+    }
+
+    private CustomerRequest customer(String name, Integer age) {
+        return CustomerRequest.builder().name(name).age(age).build();
+    }
+}
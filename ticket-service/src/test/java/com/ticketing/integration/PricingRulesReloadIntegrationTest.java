@@ -0,0 +1,66 @@
+package com.ticketing.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.dto.request.CustomerRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "pricing.reload.location=classpath:pricing-rules-reload.yml")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+class PricingRulesReloadIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void reloadPricingRules_shouldPriceLaterTransactionsWithNewRules() throws Exception {
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(CustomerRequest.builder().name("Adult Customer").age(35).build()))
+                .transactionId(61L)
+                .build();
+
+        mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCost").value(25.00));
+
+        mockMvc.perform(post("/actuator/pricingrules"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pricingRules").value(4))
+                .andExpect(jsonPath("$.activeDiscountRules").value(1));
+
+        // A new transaction; resubmitting 61 would replay its original quote
+        request.setTransactionId(62L);
+        mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCost").value(30.00));
+    }
+
+    @Test
+    void getPricingRules_shouldDescribeCurrentSnapshot() throws Exception {
+        mockMvc.perform(get("/actuator/pricingrules"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").isNumber())
+                .andExpect(jsonPath("$.discountRules").isNumber());
+    }
+}
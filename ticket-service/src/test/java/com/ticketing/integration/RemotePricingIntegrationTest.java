@@ -0,0 +1,105 @@
+package com.ticketing.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.dto.request.CountedTransactionRequest;
+import com.ticketing.dto.request.CustomerRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.pricing.PricingServerApplication;
+import com.ticketing.pricing.rpc.PricingRpcServer;
+import com.ticketing.pricing.service.PricingService;
+import com.ticketing.remote.RemotePricingService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs the pricing server in the same JVM on a free localhost port and prices through it. The server reads
+ * the test profile's pricing rules too, so both sides agree on the discounts.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+class RemotePricingIntegrationTest {
+
+    private static ConfigurableApplicationContext pricingServer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PricingService pricingService;
+
+    @DynamicPropertySource
+    static void pricingClientProperties(DynamicPropertyRegistry registry) {
+        pricingServer = PricingServerApplication.application()
+                .run("--spring.config.additional-location=classpath:application-test.yml",
+                        "--pricing.server.host=localhost", "--pricing.server.port=0");
+        int port = pricingServer.getBean(PricingRpcServer.class).getPort();
+        registry.add("pricing.client.enabled", () -> "true");
+        registry.add("pricing.client.port", () -> port);
+    }
+
+    @AfterAll
+    static void stopPricingServer() {
+        pricingServer.close();
+    }
+
+    @Test
+    void processTicketsTransactions_withRemotePricing_shouldPriceOnPricingServer() throws Exception {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(
+                        CustomerRequest.builder().name("Adult Customer").age(35).build(),
+                        CustomerRequest.builder().name("Child Customer").age(5).build(),
+                        CustomerRequest.builder().name("Senior Customer").age(72).build()))
+                .transactionId(131L)
+                .build();
+
+        // When & Then
+        assertThat(pricingService).isInstanceOf(RemotePricingService.class);
+        mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactionId").value(131))
+                .andExpect(jsonPath("$.totalCost").value(47.50))
+                .andExpect(jsonPath("$.tickets[?(@.ticketType=='SENIOR')].totalCost").value(17.50));
+    }
+
+    @Test
+    void processCountedTransaction_byAge_withRemotePricing_shouldApplyDiscounts() throws Exception {
+        // Given
+        CountedTransactionRequest request = CountedTransactionRequest.builder()
+                .transactionId(132L)
+                .customersByAge(Map.of(35, 1, 10, 1, 8, 1, 7, 1, 6, 1))
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tickets/transactions/counts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCost").value(34))
+                .andExpect(jsonPath("$.tickets[?(@.ticketType=='CHILD')].totalCost").value(12.76));
+    }
+}
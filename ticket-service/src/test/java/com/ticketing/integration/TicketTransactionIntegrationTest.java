@@ -1,17 +1,31 @@
 package com.ticketing.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.config.WireFormatConfiguration;
+import com.ticketing.dto.request.CountedTransactionRequest;
 import com.ticketing.dto.request.CustomerRequest;
 import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.ErrorResponse;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.json.ErrorResponseHttpMessageConverter;
+import com.ticketing.json.TicketTransactionResponseHttpMessageConverter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -28,6 +42,9 @@ class TicketTransactionIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
     @Test
     void processTicketsTransactions() throws Exception {
 
@@ -38,7 +55,7 @@ class TicketTransactionIntegrationTest {
 
         TicketTransactionRequest request = TicketTransactionRequest.builder()
                 .customers(List.of(customer))
-                .transactionId(21L)
+                .transactionId(11L)
                 .build();
 
         mockMvc.perform(post("/api/v1/tickets/transactions")
@@ -99,14 +116,14 @@ class TicketTransactionIntegrationTest {
 
         TicketTransactionRequest request = TicketTransactionRequest.builder()
                 .customers(List.of(customer1, customer2, customer3, customer4))
-                .transactionId(21L)
+                .transactionId(22L)
                 .build();
 
         mockMvc.perform(post("/api/v1/tickets/transactions")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.transactionId").value(21))
+                .andExpect(jsonPath("$.transactionId").value(22))
                 .andExpect(jsonPath("$.totalCost").value(85.00)) // 4 * 25.00 = 100.00 - 15% = 85.00
                 .andExpect(jsonPath("$.tickets").isArray())
                 .andExpect(jsonPath("$.tickets.length()").value(1))
@@ -167,6 +184,31 @@ class TicketTransactionIntegrationTest {
 
     }
 
+    @Test
+    void processCountedTransaction_withCountsOrAges_shouldPriceLikeCustomerList() throws Exception {
+        // Given
+        CountedTransactionRequest byTicketType = CountedTransactionRequest.builder()
+                .transactionId(121L)
+                .ticketCounts(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 4))
+                .build();
+        CountedTransactionRequest byAge = CountedTransactionRequest.builder()
+                .transactionId(122L)
+                .customersByAge(Map.of(35, 1, 10, 1, 8, 1, 7, 1, 6, 1))
+                .build();
+
+        // When & Then
+        for (CountedTransactionRequest request : List.of(byTicketType, byAge)) {
+            mockMvc.perform(post("/api/v1/tickets/transactions/counts")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.transactionId").value(request.getTransactionId()))
+                    .andExpect(jsonPath("$.totalCost").value(34))
+                    .andExpect(jsonPath("$.tickets[?(@.ticketType=='ADULT')].totalCost").value(21.25))
+                    .andExpect(jsonPath("$.tickets[?(@.ticketType=='CHILD')].totalCost").value(12.76));
+        }
+    }
+
     @Test
     void processTicketsTransactions_withJsonFiles() throws Exception {
         // Read request from JSON file
@@ -190,6 +232,260 @@ class TicketTransactionIntegrationTest {
         assertThat(actualResponse).isEqualTo(expectedResponse);
     }
 
+    @Test
+    void processTicketsTransactions_withRetriedTransactionId_shouldReplayOrRejectIt() throws Exception {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35)))
+                .transactionId(71L)
+                .build();
+        TicketTransactionRequest changed = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35), createCustomer("Child Customer", 8)))
+                .transactionId(71L)
+                .build();
+
+        // When & Then
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/v1/tickets/transactions")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalCost").value(25.00));
+        }
+        mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(changed)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Transaction 71 was already submitted with a different payload"));
+    }
+
+    @Test
+    void processTicketsTransactionBatch_shouldPriceEachItemIndependently() throws Exception {
+        // Given
+        TicketTransactionRequest valid = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35)))
+                .transactionId(31L)
+                .build();
+        TicketTransactionRequest invalid = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("", 35)))
+                .transactionId(32L)
+                .build();
+
+        mockMvc.perform(post("/api/v1/tickets/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, invalid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].transactionId").value(31))
+                .andExpect(jsonPath("$.results[0].response.totalCost").value(25.00))
+                .andExpect(jsonPath("$.results[1].transactionId").value(32))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors['customers[0].name']").value("Name cannot be blank"));
+    }
+
+    @Test
+    void processTicketsTransactionBatch_withUnbindableItem_shouldReportItAtItsIndex() throws Exception {
+        String body = "[{\"transactionId\": 33, \"customers\": [{\"name\": \"Adult Customer\", \"age\": 35}]},"
+                + "{\"transactionId\": 34, \"customers\": [{\"name\": \"Bad Age\", \"age\": \"x\"}]},"
+                + "{\"transactionId\": 35, \"customers\": [{\"name\": \"Child Customer\", \"age\": 8}]}]";
+
+        mockMvc.perform(post("/api/v1/tickets/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors.message").value("Input request validation Failed"))
+                .andExpect(jsonPath("$.results[2].transactionId").value(35))
+                .andExpect(jsonPath("$.results[2].status").value("SUCCESS"));
+    }
+
+    @Test
+    void processTicketsTransactionBatch_aboveMaxSize_shouldBeRejectedWhileReading() throws Exception {
+        String body = "[" + String.join(",", Collections.nCopies(1_001, "{}")) + "]";
+
+        mockMvc.perform(post("/api/v1/tickets/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Batch cannot include more than 1000 transactions"));
+    }
+
+    @Test
+    void processTicketTransactionStream_shouldWriteOneResultLinePerTransaction() throws Exception {
+        TicketTransactionRequest first = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35)))
+                .transactionId(41L)
+                .build();
+        TicketTransactionRequest second = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Child Customer", 8)))
+                .transactionId(42L)
+                .build();
+        String body = objectMapper.writeValueAsString(first) + "\n" + objectMapper.writeValueAsString(second) + "\n";
+
+        String content = mockMvc.perform(post("/api/v1/tickets/transactions/stream")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = content.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("transactionId").asLong()).isEqualTo(41L);
+        assertThat(objectMapper.readTree(lines[1]).get("status").asText()).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    void processTicketsTransactions_withBinaryWireFormats_shouldPriceLikeJson() throws Exception {
+        Map<MediaType, ObjectMapper> mappers = Map.of(
+                MediaType.APPLICATION_CBOR, Jackson2ObjectMapperBuilder.cbor().build(),
+                MediaType.parseMediaType(WireFormatConfiguration.APPLICATION_SMILE_VALUE), Jackson2ObjectMapperBuilder.smile().build());
+        long transactionId = 81L;
+
+        for (Map.Entry<MediaType, ObjectMapper> entry : mappers.entrySet()) {
+            // Given
+            MediaType mediaType = entry.getKey();
+            ObjectMapper mapper = entry.getValue();
+            TicketTransactionRequest request = TicketTransactionRequest.builder()
+                    .customers(List.of(createCustomer("Adult Customer", 35), createCustomer("Child Customer", 8)))
+                    .transactionId(transactionId++)
+                    .build();
+
+            // When
+            byte[] content = mockMvc.perform(post("/api/v1/tickets/transactions")
+                            .contentType(mediaType)
+                            .accept(mediaType)
+                            .content(mapper.writeValueAsBytes(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(mediaType))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsByteArray();
+
+            // Then
+            JsonNode response = mapper.readTree(content);
+            assertThat(response.get("transactionId").asLong()).isEqualTo(request.getTransactionId());
+            assertThat(response.get("totalCost").decimalValue()).isEqualByComparingTo("30.00");
+            assertThat(response.get("tickets")).hasSize(2);
+        }
+    }
+
+    @Test
+    void processTicketsTransactions_withInvalidCborRequest_shouldReturnBadRequest() throws Exception {
+        // Given
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("", 35)))
+                .transactionId(83L)
+                .build();
+
+        // When
+        byte[] content = mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isBadRequest())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Then
+        assertThat(cborMapper.readTree(content).get("errors").get("customers[0].name").asText())
+                .isEqualTo("Name cannot be blank");
+    }
+
+    @Test
+    void sales_shouldIncludeProcessedTransactions() throws Exception {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Teen Customer", 15)))
+                .transactionId(91L)
+                .build();
+        long teenTicketsBefore = teenTicketsSold();
+
+        // When
+        mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(teenTicketsSold()).isEqualTo(teenTicketsBefore + 1);
+    }
+
+    @Test
+    void processTicketsTransactions_shouldWriteJsonWithPreEncodedWriter() throws Exception {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35), createCustomer("Child Customer", 6)))
+                .transactionId(101L)
+                .build();
+
+        // When
+        byte[] content = mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Then
+        List<HttpMessageConverter<?>> converters = handlerAdapter.getMessageConverters();
+        assertThat(converters.indexOf(converterOfType(converters, TicketTransactionResponseHttpMessageConverter.class)))
+                .isLessThan(converters.indexOf(converterOfType(converters, MappingJackson2HttpMessageConverter.class)));
+        assertThat(content).isEqualTo(objectMapper.writeValueAsBytes(
+                objectMapper.readValue(content, TicketTransactionResponse.class)));
+    }
+
+    @Test
+    void processTicketsTransactions_withInvalidAge_shouldWriteErrorWithPreEncodedWriter() throws Exception {
+        // Given
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(createCustomer("Adult Customer", 35), createCustomer("Nobody", -1)))
+                .transactionId(111L)
+                .build();
+
+        // When
+        byte[] content = mockMvc.perform(post("/api/v1/tickets/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.errors['customers[1].age']").value("Age cannot be negative"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Then
+        List<HttpMessageConverter<?>> converters = handlerAdapter.getMessageConverters();
+        assertThat(converters.indexOf(converterOfType(converters, ErrorResponseHttpMessageConverter.class)))
+                .isLessThan(converters.indexOf(converterOfType(converters, MappingJackson2HttpMessageConverter.class)));
+        assertThat(content).isEqualTo(objectMapper.writeValueAsBytes(
+                objectMapper.readValue(content, ErrorResponse.class)));
+    }
+
+    private HttpMessageConverter<?> converterOfType(List<HttpMessageConverter<?>> converters, Class<?> type) {
+        return converters.stream().filter(type::isInstance).findFirst().orElseThrow();
+    }
+
+    private long teenTicketsSold() throws Exception {
+        String content = mockMvc.perform(get("/actuator/sales"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(content).get("ticketTypes").get("TEEN").get("ticketsSold").asLong();
+    }
+
     private CustomerRequest createCustomer(String name, int age) {
         return CustomerRequest.builder()
                 .name(name)
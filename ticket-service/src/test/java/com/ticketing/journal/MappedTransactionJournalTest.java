@@ -0,0 +1,199 @@
+package com.ticketing.journal;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedTransactionJournalTest {
+
+    private static final Duration FSYNC_INTERVAL = Duration.ofMillis(10);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void append_thenScan_shouldReadBackEveryField() throws IOException {
+        // Given
+        TransactionPriceResult transactionPrice = transactionPrice(7L,
+                ticketPrice(TicketType.ADULT, 2, 2500, 5000),
+                ticketPrice(TicketType.CHILD, 3, 500, 1500));
+
+        // When
+        try (MappedTransactionJournal journal = open(FsyncPolicy.INTERVAL, 1 << 20)) {
+            journal.append(42L, transactionPrice);
+            journal.append(null, transactionPrice);
+        }
+        List<JournalEntry> entries = scan();
+
+        // Then
+        assertEquals(2, entries.size());
+        JournalEntry entry = entries.getFirst();
+        assertEquals(42L, entry.getTransactionId());
+        assertEquals(7L, entry.getPricingVersion());
+        assertNotNull(entry.getRecordedAt());
+        assertEquals(TicketCounts.of(Map.of(TicketType.ADULT, 2, TicketType.CHILD, 3)), entry.getTicketCounts());
+        assertEquals(0, new BigDecimal("65.00").compareTo(entry.getTotalCost()));
+        PriceCalculationResult child = entry.getTicketPrices().get(1);
+        assertEquals(TicketType.CHILD, child.getTicketType());
+        assertEquals(3, child.getQuantity());
+        assertEquals(0, new BigDecimal("5.00").compareTo(child.getFinalPrice()));
+        assertEquals(1500L, child.getTotalCostMinor());
+        assertNull(entries.get(1).getTransactionId());
+    }
+
+    @Test
+    void append_pastSegmentSize_shouldRollSegmentsAndScanInOrder() throws IOException {
+        // Given
+        TransactionPriceResult transactionPrice = transactionPrice(1L, ticketPrice(TicketType.ADULT, 1, 2500, 2500));
+
+        // When
+        try (MappedTransactionJournal journal = open(FsyncPolicy.INTERVAL, MappedTransactionJournal.MIN_SEGMENT_SIZE)) {
+            for (long transactionId = 0; transactionId < 200; transactionId++) {
+                journal.append(transactionId, transactionPrice);
+            }
+        }
+        List<JournalEntry> entries = scan();
+
+        // Then
+        assertTrue(TransactionJournalReader.segments(directory).size() > 1);
+        assertEquals(200, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(i, entries.get(i).getTransactionId());
+        }
+    }
+
+    @Test
+    void open_withExistingSegments_shouldAppendToANewSegment() throws IOException {
+        // Given
+        TransactionPriceResult transactionPrice = transactionPrice(1L, ticketPrice(TicketType.ADULT, 1, 2500, 2500));
+        try (MappedTransactionJournal journal = open(FsyncPolicy.NEVER, 1 << 20)) {
+            journal.append(1L, transactionPrice);
+        }
+
+        // When
+        try (MappedTransactionJournal journal = open(FsyncPolicy.NEVER, 1 << 20)) {
+            journal.append(2L, transactionPrice);
+        }
+
+        // Then
+        assertEquals(2, TransactionJournalReader.segments(directory).size());
+        assertEquals(List.of(1L, 2L), scan().stream().map(JournalEntry::getTransactionId).toList());
+    }
+
+    @Test
+    void scan_withTornRecord_shouldStopAtLastIntactRecord() throws IOException {
+        // Given
+        TransactionPriceResult transactionPrice = transactionPrice(1L, ticketPrice(TicketType.ADULT, 1, 2500, 2500));
+        try (MappedTransactionJournal journal = open(FsyncPolicy.INTERVAL, 1 << 20)) {
+            for (long transactionId = 1; transactionId <= 3; transactionId++) {
+                journal.append(transactionId, transactionPrice);
+            }
+        }
+        int recordSize = JournalFormat.recordSize(1);
+        try (RandomAccessFile segment = new RandomAccessFile(TransactionJournalReader.segments(directory).getFirst().toFile(), "rw")) {
+            segment.seek(JournalFormat.HEADER_SIZE + 2L * recordSize + 10);
+            segment.write(0xFF);
+        }
+
+        // When
+        List<JournalEntry> entries = scan();
+
+        // Then
+        assertEquals(List.of(1L, 2L), entries.stream().map(JournalEntry::getTransactionId).toList());
+    }
+
+    @Test
+    void append_withAlwaysPolicyFromManyThreads_shouldJournalEveryRecord() throws Exception {
+        // Given
+        TransactionPriceResult transactionPrice = transactionPrice(1L, ticketPrice(TicketType.SENIOR, 1, 1750, 1750));
+        int threads = 8;
+        int appendsPerThread = 50;
+
+        // When
+        try (MappedTransactionJournal journal = open(FsyncPolicy.ALWAYS, MappedTransactionJournal.MIN_SEGMENT_SIZE);
+             ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int thread = 0; thread < threads; thread++) {
+                long firstId = (long) thread * appendsPerThread;
+                executor.submit(() -> {
+                    for (long id = firstId; id < firstId + appendsPerThread; id++) {
+                        journal.append(id, transactionPrice);
+                    }
+                });
+            }
+        }
+        List<JournalEntry> entries = scan();
+
+        // Then
+        Set<Long> transactionIds = new HashSet<>();
+        entries.forEach(entry -> transactionIds.add(entry.getTransactionId()));
+        assertEquals(threads * appendsPerThread, entries.size());
+        assertEquals(threads * appendsPerThread, transactionIds.size());
+    }
+
+    @Test
+    void append_afterClose_shouldThrowException() throws IOException {
+        // Given
+        MappedTransactionJournal journal = open(FsyncPolicy.INTERVAL, 1 << 20);
+        journal.close();
+        TransactionPriceResult transactionPrice = transactionPrice(1L, ticketPrice(TicketType.ADULT, 1, 2500, 2500));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> journal.append(1L, transactionPrice));
+    }
+
+    @Test
+    void open_withSegmentSizeTooSmall_shouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> open(FsyncPolicy.INTERVAL, 1024));
+    }
+
+    private MappedTransactionJournal open(FsyncPolicy fsyncPolicy, long segmentSize) throws IOException {
+        return MappedTransactionJournal.open(directory, segmentSize, fsyncPolicy, FSYNC_INTERVAL);
+    }
+
+    private List<JournalEntry> scan() throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        new TransactionJournalReader(directory).scan(entries::add);
+        return entries;
+    }
+
+    private PriceCalculationResult ticketPrice(TicketType ticketType, int quantity, long finalPriceMinor,
+                                               long totalCostMinor) {
+        return PriceCalculationResult.builder()
+                .ticketType(ticketType)
+                .quantity(quantity)
+                .finalPriceMinor(finalPriceMinor)
+                .totalCostMinor(totalCostMinor)
+                .build();
+    }
+
+    private TransactionPriceResult transactionPrice(long pricingVersion, PriceCalculationResult... ticketPrices) {
+        long totalCostMinor = 0;
+        for (PriceCalculationResult ticketPrice : ticketPrices) {
+            totalCostMinor += ticketPrice.getTotalCostMinor();
+        }
+        return TransactionPriceResult.builder()
+                .ticketPrices(List.of(ticketPrices))
+                .totalCostMinor(totalCostMinor)
+                .pricingVersion(pricingVersion)
+                .build();
+    }
+}
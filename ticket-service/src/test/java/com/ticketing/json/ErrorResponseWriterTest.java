@@ -0,0 +1,108 @@
+package com.ticketing.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ticketing.dto.response.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseWriterTest {
+
+    // Configured as Spring Boot configures the application's mapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ErrorResponseWriter writer = new ErrorResponseWriter();
+
+    @Test
+    void write_errorResponse_shouldMatchJacksonByteForByte() throws IOException {
+        // Given
+        ErrorResponse response = ErrorResponse.of(HttpStatus.BAD_REQUEST, "Invalid age for customer: Nobody");
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int written = writer.write(response, output);
+
+        // Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), output.toByteArray());
+        assertEquals(output.size(), written);
+    }
+
+    @Test
+    void write_validationFailure_shouldMatchJacksonByteForByte() throws IOException {
+        // Given
+        Map<String, String> errors = new LinkedHashMap<>();
+        errors.put("transactionId", "Transaction ID cannot be null");
+        errors.put("customers[0].age", "Age cannot be negative");
+        errors.put("customers[1].name", null);
+        ErrorResponse response = ErrorResponse.validationFailed(errors);
+
+        // When & Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), writer.toBytes(response));
+    }
+
+    @Test
+    void write_withAbsentFields_shouldOmitThemLikeJackson() throws IOException {
+        // Given
+        ErrorResponse response = ErrorResponse.builder().status(500).build();
+
+        // When & Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), writer.toBytes(response));
+        assertEquals("{\"status\":500}", new String(writer.toBytes(response)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "plain", "", "quote \" and backslash \\", "line\nbreak\ttab\rreturn\bback\fform",
+            "control \u0000 \u0001 \u001f \u007f", "Zoë Ångström", "漢字 €", "emoji 😀 end", "slash / stays"
+    })
+    void write_withMessageNeedingEscapes_shouldMatchJacksonByteForByte(String message) throws IOException {
+        // Given
+        ErrorResponse response = ErrorResponse.of(HttpStatus.CONFLICT, message);
+
+        // When & Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), writer.toBytes(response));
+    }
+
+    @Test
+    void write_withTimestampPrecisions_shouldMatchJacksonByteForByte() throws IOException {
+        for (LocalDateTime timestamp : new LocalDateTime[]{
+                LocalDateTime.of(2026, 1, 1, 0, 0),
+                LocalDateTime.of(2026, 10, 17, 9, 5, 3),
+                LocalDateTime.of(2026, 10, 17, 9, 5, 3, 120_000_000),
+                LocalDateTime.of(2026, 10, 17, 9, 5, 3, 123_456_789)}) {
+            // Given
+            ErrorResponse response = ErrorResponse.builder()
+                    .timestamp(timestamp)
+                    .status(503)
+                    .error("Service Unavailable")
+                    .build();
+
+            // When & Then
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), writer.toBytes(response), timestamp::toString);
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), writer.toBytes(response), timestamp::toString);
+        }
+    }
+
+    @Test
+    void write_withManyDistinctErrorPhrases_shouldStayCorrectPastCache() throws IOException {
+        for (int i = 0; i < ErrorResponseWriter.MAX_CACHED_ERRORS * 2; i++) {
+            // Given
+            ErrorResponse response = ErrorResponse.builder().status(400).error("Error " + i).build();
+
+            // When & Then
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), writer.toBytes(response));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ticketing.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.common.util.FixedPointPriceUtil;
+import com.ticketing.dto.response.TicketSegment;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketTransactionResponseWriterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TicketTransactionResponseWriter writer = new TicketTransactionResponseWriter();
+
+    @Test
+    void write_responseFixture_shouldMatchJacksonByteForByte() throws IOException {
+        // Given
+        TicketTransactionResponse response;
+        byte[] fixture;
+        try (InputStream input = getClass().getResourceAsStream("/response.json")) {
+            fixture = input.readAllBytes();
+        }
+        response = objectMapper.readValue(fixture, TicketTransactionResponse.class);
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int written = writer.write(response, output);
+
+        // Then
+        byte[] compactFixture = objectMapper.writeValueAsBytes(objectMapper.readTree(fixture));
+        assertArrayEquals(compactFixture, output.toByteArray());
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), output.toByteArray());
+        assertEquals(output.size(), written);
+    }
+
+    @Test
+    void write_pricedResponse_shouldMatchJacksonByteForByte() throws IOException {
+        // Given
+        TicketTransactionResponse response = TicketTransactionResponse.builder()
+                .transactionId(9_007_199_254_740_993L)
+                .totalCost(FixedPointPriceUtil.toAmount(123_456_789L))
+                .tickets(List.of(
+                        segment(TicketType.ADULT, 40_000, 100_000_000L),
+                        segment(TicketType.CHILD, 3, 1_125L),
+                        segment(TicketType.SENIOR, 1, 5L),
+                        segment(TicketType.TEEN, 2, 0L)))
+                .build();
+
+        // When & Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), writer.toBytes(response));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "0.00", "0.05", "-0.05", "10.2", "25.00", "-1234.56", "7", "1E+3", "0.000001",
+            "1E-7", "0.0000001234", "123456789012345678.90", "92233720368547758.07", "-92233720368547758.08",
+            "99999999999999999999999.99"})
+    void write_amounts_shouldMatchBigDecimalToString(String amount) throws IOException {
+        // Given
+        TicketTransactionResponse response = TicketTransactionResponse.builder()
+                .transactionId(-5L)
+                .totalCost(new BigDecimal(amount))
+                .tickets(List.of())
+                .build();
+
+        // When & Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), writer.toBytes(response));
+    }
+
+    @Test
+    void write_nullFields_shouldMatchJackson() throws IOException {
+        // Given
+        List<TicketSegment> tickets = new ArrayList<>(Arrays.asList(
+                null, TicketSegment.builder().quantity(Long.MIN_VALUE).build()));
+        TicketTransactionResponse withNulls = TicketTransactionResponse.builder().tickets(tickets).build();
+        TicketTransactionResponse empty = new TicketTransactionResponse();
+
+        // When & Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(withNulls), writer.toBytes(withNulls));
+        assertArrayEquals(objectMapper.writeValueAsBytes(empty), writer.toBytes(empty));
+    }
+
+    @Test
+    void write_afterLargeResponse_shouldReuseBuffersCleanly() throws IOException {
+        // Given - enough segments to grow a pooled buffer past its initial capacity
+        List<TicketSegment> tickets = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            tickets.add(segment(TicketType.values()[i % 4], i, i * 101L));
+        }
+        TicketTransactionResponse large = TicketTransactionResponse.builder()
+                .transactionId(1L).totalCost(BigDecimal.TEN).tickets(tickets).build();
+        TicketTransactionResponse small = TicketTransactionResponse.builder()
+                .transactionId(2L).totalCost(BigDecimal.ONE).tickets(List.of(segment(TicketType.CHILD, 1, 100L))).build();
+
+        // When
+        byte[] largeBytes = writer.toBytes(large);
+        byte[] smallBytes = writer.toBytes(small);
+
+        // Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(large), largeBytes);
+        assertArrayEquals(objectMapper.writeValueAsBytes(small), smallBytes);
+    }
+
+    private TicketSegment segment(TicketType ticketType, long quantity, long totalCostMinor) {
+        return TicketSegment.builder()
+                .ticketType(ticketType)
+                .quantity(quantity)
+                .totalCost(FixedPointPriceUtil.toAmount(totalCostMinor))
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.ticketing.limit;
+
+import com.ticketing.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASELINE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private ConcurrencyLimitProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(100);
+        properties.setMinLimit(10);
+        properties.setMaxLimit(400);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void tryAcquire_overTheLimit_shouldRejectAndCountTheRejection() {
+        // Given
+        properties.setInitialLimit(2);
+        properties.setMinLimit(1);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+
+        // When
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+        limiter.release();
+        boolean afterRelease = limiter.tryAcquire();
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertTrue(afterRelease);
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1.0, meterRegistry.get("ticketing.concurrency.rejections").counter().count());
+        assertEquals(2.0, meterRegistry.get("ticketing.concurrency.in.flight").gauge().value());
+        assertEquals(2.0, meterRegistry.get("ticketing.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    void onSample_withSteadyLatencyAndBusyLimit_shouldRaiseTheLimitUpToTheMaximum() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            limiter.onSample(BASELINE_NANOS, limiter.getLimit());
+        }
+
+        // Then
+        assertEquals(400, limiter.getLimit());
+    }
+
+    @Test
+    void onSample_withSteadyLatencyAndIdleLimit_shouldKeepTheLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            limiter.onSample(BASELINE_NANOS, 1);
+        }
+
+        // Then
+        assertEquals(100, limiter.getLimit());
+    }
+
+    @Test
+    void onSample_whenLatencyRisesBeyondTolerance_shouldCutTheLimitDownToTheMinimum() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(BASELINE_NANOS, 1);
+        }
+
+        // When
+        limiter.onSample(10 * BASELINE_NANOS, limiter.getLimit());
+        int afterOneSlowSample = limiter.getLimit();
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(10 * BASELINE_NANOS, limiter.getLimit());
+        }
+
+        // Then
+        assertTrue(afterOneSlowSample < 100, "limit after one slow sample was " + afterOneSlowSample);
+        assertEquals(10, limiter.getLimit());
+    }
+}
@@ -0,0 +1,80 @@
+package com.ticketing.limit;
+
+import com.ticketing.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitInterceptorTest {
+
+    @Mock
+    private AdaptiveConcurrencyLimiter limiter;
+
+    private ConcurrencyLimitInterceptor interceptor;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ConcurrencyLimitInterceptor(limiter, Duration.ofSeconds(2));
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void preHandle_overTheLimit_shouldRejectWithRetryAfter() {
+        // Given
+        when(limiter.tryAcquire()).thenReturn(false);
+
+        // When & Then
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> interceptor.preHandle(request, response, new Object()));
+        assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+        verify(limiter, never()).release();
+    }
+
+    @Test
+    void afterCompletion_withSuccessfulResponse_shouldReleaseAndSampleLatency() {
+        // Given
+        when(limiter.tryAcquire()).thenReturn(true);
+        when(limiter.getInFlight()).thenReturn(3);
+        interceptor.preHandle(request, response, new Object());
+
+        // When
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Then
+        verify(limiter).release();
+        verify(limiter).onSample(anyLong(), eq(3));
+    }
+
+    @Test
+    void afterCompletion_withClientError_shouldReleaseWithoutSampling() {
+        // Given
+        when(limiter.tryAcquire()).thenReturn(true);
+        interceptor.preHandle(request, response, new Object());
+        response.setStatus(400);
+
+        // When
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Then
+        verify(limiter).release();
+        verify(limiter, never()).onSample(anyLong(), anyInt());
+    }
+}
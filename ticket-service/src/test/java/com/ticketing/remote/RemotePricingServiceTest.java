@@ -0,0 +1,186 @@
+package com.ticketing.remote;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.config.PricingClientProperties;
+import com.ticketing.exception.PricingException;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.exception.PricingRuleException;
+import com.ticketing.pricing.model.AgeBand;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import com.ticketing.pricing.rpc.PricingRpcServer;
+import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RemotePricingServiceTest {
+
+    @Mock
+    private PricingService pricingService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PricingRpcServer server;
+    private PricingSnapshotHolder pricingSnapshotHolder;
+    private RemotePricingService remotePricingService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pricingSnapshotHolder = new PricingSnapshotHolder(new PricingConfiguration());
+        server = PricingRpcServer.start(pricingService, pricingSnapshotHolder, "localhost", 0, 1000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (remotePricingService != null) {
+            remotePricingService.close();
+        }
+        server.close();
+    }
+
+    @Test
+    void concurrentCalls_whileTheOnlyPipelineSlotIsBusy_shouldBeSentAsOneBatch() throws Exception {
+        // Given
+        remotePricingService = new RemotePricingService(properties(server.getPort(), 1, 1), meterRegistry);
+        CountDownLatch firstCallStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        when(pricingService.calculateTransaction(any(TicketCounts.class))).thenAnswer(invocation -> {
+            TicketCounts counts = invocation.getArgument(0);
+            if (counts.get(TicketType.ADULT) == 1000) {
+                firstCallStarted.countDown();
+                releaseFirstCall.await();
+            }
+            return transactionPrice(counts.get(TicketType.ADULT));
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<TransactionPriceResult> first = executor.submit(() -> remotePricingService.calculateTransaction(
+                    TicketCounts.of(Map.of(TicketType.ADULT, 1000))));
+            assertTrue(firstCallStarted.await(5, TimeUnit.SECONDS));
+
+            // When
+            List<Future<TransactionPriceResult>> queued = new ArrayList<>();
+            for (int adults = 1; adults <= 49; adults++) {
+                int count = adults;
+                queued.add(executor.submit(() -> remotePricingService.calculateTransaction(
+                        TicketCounts.of(Map.of(TicketType.ADULT, count)))));
+            }
+            while (meterRegistry.get("ticketing.pricing.client.queued").gauge().value() < 49) {
+                Thread.sleep(1);
+            }
+            releaseFirstCall.countDown();
+
+            // Then
+            assertEquals(1000, first.get(5, TimeUnit.SECONDS).getTotalQuantity());
+            for (int i = 0; i < queued.size(); i++) {
+                assertEquals(i + 1, queued.get(i).get(5, TimeUnit.SECONDS).getTotalQuantity());
+            }
+        }
+        DistributionSummary batchSizes = meterRegistry.get("ticketing.pricing.client.batch.size").summary();
+        assertEquals(2, batchSizes.count());
+        assertEquals(49.0, batchSizes.max());
+    }
+
+    @Test
+    void call_whenServerRejectsPricingRule_shouldRethrowPricingRuleException() {
+        // Given
+        remotePricingService = new RemotePricingService(properties(server.getPort(), 2, 8), meterRegistry);
+        when(pricingService.getTicketBasePrice(TicketType.SENIOR))
+                .thenThrow(new PricingRuleException("No pricing rule found for ticket type: SENIOR"));
+        when(pricingService.getTicketBasePrice(TicketType.ADULT)).thenReturn(new BigDecimal("25.00"));
+
+        // When & Then
+        PricingRuleException exception = assertThrows(PricingRuleException.class,
+                () -> remotePricingService.getTicketBasePrice(TicketType.SENIOR));
+        assertEquals("No pricing rule found for ticket type: SENIOR", exception.getMessage());
+        assertEquals(new BigDecimal("25.00"), remotePricingService.getTicketBasePrice(TicketType.ADULT));
+    }
+
+    @Test
+    void calculateTransaction_classifiedAgainstOtherAgeBands_shouldFailWithPricingException() {
+        // Given
+        remotePricingService = new RemotePricingService(properties(server.getPort(), 2, 8), meterRegistry);
+        PricingConfiguration localRules = new PricingConfiguration();
+        localRules.setAgeBands(List.of(
+                AgeBand.builder().ticketType(TicketType.CHILD).maxAge(12).build(),
+                AgeBand.builder().ticketType(TicketType.ADULT).build()));
+        PricingSnapshot localSnapshot = new PricingSnapshotHolder(localRules).current();
+        TicketCounts counts = TicketCounts.of(Map.of(TicketType.CHILD, 1));
+
+        // When & Then
+        assertThrows(PricingException.class, () -> remotePricingService.calculateTransaction(localSnapshot, counts));
+        verifyNoInteractions(pricingService);
+    }
+
+    @Test
+    void call_withoutServer_shouldTimeOutWithPricingException() throws IOException {
+        // Given
+        int unusedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unusedPort = socket.getLocalPort();
+        }
+        PricingClientProperties properties = properties(unusedPort, 1, 1);
+        properties.setTimeout(Duration.ofMillis(200));
+        remotePricingService = new RemotePricingService(properties, meterRegistry);
+
+        // When & Then
+        PricingException exception = assertThrows(PricingException.class,
+                () -> remotePricingService.getTicketBasePrice(TicketType.ADULT));
+        assertEquals("Pricing server did not answer within PT0.2S", exception.getMessage());
+        assertFalse(remotePricingService.isConnected());
+    }
+
+    @Test
+    void call_afterClose_shouldThrowPricingException() {
+        // Given
+        remotePricingService = new RemotePricingService(properties(server.getPort(), 1, 1), meterRegistry);
+        remotePricingService.close();
+
+        // When & Then
+        assertThrows(PricingException.class, () -> remotePricingService.getTicketBasePrice(TicketType.ADULT));
+        verifyNoInteractions(pricingService);
+    }
+
+    private static PricingClientProperties properties(int port, int connections, int maxInFlightBatches) {
+        PricingClientProperties properties = new PricingClientProperties();
+        properties.setPort(port);
+        properties.setConnections(connections);
+        properties.setMaxInFlightBatches(maxInFlightBatches);
+        return properties;
+    }
+
+    private static TransactionPriceResult transactionPrice(int adults) {
+        return TransactionPriceResult.builder()
+                .ticketPrices(List.of())
+                .totalCost(BigDecimal.valueOf(adults * 25L))
+                .totalCostMinor(adults * 2500L)
+                .totalQuantity(adults)
+                .pricingVersion(1)
+                .build();
+    }
+}
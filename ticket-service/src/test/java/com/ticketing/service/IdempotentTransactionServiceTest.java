@@ -0,0 +1,187 @@
+package com.ticketing.service;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.config.IdempotencyProperties;
+import com.ticketing.dto.request.CountedTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionResponse;
+import com.ticketing.exception.DuplicateTransactionException;
+import com.ticketing.exception.InvalidTransactionException;
+import com.ticketing.ingest.TalliedTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentTransactionServiceTest {
+
+    @Mock
+    private TicketProcessingService ticketProcessingService;
+
+    private IdempotencyProperties idempotencyProperties;
+
+    private IdempotentTransactionService idempotentTransactionService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyProperties = new IdempotencyProperties();
+        idempotentTransactionService = new IdempotentTransactionService(ticketProcessingService, idempotencyProperties);
+    }
+
+    @Test
+    void processTalliedTransaction_withRetriedRequest_shouldProcessOnce() {
+        // Given
+        TicketTransactionResponse response = response(1L);
+        when(ticketProcessingService.processTalliedTransaction(tallied(1L, 30))).thenReturn(response);
+
+        // When
+        TicketTransactionResponse first = idempotentTransactionService.processTalliedTransaction(tallied(1L, 30));
+        TicketTransactionResponse retry = idempotentTransactionService.processTalliedTransaction(tallied(1L, 30));
+
+        // Then
+        assertSame(response, first);
+        assertSame(response, retry);
+        verify(ticketProcessingService, times(1)).processTalliedTransaction(any());
+    }
+
+    @Test
+    void processTalliedTransaction_afterFailure_shouldProcessRetry() {
+        // Given
+        when(ticketProcessingService.processTalliedTransaction(tallied(1L, 30)))
+                .thenThrow(new InvalidTransactionException("Invalid age for customer: Adult"))
+                .thenReturn(response(1L));
+
+        // When
+        assertThrows(InvalidTransactionException.class,
+                () -> idempotentTransactionService.processTalliedTransaction(tallied(1L, 30)));
+        TicketTransactionResponse retry = idempotentTransactionService.processTalliedTransaction(tallied(1L, 30));
+
+        // Then
+        assertEquals(1L, retry.getTransactionId());
+        verify(ticketProcessingService, times(2)).processTalliedTransaction(any());
+    }
+
+    @Test
+    void processTalliedTransaction_withConcurrentDuplicates_shouldWaitForInFlightResult() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TicketTransactionResponse response = response(1L);
+        when(ticketProcessingService.processTalliedTransaction(tallied(1L, 30))).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return response;
+        });
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<TicketTransactionResponse> first = executor.submit(
+                    () -> idempotentTransactionService.processTalliedTransaction(tallied(1L, 30)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<TicketTransactionResponse> duplicate = executor.submit(
+                    () -> idempotentTransactionService.processTalliedTransaction(tallied(1L, 30)));
+            release.countDown();
+
+            // Then
+            assertSame(response, first.get(5, TimeUnit.SECONDS));
+            assertSame(response, duplicate.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(ticketProcessingService, times(1)).processTalliedTransaction(any());
+    }
+
+    @Test
+    void processTalliedTransaction_whenDisabled_shouldProcessEveryRequest() {
+        // Given
+        idempotencyProperties.setEnabled(false);
+        when(ticketProcessingService.processTalliedTransaction(tallied(1L, 30))).thenReturn(response(1L));
+
+        // When
+        idempotentTransactionService.processTalliedTransaction(tallied(1L, 30));
+        idempotentTransactionService.processTalliedTransaction(tallied(1L, 30));
+
+        // Then
+        verify(ticketProcessingService, times(2)).processTalliedTransaction(any());
+    }
+
+    @Test
+    void processTalliedTransaction_withSameIdAndDifferentPayload_shouldThrowException() {
+        // Given
+        when(ticketProcessingService.processTalliedTransaction(any())).thenReturn(response(1L));
+        idempotentTransactionService.processTalliedTransaction(tallied(1L, 30));
+
+        // When & Then
+        assertThrows(DuplicateTransactionException.class,
+                () -> idempotentTransactionService.processTalliedTransaction(tallied(1L, 8)));
+        verify(ticketProcessingService, times(1)).processTalliedTransaction(any());
+    }
+
+    @Test
+    void processCountedTransaction_withRetryInAnotherOrder_shouldReplayResponse() {
+        // Given
+        TicketTransactionResponse response = response(1L);
+        CountedTransactionRequest request = counted(1L, Map.of(TicketType.ADULT, 2, TicketType.CHILD, 1));
+        when(ticketProcessingService.processCountedTransaction(request)).thenReturn(response);
+        idempotentTransactionService.processCountedTransaction(request);
+
+        // When
+        TicketTransactionResponse retry = idempotentTransactionService.processCountedTransaction(
+                counted(1L, Map.of(TicketType.CHILD, 1, TicketType.ADULT, 2, TicketType.TEEN, 0)));
+
+        // Then
+        assertSame(response, retry);
+        verify(ticketProcessingService, times(1)).processCountedTransaction(any());
+    }
+
+    @Test
+    void processCountedTransaction_withIdOfTalliedTransaction_shouldThrowException() {
+        // Given
+        when(ticketProcessingService.processTalliedTransaction(tallied(1L, 30))).thenReturn(response(1L));
+        idempotentTransactionService.processTalliedTransaction(tallied(1L, 30));
+
+        // When & Then
+        assertThrows(DuplicateTransactionException.class,
+                () -> idempotentTransactionService.processCountedTransaction(counted(1L, Map.of(TicketType.ADULT, 1))));
+        verify(ticketProcessingService, never()).processCountedTransaction(any());
+    }
+
+    private TalliedTransaction tallied(Long transactionId, int age) {
+        return TalliedTransaction.builder()
+                .transactionId(transactionId)
+                .customerCount(1)
+                .ticketCounts(TicketCounts.of(Map.of(TicketType.ADULT, 1)))
+                .fingerprint(TransactionFingerprint.builder().addCustomer("Adult", age).build())
+                .build();
+    }
+
+    private CountedTransactionRequest counted(Long transactionId, Map<TicketType, Integer> ticketCounts) {
+        return CountedTransactionRequest.builder()
+                .transactionId(transactionId)
+                .ticketCounts(ticketCounts)
+                .build();
+    }
+
+    private TicketTransactionResponse response(Long transactionId) {
+        return TicketTransactionResponse.builder()
+                .transactionId(transactionId)
+                .tickets(List.of())
+                .totalCost(new BigDecimal("25.00"))
+                .build();
+    }
+}
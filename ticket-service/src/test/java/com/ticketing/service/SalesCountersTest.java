@@ -0,0 +1,101 @@
+package com.ticketing.service;
+
+import com.ticketing.common.model.TicketType;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalesCountersTest {
+
+    private final SalesCounters salesCounters = new SalesCounters();
+
+    @Test
+    void record_shouldAccumulateTicketsRevenueAndDiscountsPerRule() {
+        // Given
+        TransactionPriceResult transactionPrice = transactionPrice(
+                ticketPrice(TicketType.ADULT, 2, 5000, List.of(), List.of()),
+                ticketPrice(TicketType.SENIOR, 4, 5128, List.of("Group Discount", "Senior Discount"), List.of(150L, 68L)));
+
+        // When
+        salesCounters.record(transactionPrice);
+        salesCounters.record(transactionPrice);
+
+        // Then
+        assertEquals(4, salesCounters.getTicketsSold(TicketType.ADULT));
+        assertEquals(8, salesCounters.getTicketsSold(TicketType.SENIOR));
+        assertEquals(0, salesCounters.getTicketsSold(TicketType.CHILD));
+        assertEquals(10_000, salesCounters.getRevenueMinor(TicketType.ADULT));
+        assertEquals(10_256, salesCounters.getRevenueMinor(TicketType.SENIOR));
+        assertEquals(Map.of("Group Discount", 1200L, "Senior Discount", 544L), salesCounters.getDiscountsMinor());
+    }
+
+    @Test
+    void bindTo_shouldPublishTotalsInCurrencyUnits() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        salesCounters.record(transactionPrice(
+                ticketPrice(TicketType.CHILD, 3, 1125, List.of("Child Discount"), List.of(125L))));
+
+        // When
+        salesCounters.bindTo(meterRegistry);
+        salesCounters.record(transactionPrice(
+                ticketPrice(TicketType.TEEN, 1, 1200, List.of("Teen Discount"), List.of(300L))));
+
+        // Then
+        assertEquals(3.0, meterRegistry.get("ticketing.tickets.sold").tag("ticket.type", "CHILD").functionCounter().count());
+        assertEquals(11.25, meterRegistry.get("ticketing.revenue").tag("ticket.type", "CHILD").functionCounter().count());
+        assertEquals(3.75, meterRegistry.get("ticketing.discounts").tag("rule", "Child Discount").functionCounter().count());
+        assertEquals(3.0, meterRegistry.get("ticketing.discounts").tag("rule", "Teen Discount").functionCounter().count());
+    }
+
+    @Test
+    void record_fromManyThreads_shouldNotLoseUpdates() throws Exception {
+        // Given
+        TransactionPriceResult transactionPrice = transactionPrice(
+                ticketPrice(TicketType.ADULT, 1, 2500, List.of("Group Discount"), List.of(10L)));
+        int threads = 8;
+        int recordsPerThread = 10_000;
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int thread = 0; thread < threads; thread++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        salesCounters.record(transactionPrice);
+                    }
+                });
+            }
+        }
+
+        // Then
+        long records = (long) threads * recordsPerThread;
+        assertEquals(records, salesCounters.getTicketsSold(TicketType.ADULT));
+        assertEquals(records * 2500, salesCounters.getRevenueMinor(TicketType.ADULT));
+        assertEquals(records * 10, salesCounters.getDiscountsMinor().get("Group Discount"));
+    }
+
+    private PriceCalculationResult ticketPrice(TicketType ticketType, int quantity, long totalCostMinor,
+                                               List<String> appliedDiscounts, List<Long> appliedDiscountAmountsMinor) {
+        return PriceCalculationResult.builder()
+                .ticketType(ticketType)
+                .quantity(quantity)
+                .totalCostMinor(totalCostMinor)
+                .appliedDiscounts(appliedDiscounts)
+                .appliedDiscountAmountsMinor(appliedDiscountAmountsMinor)
+                .build();
+    }
+
+    private TransactionPriceResult transactionPrice(PriceCalculationResult... ticketPrices) {
+        return TransactionPriceResult.builder()
+                .ticketPrices(List.of(ticketPrices))
+                .build();
+    }
+}
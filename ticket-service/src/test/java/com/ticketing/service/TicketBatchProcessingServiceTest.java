@@ -0,0 +1,238 @@
+package com.ticketing.service;
+
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.config.BatchProcessingProperties;
+import com.ticketing.config.ErrorLogProperties;
+import com.ticketing.dto.request.CustomerRequest;
+import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TicketTransactionBatchResponse;
+import com.ticketing.dto.response.TransactionBatchItemResult;
+import com.ticketing.dto.response.TransactionBatchItemStatus;
+import com.ticketing.exception.InvalidTransactionException;
+import com.ticketing.exception.PricingException;
+import com.ticketing.ingest.TransactionBatch;
+import com.ticketing.journal.TransactionJournal;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketBatchProcessingServiceTest {
+
+    @Mock
+    private PricingService pricingService;
+
+    private ValidatorFactory validatorFactory;
+
+    private BatchProcessingProperties batchProcessingProperties;
+
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    private TicketBatchProcessingService ticketBatchProcessingService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        batchProcessingProperties = new BatchProcessingProperties();
+        pricingSnapshotHolder = new PricingSnapshotHolder(new PricingConfiguration());
+        ticketBatchProcessingService = new TicketBatchProcessingService(
+                new TicketProcessingService(pricingService, pricingSnapshotHolder, TransactionJournal.DISABLED,
+                        new SalesCounters(), new SimpleMeterRegistry()),
+                pricingService,
+                pricingSnapshotHolder,
+                validatorFactory.getValidator(),
+                batchProcessingProperties,
+                new ErrorLogProperties()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void processBatch_withValidAndInvalidItems_shouldNotFailWholeBatch() {
+        // Given
+        List<TicketTransactionRequest> requests = Arrays.asList(
+                request(1L, CustomerRequest.builder().name("Adult").age(30).build()),
+                request(2L, CustomerRequest.builder().name("").age(30).build()),
+                request(3L, CustomerRequest.builder().name("Negative").age(-1).build()),
+                null
+        );
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class))).thenReturn(adultQuote(1));
+
+        // When
+        TicketTransactionBatchResponse response = ticketBatchProcessingService.processBatch(requests);
+
+        // Then
+        assertEquals(1, response.getSucceeded());
+        assertEquals(3, response.getFailed());
+
+        TransactionBatchItemResult success = response.getResults().get(0);
+        assertEquals(TransactionBatchItemStatus.SUCCESS, success.getStatus());
+        assertEquals(new BigDecimal("25.00"), success.getResponse().getTotalCost());
+
+        TransactionBatchItemResult blankName = response.getResults().get(1);
+        assertEquals(TransactionBatchItemStatus.INVALID, blankName.getStatus());
+        assertEquals("Name cannot be blank", blankName.getErrors().get("customers[0].name"));
+
+        TransactionBatchItemResult negativeAge = response.getResults().get(2);
+        assertEquals(TransactionBatchItemStatus.INVALID, negativeAge.getStatus());
+        assertEquals("Age cannot be negative", negativeAge.getErrors().get("customers[0].age"));
+
+        assertEquals(TransactionBatchItemStatus.INVALID, response.getResults().get(3).getStatus());
+        assertEquals(3, response.getResults().get(3).getIndex());
+    }
+
+    @Test
+    void processBatch_withRepeatedShapes_shouldPriceEachShapeOnce() {
+        // Given
+        List<TicketTransactionRequest> requests = List.of(
+                request(1L, CustomerRequest.builder().name("A").age(30).build()),
+                request(2L, CustomerRequest.builder().name("B").age(40).build()),
+                request(3L, CustomerRequest.builder().name("C").age(50).build())
+        );
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1))))).thenReturn(adultQuote(1));
+
+        // When
+        TicketTransactionBatchResponse response = ticketBatchProcessingService.processBatch(requests);
+
+        // Then
+        assertEquals(3, response.getSucceeded());
+        assertEquals(List.of(1L, 2L, 3L), response.getResults().stream()
+                .map(result -> result.getResponse().getTransactionId())
+                .toList());
+        verify(pricingService, times(1)).calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class));
+    }
+
+    @Test
+    void processBatch_withPricingFailures_shouldReportItemsAsFailed() {
+        // Given
+        List<TicketTransactionRequest> requests = List.of(
+                request(1L, CustomerRequest.builder().name("Adult").age(30).build()),
+                request(2L, CustomerRequest.builder().name("Senior").age(70).build())
+        );
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class)))
+                .thenThrow(new PricingException("Pricing server did not answer"))
+                .thenThrow(new IllegalStateException("Unexpected"));
+
+        // When
+        TicketTransactionBatchResponse response = ticketBatchProcessingService.processBatch(requests);
+
+        // Then
+        assertEquals(0, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertEquals(TransactionBatchItemStatus.FAILED, response.getResults().get(0).getStatus());
+        assertEquals("Pricing server did not answer", response.getResults().get(0).getErrors().get("message"));
+        assertEquals(TransactionBatchItemStatus.FAILED, response.getResults().get(1).getStatus());
+        assertEquals("An unexpected error occurred", response.getResults().get(1).getErrors().get("message"));
+    }
+
+    @Test
+    void processBatch_withRulesPublishedMidBatch_shouldPriceWholeBatchAgainstOneSnapshot() {
+        // Given
+        List<TicketTransactionRequest> requests = List.of(
+                request(1L, CustomerRequest.builder().name("Adult").age(30).build()),
+                request(2L, CustomerRequest.builder().name("Senior").age(70).build())
+        );
+        PricingSnapshot batchSnapshot = pricingSnapshotHolder.current();
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class)))
+                .thenAnswer(invocation -> {
+                    pricingSnapshotHolder.publish(new PricingConfiguration());
+                    return adultQuote(1);
+                });
+
+        // When
+        ticketBatchProcessingService.processBatch(requests);
+
+        // Then
+        verify(pricingService, times(2)).calculateTransaction(same(batchSnapshot), any(TicketCounts.class));
+    }
+
+    @Test
+    void processBatch_withUnreadableItem_shouldReportItAsInvalidAtItsIndex() {
+        // Given
+        TransactionBatch batch = TransactionBatch.builder()
+                .requests(Arrays.asList(request(1L, CustomerRequest.builder().name("Adult").age(30).build()), null))
+                .unreadableIndexes(Set.of(1))
+                .build();
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class))).thenReturn(adultQuote(1));
+
+        // When
+        TicketTransactionBatchResponse response = ticketBatchProcessingService.processBatch(batch);
+
+        // Then
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        TransactionBatchItemResult unreadable = response.getResults().get(1);
+        assertEquals(1, unreadable.getIndex());
+        assertEquals(TransactionBatchItemStatus.INVALID, unreadable.getStatus());
+        assertEquals(TicketBatchProcessingService.UNREADABLE_ITEM, unreadable.getErrors().get("message"));
+    }
+
+    @Test
+    void processBatch_withEmptyBatch_shouldThrowException() {
+        // When & Then
+        assertThrows(InvalidTransactionException.class,
+                () -> ticketBatchProcessingService.processBatch(new ArrayList<>()));
+    }
+
+    @Test
+    void processBatch_withTooManyItems_shouldThrowException() {
+        // Given
+        batchProcessingProperties.setMaxSize(1);
+        List<TicketTransactionRequest> requests = List.of(
+                request(1L, CustomerRequest.builder().name("A").age(30).build()),
+                request(2L, CustomerRequest.builder().name("B").age(30).build())
+        );
+
+        // When & Then
+        assertThrows(InvalidTransactionException.class,
+                () -> ticketBatchProcessingService.processBatch(requests));
+        verifyNoInteractions(pricingService);
+    }
+
+    private TicketTransactionRequest request(Long transactionId, CustomerRequest... customers) {
+        return TicketTransactionRequest.builder()
+                .transactionId(transactionId)
+                .customers(List.of(customers))
+                .build();
+    }
+
+    private TransactionPriceResult adultQuote(int quantity) {
+        BigDecimal totalCost = new BigDecimal("25.00").multiply(BigDecimal.valueOf(quantity));
+        return TransactionPriceResult.builder()
+                .ticketPrices(List.of(PriceCalculationResult.builder()
+                        .ticketType(TicketType.ADULT)
+                        .quantity(quantity)
+                        .totalCost(totalCost)
+                        .build()))
+                .totalCost(totalCost)
+                .build();
+    }
+}
@@ -1,12 +1,23 @@
 package com.ticketing.service;
 
+import com.ticketing.common.model.TicketCounts;
 import com.ticketing.common.model.TicketType;
+import com.ticketing.dto.request.CountedTransactionRequest;
 import com.ticketing.dto.request.CustomerRequest;
 import com.ticketing.dto.request.TicketTransactionRequest;
+import com.ticketing.dto.response.TicketSegment;
 import com.ticketing.dto.response.TicketTransactionResponse;
 import com.ticketing.exception.InvalidTransactionException;
+import com.ticketing.ingest.TalliedTransaction;
+import com.ticketing.journal.TransactionJournal;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.model.AgeBand;
 import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
 import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -27,12 +39,25 @@ class TicketProcessingServiceTest {
     @Mock
     private PricingService pricingService;
 
+    private PricingConfiguration pricingConfiguration;
+
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private TicketProcessingService ticketProcessingService;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pricingConfiguration = new PricingConfiguration();
+        pricingSnapshotHolder = new PricingSnapshotHolder(pricingConfiguration);
         ticketProcessingService = new TicketProcessingService(
-                pricingService
+                pricingService,
+                pricingSnapshotHolder,
+                TransactionJournal.DISABLED,
+                new SalesCounters(),
+                meterRegistry
         );
     }
 
@@ -49,22 +74,22 @@ class TicketProcessingServiceTest {
                 .transactionId(1234L)
                 .build();
 
-        when(pricingService.calculateTicketPrice(any(), anyMap()))
-                .thenReturn(PriceCalculationResult.builder()
-                        .finalPrice(new BigDecimal("25.00"))
-                        .build());
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class)))
+                .thenReturn(transactionPrice(ticketPrice(TicketType.ADULT, 1, "25.00")));
 
         // When
         TicketTransactionResponse result = ticketProcessingService.processTransaction(request);
 
         // Then
         assertNotNull(result);
-        verify(pricingService).calculateTicketPrice(any(), anyMap());
+        verify(pricingService).calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1))));
 
         assertNotNull(result);
         assertEquals(1234L, request.getTransactionId());
         assertEquals(new BigDecimal("25.00"), result.getTickets().getFirst().getTotalCost());
         assertEquals(new BigDecimal("25.00"), result.getTotalCost());
+        assertEquals(1, meterRegistry.get("ticketing.transactions").timer().count());
+        assertEquals(1, meterRegistry.get("ticketing.transaction.customers").summary().totalAmount());
     }
 
     @Test
@@ -131,18 +156,11 @@ class TicketProcessingServiceTest {
                 .customers(List.of(adult, child, teen))
                 .build();
 
-        when(pricingService.calculateTicketPrice(eq(TicketType.ADULT), anyMap()))
-                .thenReturn(PriceCalculationResult.builder()
-                        .finalPrice(new BigDecimal("25.00"))
-                        .build());
-        when(pricingService.calculateTicketPrice(eq(TicketType.TEEN), anyMap()))
-                .thenReturn(PriceCalculationResult.builder()
-                        .finalPrice(new BigDecimal("10.00"))
-                        .build());
-        when(pricingService.calculateTicketPrice(eq(TicketType.CHILD), anyMap()))
-                .thenReturn(PriceCalculationResult.builder()
-                        .finalPrice(new BigDecimal("5.00"))
-                        .build());
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class)))
+                .thenReturn(transactionPrice(
+                        ticketPrice(TicketType.CHILD, 1, "5.00"),
+                        ticketPrice(TicketType.TEEN, 1, "10.00"),
+                        ticketPrice(TicketType.ADULT, 1, "25.00")));
 
         // When
         TicketTransactionResponse result = ticketProcessingService.processTransaction(request);
@@ -165,8 +183,34 @@ class TicketProcessingServiceTest {
                 .findFirst()
                 .get()
                 .getTotalCost());
-        verify(pricingService, times(3)).calculateTicketPrice(any(), anyMap());
+        verify(pricingService).calculateTransaction(any(PricingSnapshot.class),
+                eq(TicketCounts.of(Map.of(TicketType.ADULT, 1, TicketType.CHILD, 1, TicketType.TEEN, 1))));
+        verify(pricingService, never()).calculateTicketPrice(any(), anyMap());
+
+    }
+
+    @Test
+    void processTransaction_withConfiguredAgeBands_shouldClassifyByThem() {
+        // Given
+        PricingConfiguration infantBands = new PricingConfiguration();
+        infantBands.setAgeBands(new ArrayList<>(List.of(
+                AgeBand.builder().ticketType(TicketType.CHILD).maxAge(2).build(),
+                AgeBand.builder().ticketType(TicketType.ADULT).build())));
+        pricingSnapshotHolder.publish(infantBands);
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(
+                        CustomerRequest.builder().name("Infant").age(2).build(),
+                        CustomerRequest.builder().name("Child").age(8).build(),
+                        CustomerRequest.builder().name("Elder").age(90).build()))
+                .build();
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class)))
+                .thenReturn(transactionPrice(ticketPrice(TicketType.CHILD, 1, "5.00"), ticketPrice(TicketType.ADULT, 2, "50.00")));
 
+        // When
+        ticketProcessingService.processTransaction(request);
+
+        // Then
+        verify(pricingService).calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.CHILD, 1, TicketType.ADULT, 2))));
     }
 
     @Test
@@ -183,10 +227,11 @@ class TicketProcessingServiceTest {
                 .transactionId(1234L)
                 .build();
 
-        when(pricingService.calculateTicketPrice(any(), anyMap()))
-                .thenReturn(PriceCalculationResult.builder()
-                        .finalPrice(new BigDecimal("25.00"))
-                        .build());
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class)))
+                .thenReturn(transactionPrice(
+                        ticketPrice(TicketType.CHILD, 1, "25.00"),
+                        ticketPrice(TicketType.ADULT, 1, "25.00"),
+                        ticketPrice(TicketType.SENIOR, 1, "25.00")));
 
         // When
         TicketTransactionResponse result = ticketProcessingService.processTransaction(request);
@@ -204,4 +249,164 @@ class TicketProcessingServiceTest {
                     "Tickets should be sorted alphabetically by type. Found " + currentType + " before " + nextType);
         }
     }
+
+    @Test
+    void processTransaction_withJournal_shouldAppendPricedTransaction() {
+        // Given
+        TransactionJournal transactionJournal = mock(TransactionJournal.class);
+        ticketProcessingService = new TicketProcessingService(
+                pricingService, new PricingSnapshotHolder(pricingConfiguration), transactionJournal, new SalesCounters(),
+                meterRegistry);
+        TransactionPriceResult transactionPrice = transactionPrice(ticketPrice(TicketType.ADULT, 1, "25.00"));
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), any(TicketCounts.class))).thenReturn(transactionPrice);
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(CustomerRequest.builder().name("Adult").age(30).build()))
+                .transactionId(77L)
+                .build();
+
+        // When
+        ticketProcessingService.processTransaction(request);
+
+        // Then
+        verify(transactionJournal).append(77L, transactionPrice);
+    }
+
+    @Test
+    void processTransaction_withInvalidAge_shouldNotJournal() {
+        // Given
+        TransactionJournal transactionJournal = mock(TransactionJournal.class);
+        ticketProcessingService = new TicketProcessingService(
+                pricingService, new PricingSnapshotHolder(pricingConfiguration), transactionJournal, new SalesCounters(),
+                meterRegistry);
+        TicketTransactionRequest request = TicketTransactionRequest.builder()
+                .customers(List.of(CustomerRequest.builder().name("Nobody").age(-1).build()))
+                .transactionId(78L)
+                .build();
+
+        // When & Then
+        assertThrows(InvalidTransactionException.class, () -> ticketProcessingService.processTransaction(request));
+        verifyNoInteractions(transactionJournal);
+    }
+
+    @Test
+    void processTalliedTransaction_shouldPriceTalliedCountsAndJournal() {
+        // Given
+        TransactionJournal transactionJournal = mock(TransactionJournal.class);
+        PricingSnapshotHolder pricingSnapshotHolder = new PricingSnapshotHolder(pricingConfiguration);
+        ticketProcessingService = new TicketProcessingService(
+                pricingService, pricingSnapshotHolder, transactionJournal, new SalesCounters(), meterRegistry);
+        PricingSnapshot classifiedWith = pricingSnapshotHolder.current();
+        pricingSnapshotHolder.publish(pricingConfiguration);
+        TicketCounts ticketCounts = TicketCounts.of(Map.of(TicketType.ADULT, 2, TicketType.CHILD, 1));
+        TransactionPriceResult transactionPrice = transactionPrice(
+                ticketPrice(TicketType.ADULT, 2, "50.00"), ticketPrice(TicketType.CHILD, 1, "5.00"));
+        when(pricingService.calculateTransaction(same(classifiedWith), eq(ticketCounts))).thenReturn(transactionPrice);
+        TalliedTransaction transaction = TalliedTransaction.builder()
+                .transactionId(79L)
+                .customerCount(3)
+                .ticketCounts(ticketCounts)
+                .snapshot(classifiedWith)
+                .build();
+
+        // When
+        TicketTransactionResponse result = ticketProcessingService.processTalliedTransaction(transaction);
+
+        // Then
+        assertEquals(79L, result.getTransactionId());
+        assertEquals(new BigDecimal("55.00"), result.getTotalCost());
+        assertEquals(List.of(TicketType.ADULT, TicketType.CHILD),
+                result.getTickets().stream().map(TicketSegment::getTicketType).toList());
+        verify(transactionJournal).append(79L, transactionPrice);
+        assertEquals(3.0, meterRegistry.get("ticketing.transaction.customers").summary().totalAmount());
+    }
+
+    @Test
+    void processCountedTransaction_withTicketCounts_shouldPriceCounts() {
+        // Given
+        CountedTransactionRequest request = CountedTransactionRequest.builder()
+                .transactionId(80L)
+                .ticketCounts(Map.of(TicketType.ADULT, 3, TicketType.CHILD, 2, TicketType.TEEN, 0))
+                .build();
+        when(pricingService.calculateTransaction(TicketCounts.of(Map.of(TicketType.ADULT, 3, TicketType.CHILD, 2))))
+                .thenReturn(transactionPrice(ticketPrice(TicketType.ADULT, 3, "75.00"), ticketPrice(TicketType.CHILD, 2, "10.00")));
+
+        // When
+        TicketTransactionResponse result = ticketProcessingService.processCountedTransaction(request);
+
+        // Then
+        assertEquals(80L, result.getTransactionId());
+        assertEquals(new BigDecimal("85.00"), result.getTotalCost());
+        assertEquals(List.of(TicketType.ADULT, TicketType.CHILD),
+                result.getTickets().stream().map(TicketSegment::getTicketType).toList());
+        assertEquals(5.0, meterRegistry.get("ticketing.transaction.customers").summary().totalAmount());
+    }
+
+    @Test
+    void processCountedTransaction_withCustomersByAge_shouldPriceThroughAgeBands() {
+        // Given
+        Map<Integer, Integer> customersByAge = Map.of(35, 2, 8, 1);
+        CountedTransactionRequest request = CountedTransactionRequest.builder()
+                .transactionId(81L)
+                .customersByAge(customersByAge)
+                .build();
+        when(pricingService.calculateTransactionByAge(customersByAge))
+                .thenReturn(transactionPrice(ticketPrice(TicketType.ADULT, 2, "50.00"), ticketPrice(TicketType.CHILD, 1, "5.00")));
+
+        // When
+        TicketTransactionResponse result = ticketProcessingService.processCountedTransaction(request);
+
+        // Then
+        assertEquals(new BigDecimal("55.00"), result.getTotalCost());
+        verify(pricingService, never()).calculateTransaction(any(TicketCounts.class));
+        assertEquals(3.0, meterRegistry.get("ticketing.transaction.customers").summary().totalAmount());
+    }
+
+    @Test
+    void processCountedTransaction_withInvalidCounts_shouldThrowException() {
+        // Given
+        CountedTransactionRequest both = CountedTransactionRequest.builder()
+                .transactionId(82L)
+                .ticketCounts(Map.of(TicketType.ADULT, 1))
+                .customersByAge(Map.of(30, 1))
+                .build();
+        CountedTransactionRequest neither = CountedTransactionRequest.builder().transactionId(82L).build();
+        CountedTransactionRequest empty = CountedTransactionRequest.builder()
+                .transactionId(82L)
+                .ticketCounts(Map.of(TicketType.ADULT, 0))
+                .build();
+        CountedTransactionRequest negativeAge = CountedTransactionRequest.builder()
+                .transactionId(82L)
+                .customersByAge(Map.of(-1, 1))
+                .build();
+        CountedTransactionRequest overflowing = CountedTransactionRequest.builder()
+                .transactionId(82L)
+                .ticketCounts(Map.of(TicketType.ADULT, Integer.MAX_VALUE, TicketType.CHILD, 1))
+                .build();
+
+        // When & Then
+        for (CountedTransactionRequest request : List.of(both, neither, empty, negativeAge, overflowing)) {
+            assertThrows(InvalidTransactionException.class, () -> ticketProcessingService.processCountedTransaction(request));
+        }
+        verifyNoInteractions(pricingService);
+    }
+
+    private PriceCalculationResult ticketPrice(TicketType ticketType, int quantity, String totalCost) {
+        return PriceCalculationResult.builder()
+                .ticketType(ticketType)
+                .quantity(quantity)
+                .totalCost(new BigDecimal(totalCost))
+                .totalCostMinor(new BigDecimal(totalCost).movePointRight(2).longValueExact())
+                .build();
+    }
+
+    private TransactionPriceResult transactionPrice(PriceCalculationResult... ticketPrices) {
+        BigDecimal totalCost = BigDecimal.ZERO.setScale(2);
+        for (PriceCalculationResult ticketPrice : ticketPrices) {
+            totalCost = totalCost.add(ticketPrice.getTotalCost());
+        }
+        return TransactionPriceResult.builder()
+                .ticketPrices(List.of(ticketPrices))
+                .totalCost(totalCost)
+                .build();
+    }
 }
@@ -0,0 +1,212 @@
+package com.ticketing.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.common.model.TicketCounts;
+import com.ticketing.common.model.TicketType;
+import com.ticketing.config.BatchProcessingProperties;
+import com.ticketing.config.ErrorLogProperties;
+import com.ticketing.config.StreamProcessingProperties;
+import com.ticketing.journal.TransactionJournal;
+import com.ticketing.pricing.config.PricingConfiguration;
+import com.ticketing.pricing.model.PriceCalculationResult;
+import com.ticketing.pricing.model.TransactionPriceResult;
+import com.ticketing.pricing.service.PricingService;
+import com.ticketing.pricing.service.PricingSnapshot;
+import com.ticketing.pricing.service.PricingSnapshotHolder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketStreamProcessingServiceTest {
+
+    private static final String ADULT_LINE = "{\"transactionId\":%d,\"customers\":[{\"name\":\"Adult\",\"age\":30}]}";
+
+    @Mock
+    private PricingService pricingService;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ValidatorFactory validatorFactory;
+
+    private StreamProcessingProperties streamProcessingProperties;
+
+    private TicketStreamProcessingService ticketStreamProcessingService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        streamProcessingProperties = new StreamProcessingProperties();
+        PricingSnapshotHolder pricingSnapshotHolder = new PricingSnapshotHolder(new PricingConfiguration());
+        TicketBatchProcessingService ticketBatchProcessingService = new TicketBatchProcessingService(
+                new TicketProcessingService(pricingService, pricingSnapshotHolder, TransactionJournal.DISABLED,
+                        new SalesCounters(), new SimpleMeterRegistry()),
+                pricingService,
+                pricingSnapshotHolder,
+                validatorFactory.getValidator(),
+                new BatchProcessingProperties(),
+                new ErrorLogProperties()
+        );
+        ticketStreamProcessingService = new TicketStreamProcessingService(
+                ticketBatchProcessingService, streamProcessingProperties, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void processStream_withValidLines_shouldWriteOneResultPerLineInOrder() throws IOException {
+        // Given
+        String input = ADULT_LINE.formatted(1) + "\n" + ADULT_LINE.formatted(2) + "\n";
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1))))).thenReturn(adultQuote());
+
+        // When
+        List<JsonNode> results = new ArrayList<>();
+        long processed = process(input, results);
+
+        // Then
+        assertEquals(2, processed);
+        assertEquals(2, results.size());
+        assertEquals(1, results.get(0).get("transactionId").asLong());
+        assertEquals("SUCCESS", results.get(0).get("status").asText());
+        assertEquals(0, new BigDecimal("25.00").compareTo(results.get(0).get("response").get("totalCost").decimalValue()));
+        assertEquals(2, results.get(1).get("transactionId").asLong());
+        assertEquals(1, results.get(1).get("index").asInt());
+    }
+
+    @Test
+    void processStream_withInvalidAndMalformedLines_shouldReportThemAndContinue() throws IOException {
+        // Given
+        String input = "{\"transactionId\":1,\"customers\":[{\"name\":\"\",\"age\":30}]}\n"
+                + "{not json\n"
+                + ADULT_LINE.formatted(3);
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1))))).thenReturn(adultQuote());
+
+        // When
+        List<JsonNode> results = new ArrayList<>();
+        process(input, results);
+
+        // Then
+        assertEquals(3, results.size());
+        assertEquals("INVALID", results.get(0).get("status").asText());
+        assertEquals("Name cannot be blank", results.get(0).get("errors").get("customers[0].name").asText());
+        assertEquals("INVALID", results.get(1).get("status").asText());
+        assertEquals(TicketBatchProcessingService.UNREADABLE_ITEM, results.get(1).get("errors").get("message").asText());
+        assertEquals("SUCCESS", results.get(2).get("status").asText());
+    }
+
+    @Test
+    void processStream_withBlankLines_shouldSkipThem() throws IOException {
+        // Given
+        String input = "\n  \r\n" + ADULT_LINE.formatted(1) + "\r\n\n";
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1))))).thenReturn(adultQuote());
+
+        // When
+        List<JsonNode> results = new ArrayList<>();
+        long processed = process(input, results);
+
+        // Then
+        assertEquals(1, processed);
+        assertEquals(0, results.get(0).get("index").asInt());
+    }
+
+    @Test
+    void processStream_withLineTooLong_shouldRejectOnlyThatLine() throws IOException {
+        // Given
+        streamProcessingProperties.setMaxLineLength(80);
+        String input = "{\"transactionId\":1,\"customers\":[" + "{\"name\":\"Adult\",\"age\":30},".repeat(10) + "]}\n"
+                + ADULT_LINE.formatted(2) + "\n";
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1))))).thenReturn(adultQuote());
+
+        // When
+        List<JsonNode> results = new ArrayList<>();
+        process(input, results);
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals("INVALID", results.get(0).get("status").asText());
+        assertEquals("Line exceeds maximum length of 80 characters", results.get(0).get("errors").get("message").asText());
+        assertEquals("SUCCESS", results.get(1).get("status").asText());
+        assertEquals(2, results.get(1).get("transactionId").asLong());
+    }
+
+    @Test
+    void processStream_withLinesSpanningReadBuffers_shouldReadEachLineWhole() throws IOException {
+        // Given
+        StringBuilder input = new StringBuilder(ADULT_LINE.formatted(1).replace(",", "," + " ".repeat(20_000)));
+        for (int i = 2; i <= 1_000; i++) {
+            input.append('\n').append(ADULT_LINE.formatted(i));
+        }
+        when(pricingService.calculateTransaction(any(PricingSnapshot.class), eq(TicketCounts.of(Map.of(TicketType.ADULT, 1))))).thenReturn(adultQuote());
+
+        // When
+        List<JsonNode> results = new ArrayList<>();
+        long processed = process(input.toString(), results);
+
+        // Then
+        assertEquals(1_000, processed);
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("SUCCESS", results.get(i).get("status").asText());
+            assertEquals(i + 1, results.get(i).get("transactionId").asLong());
+        }
+    }
+
+    @Test
+    void processStream_withEmptyInput_shouldWriteNothing() throws IOException {
+        // When
+        List<JsonNode> results = new ArrayList<>();
+        long processed = process("", results);
+
+        // Then
+        assertEquals(0, processed);
+        assertTrue(results.isEmpty());
+        verifyNoInteractions(pricingService);
+    }
+
+    private long process(String input, List<JsonNode> results) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long processed = ticketStreamProcessingService.processStream(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                results.add(objectMapper.readTree(line));
+            }
+        }
+        return processed;
+    }
+
+    private TransactionPriceResult adultQuote() {
+        BigDecimal totalCost = new BigDecimal("25.00");
+        return TransactionPriceResult.builder()
+                .ticketPrices(List.of(PriceCalculationResult.builder()
+                        .ticketType(TicketType.ADULT)
+                        .quantity(1)
+                        .totalCost(totalCost)
+                        .build()))
+                .totalCost(totalCost)
+                .build();
+    }
+}